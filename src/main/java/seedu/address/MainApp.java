@@ -7,6 +7,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -25,12 +26,14 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.CommandHistoryStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonCommandHistoryStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorageManager;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -59,14 +62,18 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = config.isJournal()
+                ? new JournalAddressBookStorage(userPrefs.getAddressBookFilePath(), config.isCompactJson())
+                : new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), config.isCompactJson());
         CommandHistoryStorage commandHistoryStorage =
                 new JsonCommandHistoryStorage(Paths.get("data", "commandhistory.json"));
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        storage = config.isWriteBehind()
+                ? new WriteBehindStorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage)
+                : new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Platform::runLater);
 
         ui = new UiManager(logic);
     }
@@ -186,5 +193,11 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            // the window saved the data before closing, or the user chose to close it without saving
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -17,6 +17,12 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    // whether data is saved on a background thread rather than before each command returns
+    private boolean writeBehind = true;
+    // whether each save appends the changes to a journal rather than writing the whole data file again
+    private boolean journal = true;
+    // whether the data file is written on a single line, which is smaller but harder to read and edit than indented
+    private boolean compactJson = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +40,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
+    public boolean isJournal() {
+        return journal;
+    }
+
+    public void setJournal(boolean journal) {
+        this.journal = journal;
+    }
+
+    public boolean isCompactJson() {
+        return compactJson;
+    }
+
+    public void setCompactJson(boolean compactJson) {
+        this.compactJson = compactJson;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +77,15 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && writeBehind == otherConfig.writeBehind
+                && journal == otherConfig.journal
+                && compactJson == otherConfig.compactJson;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, writeBehind, journal, compactJson);
     }
 
     @Override
@@ -60,6 +93,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("writeBehind", writeBehind)
+                .add("journal", journal)
+                .add("compactJson", compactJson)
                 .toString();
     }
 
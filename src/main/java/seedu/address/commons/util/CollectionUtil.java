@@ -2,9 +2,14 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -12,6 +17,9 @@ import java.util.stream.Stream;
  */
 public class CollectionUtil {
 
+    // Fewest elements a parallel filter hands to one task, below which splitting costs more than it saves.
+    private static final int MIN_ELEMENTS_PER_TASK = 1024;
+
     /** @see #requireAllNonNull(Collection) */
     public static void requireAllNonNull(Object... items) {
         requireNonNull(items);
@@ -32,4 +40,74 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the elements of {@code list} that satisfy {@code predicate}, in their original order.
+     * If {@code list} has at least {@code parallelThreshold} elements, it is split into ranges that are tested in
+     * parallel on the common {@code ForkJoinPool}, so {@code predicate} must then be safe to call from several threads.
+     */
+    public static <T> List<T> filter(List<T> list, Predicate<? super T> predicate, int parallelThreshold) {
+        requireAllNonNull(list, predicate);
+        if (list.size() < parallelThreshold) {
+            List<T> matches = new ArrayList<>();
+            for (T element : list) {
+                if (predicate.test(element)) {
+                    matches.add(element);
+                }
+            }
+            return matches;
+        }
+
+        @SuppressWarnings("unchecked")
+        T[] elements = (T[]) list.toArray();
+        boolean[] isMatch = new boolean[elements.length];
+        int elementsPerTask = Math.max(MIN_ELEMENTS_PER_TASK,
+                elements.length / (ForkJoinPool.getCommonPoolParallelism() * 4));
+        ForkJoinPool.commonPool().invoke(new FilterTask<>(elements, isMatch, predicate, 0, elements.length,
+                elementsPerTask));
+
+        // gathered in one sequential pass, so that the matches keep their order
+        List<T> matches = new ArrayList<>();
+        for (int i = 0; i < elements.length; i++) {
+            if (isMatch[i]) {
+                matches.add(elements[i]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Tests a range of elements, splitting it in halves until each part is small enough to test directly.
+     */
+    private static class FilterTask<T> extends RecursiveAction {
+        private final T[] elements;
+        private final boolean[] isMatch;
+        private final Predicate<? super T> predicate;
+        private final int from;
+        private final int to;
+        private final int elementsPerTask;
+
+        FilterTask(T[] elements, boolean[] isMatch, Predicate<? super T> predicate, int from, int to,
+                int elementsPerTask) {
+            this.elements = elements;
+            this.isMatch = isMatch;
+            this.predicate = predicate;
+            this.from = from;
+            this.to = to;
+            this.elementsPerTask = elementsPerTask;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= elementsPerTask) {
+                for (int i = from; i < to; i++) {
+                    isMatch[i] = predicate.test(elements[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new FilterTask<>(elements, isMatch, predicate, from, middle, elementsPerTask),
+                    new FilterTask<>(elements, isMatch, predicate, middle, to, elementsPerTask));
+        }
+    }
 }
@@ -3,14 +3,20 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -39,8 +45,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    private static final String TEMP_SUFFIX = ".tmp";
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        writeJsonFile(jsonFile, false, generator -> generator.writeObject(objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -92,6 +100,57 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Writes the JSON that {@code content} gives to a generator to the specified file, without holding the whole
+     * document in memory. Objects written with {@link JsonGenerator#writeObject} are converted as by
+     * {@link #saveJsonFile}.
+     * The JSON is written to a temporary file beside the specified one, which is moved over it once complete, so that
+     * a failure or crash part way leaves the existing file as it was.
+     * @param filePath cannot be null
+     * @param isCompact whether the JSON is written on a single line with no whitespace between values, rather than
+     *     indented
+     * @param content cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void writeJsonFile(Path filePath, boolean isCompact, JsonContent content) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(content);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_SUFFIX);
+        try {
+            // the generator keeps its own buffer, which it writes to the file whenever it fills
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                    JsonGenerator generator = objectMapper.getFactory()
+                            .createGenerator(Channels.newOutputStream(channel))) {
+                content.writeTo(isCompact ? generator : generator.useDefaultPrettyPrinter());
+                generator.flush();
+                channel.force(true);
+            }
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(tempPath);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a parser that reads JSON from the specified file as it is needed, without reading the whole file into
+     * memory. Objects read with {@link JsonParser#readValueAs} are converted as by {@link #readJsonFile}.
+     * @param filePath cannot be null
+     * @throws IOException if the file cannot be opened for reading
+     */
+    public static JsonParser createJsonFileParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +170,25 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line, with no
+     * whitespace between values.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Writes the content of a JSON file to a generator.
+     */
+    @FunctionalInterface
+    public interface JsonContent {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
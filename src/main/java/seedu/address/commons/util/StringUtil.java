@@ -5,7 +5,6 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
@@ -29,13 +28,115 @@ public class StringUtil {
 
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(indexOfWhitespace(preppedWord, 0) == -1, "Word parameter should be a single word");
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        // scans the sentence in place rather than splitting it, so that no substrings are allocated
+        int wordLength = preppedWord.length();
+        int start = 0;
+        while (start < sentence.length()) {
+            int end = indexOfWhitespace(sentence, start);
+            if (end == -1) {
+                end = sentence.length();
+            }
+            if (end - start == wordLength && sentence.regionMatches(true, start, preppedWord, 0, wordLength)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first whitespace character in {@code s} at or after {@code fromIndex}, or -1 if there
+     * is none. Whitespace is as matched by the regex {@code \\s}.
+     */
+    private static int indexOfWhitespace(String s, int fromIndex) {
+        for (int i = fromIndex; i < s.length(); i++) {
+            switch (s.charAt(i)) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\u000B':
+            case '\f':
+            case '\r':
+                return i;
+            default:
+                break;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns {@code s} with every character mapped to a canonical case, such that for any two strings {@code a} and
+     * {@code b}, {@code a.equalsIgnoreCase(b)} holds exactly when {@code foldCase(a).equals(foldCase(b))}.
+     * This lets case-insensitive matches be answered with hash lookups.
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            // the same per-character mapping that String#equalsIgnoreCase compares with
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns the whitespace-separated words of {@code sentence}, as compared by
+     * {@link #containsWordIgnoreCase(String, String)}. Empty words are left out.
+     */
+    public static String[] splitWords(String sentence) {
+        requireNonNull(sentence);
+        String trimmed = sentence.trim();
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code a} and {@code b} if it is at most {@code maxDistance}, or
+     * {@code maxDistance + 1} otherwise. Characters are compared exactly.
+     * Only the cells within {@code maxDistance} of the diagonal are computed, and the computation stops as soon as
+     * every path exceeds {@code maxDistance}, so a failed comparison is usually cheap.
+     */
+    public static int editDistanceWithin(String a, String b, int maxDistance) {
+        requireNonNull(a);
+        requireNonNull(b);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        int tooFar = maxDistance + 1;
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return tooFar;
+        }
+
+        int[] previousRow = new int[b.length() + 1];
+        int[] currentRow = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previousRow[j] = Math.min(j, tooFar);
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(b.length(), i + maxDistance);
+            currentRow[from - 1] = from == 1 ? Math.min(i, tooFar) : tooFar;
+            int rowMinimum = currentRow[from - 1];
+            for (int j = from; j <= to; j++) {
+                int substitution = previousRow[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                int deletion = previousRow[j] + 1;
+                int insertion = currentRow[j - 1] + 1;
+                currentRow[j] = Math.min(Math.min(substitution, deletion), Math.min(insertion, tooFar));
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (to < b.length()) {
+                // the next row reads this cell as lying outside the band
+                currentRow[to + 1] = tooFar;
+            }
+            if (rowMinimum > maxDistance) {
+                return tooFar;
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[b.length()];
     }
 
     /**
@@ -0,0 +1,271 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.AllOfPredicate;
+import seedu.address.model.search.RankedPredicate;
+
+/**
+ * Filters the person list of a {@code Model} while the user is still typing a {@code find} command.
+ * Each predicate is evaluated after a short debounce on a background thread, against a snapshot of the persons, and
+ * the result is then shown through the UI executor. A newer predicate cancels the evaluation of an older one.
+ * Recent results are kept, so a predicate that only adds conditions to an earlier one is evaluated against the
+ * persons that matched the earlier one rather than against every person.
+ * A filter with a limit shows only the first persons that match, as a {@code find} command with that limit does.
+ * Cancelling the filter shows the person list again as it was filtered before the first result was shown.
+ *
+ * The public methods must be called on the thread that the UI executor runs tasks on.
+ */
+public class LiveFilter {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 150;
+
+    private static final int MAX_RECENT_RESULTS = 8;
+
+    // Number of persons tested between checks for cancellation.
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private final Model model;
+    private final Executor uiExecutor;
+    private final long debounceMillis;
+    private final ScheduledExecutorService evaluator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-filter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Accessed on the UI thread only.
+    private List<Person> snapshot;
+    private int snapshotVersion;
+    private long generation;
+    private Future<?> pendingEvaluation;
+    // shows the person list as it was filtered before the first result was shown, while a result is shown
+    private Runnable filterBeforePreview;
+    // the predicate and limit of the result shown, while a result is shown
+    private Predicate<Person> shownPredicate;
+    private int shownLimit;
+
+    // Accessed on the evaluator thread only. Results are for the persons of evaluatedVersion, the latest last.
+    private final Deque<Result> recentResults = new ArrayDeque<>();
+    private Set<Person> evaluatedPersons;
+    private int evaluatedVersion = -1;
+
+    /**
+     * Creates a {@code LiveFilter} that filters the person list of {@code model} and shows results by running them on
+     * {@code uiExecutor}, after waiting {@code debounceMillis} for a newer predicate.
+     */
+    public LiveFilter(Model model, Executor uiExecutor, long debounceMillis) {
+        requireNonNull(model);
+        requireNonNull(uiExecutor);
+        this.model = model;
+        this.uiExecutor = uiExecutor;
+        this.debounceMillis = debounceMillis;
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> {
+            snapshot = null;
+            snapshotVersion++;
+        });
+    }
+
+    /**
+     * Starts filtering the person list by {@code predicate}, cancelling any earlier filter that has not been shown.
+     */
+    public void filter(Predicate<Person> predicate) {
+        filter(predicate, FindCommand.NO_LIMIT);
+    }
+
+    /**
+     * Starts filtering the person list to the first {@code limit} persons that match {@code predicate}, or to every
+     * person that matches if {@code limit} is {@link FindCommand#NO_LIMIT}, cancelling any earlier filter that has
+     * not been shown.
+     */
+    public void filter(Predicate<Person> predicate, int limit) {
+        requireNonNull(predicate);
+        cancelEvaluation();
+
+        if (snapshot == null) {
+            snapshot = List.copyOf(model.getAddressBook().getPersonList());
+        }
+        List<Person> persons = snapshot;
+        int version = snapshotVersion;
+        long filterGeneration = generation;
+        pendingEvaluation = evaluator.schedule(() -> evaluate(predicate, limit, persons, version, filterGeneration),
+                debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels the filter that is being evaluated, if any, so that it is not shown, and filters the person list again
+     * as it was filtered before any result was shown.
+     */
+    public void cancel() {
+        cancelEvaluation();
+        if (filterBeforePreview != null) {
+            filterBeforePreview.run();
+            filterBeforePreview = null;
+        }
+        shownPredicate = null;
+    }
+
+    /**
+     * Cancels the filter that is being evaluated, if any, and leaves the person list filtered as it is shown, for
+     * when it is about to be filtered again anyway.
+     */
+    public void keep() {
+        cancelEvaluation();
+        filterBeforePreview = null;
+        shownPredicate = null;
+    }
+
+    /**
+     * Returns true if the person list is shown filtered by the result of filtering it by {@code predicate} with
+     * {@code limit}.
+     */
+    public boolean isShowing(Predicate<Person> predicate, int limit) {
+        return predicate.equals(shownPredicate) && limit == shownLimit;
+    }
+
+    private void cancelEvaluation() {
+        // also drops a result that has been evaluated but is still waiting on the UI executor
+        generation++;
+        if (pendingEvaluation != null) {
+            pendingEvaluation.cancel(true);
+            pendingEvaluation = null;
+        }
+    }
+
+    private void evaluate(Predicate<Person> predicate, int limit, List<Person> persons, int version,
+            long filterGeneration) {
+        if (version != evaluatedVersion) {
+            recentResults.clear();
+            evaluatedPersons = null;
+            evaluatedVersion = version;
+        }
+
+        List<Predicate<Person>> conditions = conditionsOf(predicate);
+        List<Person> candidates = persons;
+        List<Predicate<Person>> uncheckedConditions = conditions;
+        for (Result result : recentResults) {
+            if (conditions.containsAll(result.conditions) && result.matches.size() <= candidates.size()) {
+                candidates = result.matches;
+                uncheckedConditions = new ArrayList<>(conditions);
+                uncheckedConditions.removeAll(result.conditions);
+            }
+        }
+
+        List<Person> matches = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && Thread.interrupted()) {
+                return;
+            }
+            Person person = candidates.get(i);
+            if (uncheckedConditions.stream().allMatch(condition -> condition.test(person))) {
+                matches.add(person);
+            }
+        }
+
+        if (recentResults.size() == MAX_RECENT_RESULTS) {
+            recentResults.removeFirst();
+        }
+        recentResults.addLast(new Result(conditions, matches));
+        if (evaluatedPersons == null) {
+            evaluatedPersons = identitySetOf(persons);
+        }
+        // the matches are in the order of the persons, so the first of them are the ones a limited search finds
+        List<Person> shownMatches = limit == FindCommand.NO_LIMIT || matches.size() <= limit
+                ? matches
+                : matches.subList(0, limit);
+        Predicate<Person> resultPredicate =
+                new ResultPredicate(predicate, evaluatedPersons, identitySetOf(shownMatches));
+        uiExecutor.execute(() -> show(predicate, limit, resultPredicate, filterGeneration));
+    }
+
+    private void show(Predicate<Person> predicate, int limit, Predicate<Person> resultPredicate,
+            long filterGeneration) {
+        if (filterGeneration != generation) {
+            return;
+        }
+        pendingEvaluation = null;
+        if (filterBeforePreview == null) {
+            filterBeforePreview = model.saveFilteredPersonListFilter();
+        }
+        model.updateFilteredPersonList(resultPredicate);
+        shownPredicate = predicate;
+        shownLimit = limit;
+    }
+
+    /**
+     * Returns the conditions that {@code predicate} requires all of.
+     */
+    private static List<Predicate<Person>> conditionsOf(Predicate<Person> predicate) {
+        return predicate instanceof AllOfPredicate
+                ? ((AllOfPredicate) predicate).getPredicates()
+                : List.of(predicate);
+    }
+
+    private static Set<Person> identitySetOf(Collection<Person> persons) {
+        Set<Person> set = Collections.newSetFromMap(new IdentityHashMap<>(persons.size()));
+        set.addAll(persons);
+        return set;
+    }
+
+    /**
+     * The persons that matched all of some conditions.
+     */
+    private static class Result {
+        private final List<Predicate<Person>> conditions;
+        private final List<Person> matches;
+
+        Result(List<Predicate<Person>> conditions, List<Person> matches) {
+            this.conditions = conditions;
+            this.matches = matches;
+        }
+    }
+
+    /**
+     * Tests persons against an evaluated result. Persons that were not part of the evaluation, such as persons edited
+     * since, are tested against the predicate itself. Persons are ranked as the predicate ranks them.
+     */
+    private static class ResultPredicate implements RankedPredicate {
+        private final Predicate<Person> predicate;
+        private final Set<Person> evaluatedPersons;
+        private final Set<Person> matches;
+
+        ResultPredicate(Predicate<Person> predicate, Set<Person> evaluatedPersons, Set<Person> matches) {
+            this.predicate = predicate;
+            this.evaluatedPersons = evaluatedPersons;
+            this.matches = matches;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return evaluatedPersons.contains(person) ? matches.contains(person) : predicate.test(person);
+        }
+
+        @Override
+        public Optional<Comparator<Person>> getRanking() {
+            return predicate instanceof RankedPredicate
+                    ? ((RankedPredicate) predicate).getRanking()
+                    : Optional.empty();
+        }
+    }
+}
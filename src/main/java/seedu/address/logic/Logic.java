@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +25,26 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Previews {@code commandText} as it is being typed. If it is a valid {@code find} command, the filtered list is
+     * updated to its result in the background; any other text cancels the preview, and the filtered list is filtered
+     * again as it was before the preview was shown.
+     * @param commandText The command typed by the user so far.
+     */
+    void previewCommand(String commandText);
+
+    /**
+     * Saves the data that changed since it was last saved, and waits until all the data saved has been written.
+     * @throws CommandException If the data could not be saved.
+     */
+    void saveAll() throws CommandException;
+
+    /**
+     * Sets {@code listener} to be given the message of each save that fails after the command that requested it has
+     * returned. The listener is called on the thread that commands are executed on.
+     */
+    void setSaveFailureListener(Consumer<String> listener);
+
     /**
      * Returns the AddressBook.
      *
@@ -5,7 +5,10 @@ import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -27,12 +30,17 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListAliasesCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MoreCommand;
+import seedu.address.logic.commands.SaveViewCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.UnaliasCommand;
 import seedu.address.logic.commands.UnfavCommand;
+import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.AliasProvider;
+import seedu.address.logic.parser.SaveViewCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.CommandHistory;
 import seedu.address.model.Model;
@@ -55,6 +63,10 @@ public class LogicManager implements Logic {
         DeleteCommand.COMMAND_WORD,
         ClearCommand.COMMAND_WORD,
         FindCommand.COMMAND_WORD,
+        SearchCommand.COMMAND_WORD,
+        SaveViewCommand.COMMAND_WORD,
+        ViewCommand.COMMAND_WORD,
+        MoreCommand.COMMAND_WORD,
         ListCommand.COMMAND_WORD,
         ExitCommand.COMMAND_WORD,
         HelpCommand.COMMAND_WORD,
@@ -68,20 +80,43 @@ public class LogicManager implements Logic {
         UnfavCommand.COMMAND_WORD
     };
 
+    // a saved version that no data has, so that the data is saved at the next command
+    private static final long UNSAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
     private final CommandHistory commandHistory;
+    private final LiveFilter liveFilter;
+    private Consumer<String> saveFailureListener;
+
+    // the versions of the data as last saved, so that data that has not changed since is not saved again
+    private long savedAddressBookVersion;
+    private long savedCommandHistoryVersion;
+    private long savedUserPrefsVersion;
 
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, for use without a UI such as
+     * in tests. Previews of {@code find} commands are shown on the thread that evaluates them rather than on the
+     * thread that calls this {@code LogicManager}, so {@link #previewCommand(String)} must not be used with a model
+     * whose filtered person list is shown in a UI.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which shows previews of
+     * {@code find} commands by running them on {@code uiExecutor}.
+     */
+    public LogicManager(Model model, Storage storage, Executor uiExecutor) {
         this.model = model;
         this.storage = storage;
+        this.liveFilter = new LiveFilter(model, uiExecutor, LiveFilter.DEFAULT_DEBOUNCE_MILLIS);
+        storage.setSaveFailureHandler(failure -> uiExecutor.execute(() -> handleSaveFailure(failure)));
 
         // Pass the model as an AliasProvider to the parser
         addressBookParser = new AddressBookParser((AliasProvider) model);
@@ -96,6 +131,29 @@ public class LogicManager implements Logic {
             loadedHistory = new CommandHistory();
         }
         this.commandHistory = loadedHistory;
+
+        restoreSavedViews();
+
+        // the address book may be sample data rather than what storage has, so it is saved at the first command
+        savedAddressBookVersion = UNSAVED;
+        savedCommandHistoryVersion = commandHistory.getVersion();
+        savedUserPrefsVersion = model.getUserPrefs().getVersion();
+    }
+
+    /**
+     * Saves the views in the user prefs to the model, which keeps their persons up to date from then on.
+     * The prefs only keep the find arguments of each view, so these are parsed again. A view whose arguments are no
+     * longer valid is skipped.
+     */
+    private void restoreSavedViews() {
+        for (Map.Entry<String, String> view : model.getUserPrefs().getSavedViews().entrySet()) {
+            try {
+                model.addSavedView(view.getKey(), view.getValue(),
+                        SaveViewCommandParser.parseQuery(view.getValue()));
+            } catch (ParseException e) {
+                logger.warning("Saved view " + view.getKey() + " could not be restored: " + e.getMessage());
+            }
+        }
     }
 
     @Override
@@ -104,28 +162,134 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
 
-        Command command = addressBookParser.parseCommand(commandText);
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException e) {
+            liveFilter.cancel();
+            throw e;
+        }
+        command = stopPreview(command);
         commandResult = command.execute(model);
 
         commandHistory.addCommand(commandText);
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveCommandHistory(commandHistory.getHistory());
+            saveChangedData();
 
-            if (command instanceof AliasCommand || command instanceof UnaliasCommand) {
-                storage.saveUserPrefs(model.getUserPrefs());
+            if (commandResult.isExit()) {
+                // the app stops once the command returns, so any failure must be reported now
+                storage.flush();
             }
 
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw saveFailed(ioe);
         }
 
         return commandResult;
     }
 
+    /**
+     * Stops the preview of a {@code find} command, if any, before {@code command} is executed, and returns the command
+     * to execute in its place.
+     * A {@code FindCommand} filters the person list again, so the filter from before the preview is not restored for
+     * it. If the preview already shows the persons that the command finds, the command lists those instead.
+     */
+    private Command stopPreview(Command command) {
+        if (!(command instanceof FindCommand)) {
+            liveFilter.cancel();
+            return command;
+        }
+
+        FindCommand findCommand = (FindCommand) command;
+        boolean isPreviewed = findCommand.getLimit() == FindCommand.NO_LIMIT
+                && liveFilter.isShowing(findCommand.getPredicate(), findCommand.getLimit());
+        liveFilter.keep();
+        return isPreviewed ? findCommand.withPersonsShown() : findCommand;
+    }
+
+    @Override
+    public void saveAll() throws CommandException {
+        try {
+            saveChangedData();
+            storage.flush();
+        } catch (IOException ioe) {
+            throw saveFailed(ioe);
+        }
+    }
+
+    @Override
+    public void setSaveFailureListener(Consumer<String> listener) {
+        saveFailureListener = listener;
+    }
+
+    /**
+     * Returns the {@code CommandException} that reports {@code ioe}, a failure to save data.
+     */
+    private CommandException saveFailed(IOException ioe) {
+        // the failure may be of a save requested by an earlier command, so all the data is saved at the next one
+        savedAddressBookVersion = UNSAVED;
+        savedCommandHistoryVersion = UNSAVED;
+        savedUserPrefsVersion = UNSAVED;
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    }
+
+    /**
+     * Reports {@code failure}, a save that failed in the background, to the save failure listener as soon as it
+     * happens rather than with the next command that saves.
+     */
+    private void handleSaveFailure(IOException failure) {
+        String message = saveFailed(failure).getMessage();
+        logger.warning(message);
+        if (saveFailureListener != null) {
+            saveFailureListener.accept(message);
+        }
+    }
+
+    /**
+     * Saves the address book, command history and user prefs that changed since they were last saved.
+     */
+    private void saveChangedData() throws IOException {
+        long addressBookVersion = model.getAddressBook().getVersion();
+        if (addressBookVersion != savedAddressBookVersion) {
+            storage.saveAddressBook(model.getAddressBook());
+            savedAddressBookVersion = addressBookVersion;
+        }
+
+        long commandHistoryVersion = commandHistory.getVersion();
+        if (commandHistoryVersion != savedCommandHistoryVersion) {
+            storage.saveCommandHistory(commandHistory.getHistory());
+            savedCommandHistoryVersion = commandHistoryVersion;
+        }
+
+        long userPrefsVersion = model.getUserPrefs().getVersion();
+        if (userPrefsVersion != savedUserPrefsVersion) {
+            storage.saveUserPrefs(model.getUserPrefs());
+            savedUserPrefsVersion = userPrefsVersion;
+        }
+    }
+
+    @Override
+    public void previewCommand(String commandText) {
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException e) {
+            liveFilter.cancel();
+            return;
+        }
+
+        if (command instanceof FindCommand) {
+            FindCommand findCommand = (FindCommand) command;
+            liveFilter.filter(findCommand.getPredicate(), findCommand.getLimit());
+        } else {
+            liveFilter.cancel();
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -1,11 +1,15 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.QueryPlan;
 
 /**
  * Container for user visible messages.
@@ -61,4 +65,41 @@ public class Messages {
         return builder.toString();
     }
 
+    /**
+     * Formats the {@code plan} for display to the user, one step per line.
+     */
+    public static String format(QueryPlan plan) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("Search plan for ")
+                .append(plan.getPersonCount())
+                .append(" person(s), estimated cost ")
+                .append(plan.getEstimatedCost())
+                .append(":");
+        List<QueryPlan.Step> steps = plan.getSteps();
+        for (int i = 0; i < steps.size(); i++) {
+            QueryPlan.Step step = steps.get(i);
+            builder.append("\n")
+                    .append(i + 1)
+                    .append(". ")
+                    .append(IndexedPredicate.describe(step.getPredicate()))
+                    .append(" - ")
+                    .append(step.getMethod())
+                    .append(", ~")
+                    .append(step.getEstimatedMatches())
+                    .append(" left, cost ")
+                    .append(step.getEstimatedCost());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Formats the plan of a search that stops once {@code limit} persons satisfying {@code predicate} are found, out
+     * of {@code personCount} persons, for display to the user. Such a search tests the persons one at a time in the
+     * order of the address book, so it looks nothing up in the search index.
+     */
+    public static String formatLimitedSearch(Predicate<Person> predicate, int personCount, int limit) {
+        return "Search plan for " + personCount + " person(s), stopping once " + limit + " are found:\n"
+                + "1. " + IndexedPredicate.describe(predicate) + " - test each person in address book order";
+    }
+
 }
@@ -42,6 +42,10 @@ public class AliasCommand extends Command {
             DeleteCommand.COMMAND_WORD,
             ClearCommand.COMMAND_WORD,
             FindCommand.COMMAND_WORD,
+            SearchCommand.COMMAND_WORD,
+            SaveViewCommand.COMMAND_WORD,
+            ViewCommand.COMMAND_WORD,
+            MoreCommand.COMMAND_WORD,
             ListCommand.COMMAND_WORD,
             ExitCommand.COMMAND_WORD,
             HelpCommand.COMMAND_WORD,
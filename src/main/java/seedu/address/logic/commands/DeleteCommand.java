@@ -5,7 +5,6 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -13,6 +12,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.AllOfPredicate;
 
 /**
  * Deletes a person identified using it's displayed index or criteria from the address book.
@@ -31,6 +31,7 @@ public class DeleteCommand extends Command {
             + "[" + seedu.address.logic.parser.CliSyntax.PREFIX_TAG + "TAG_KEYWORD [MORE_KEYWORDS]...] "
             + "[" + seedu.address.logic.parser.CliSyntax.PREFIX_MODULE + "MODULE_KEYWORD [MORE_KEYWORDS]...] "
             + "[" + seedu.address.logic.parser.CliSyntax.PREFIX_FACULTY + "FACULTY_KEYWORD [MORE_KEYWORDS]...]\n"
+            + "Criteria can also be combined with AND, OR, NOT and parentheses, as in the find command.\n"
             + "Example: " + COMMAND_WORD + " " + seedu.address.logic.parser.CliSyntax.PREFIX_NAME + "alex "
             + seedu.address.logic.parser.CliSyntax.PREFIX_TAG + "friends";
 
@@ -91,24 +92,20 @@ public class DeleteCommand extends Command {
      * Executes the delete command for multiple persons identified by a predicate.
      */
     private CommandResult executeDeleteByPredicate(Model model) {
-        Predicate<Person> combinedPredicate = predicates.stream()
-                                                        .reduce(Predicate::and)
-                                                        .orElse(x -> true);
-
-        List<Person> personsToDelete = model.getAddressBook().getPersonList().stream()
-                                              .filter(combinedPredicate) // Use the combined predicate
-                                              .collect(Collectors.toList());
+        // the combined predicate is answered from the search index where possible
+        List<Person> personsToDelete = model.findPersons(AllOfPredicate.of(predicates));
 
         if (personsToDelete.isEmpty()) {
             return new CommandResult(MESSAGE_NO_PERSONS_FOUND_TO_DELETE);
         }
 
-        for (Person person : personsToDelete) {
-            model.deletePerson(person);
-        }
-
-        int deleteCount = personsToDelete.size();
-        return new CommandResult(String.format(MESSAGE_DELETE_MULTIPLE_PERSONS_SUCCESS, deleteCount));
+        // delete as one batch so the person list is updated once rather than once per person
+        return model.runInTransaction(transaction -> {
+            for (Person person : personsToDelete) {
+                transaction.deletePerson(person);
+            }
+            return new CommandResult(String.format(MESSAGE_DELETE_MULTIPLE_PERSONS_SUCCESS, personsToDelete.size()));
+        });
     }
 
 
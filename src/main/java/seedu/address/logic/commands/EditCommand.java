@@ -32,6 +32,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -93,7 +94,12 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-        model.setPerson(personToEdit, editedPerson);
+        try {
+            model.setPerson(personToEdit, editedPerson);
+        } catch (DuplicatePersonException e) {
+            // the edited name and phone may each clash with a different existing person
+            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+        }
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
@@ -122,7 +128,8 @@ public class EditCommand extends Command {
             updatedTags,
             updatedModules,
             updatedFaculties,
-            updatedFavorite);
+            updatedFavorite,
+            personToEdit.getId());
     }
 
     @Override
@@ -73,7 +73,8 @@ public class FavCommand extends Command {
                 personToFav.getTags(),
                 personToFav.getModules(),
                 personToFav.getFaculties(),
-                new Favorite(true)
+                new Favorite(true),
+                personToFav.getId()
         );
     }
 
@@ -1,9 +1,14 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FACULTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.function.Predicate;
@@ -20,35 +25,118 @@ import seedu.address.model.person.Person;
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
+    public static final String EXPLAIN_FLAG = "--explain";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
         + ": Finds all persons who match all of the specified criteria "
-        + "(name, tag, module, and/or faculty) and displays them as a list with index numbers.\n"
+        + "(name, tag, module, faculty, address, phone and/or email) and displays them as a list with index numbers.\n"
+        + "Use " + PREFIX_NAME_FUZZY + " instead of " + PREFIX_NAME + " to also match names with small typos, "
+        + "closest matches first.\n"
         + "Parameters: "
         + "[" + PREFIX_NAME + "NAME_KEYWORD [MORE_KEYWORDS]...] "
         + "[" + PREFIX_TAG + "TAG_KEYWORD [MORE_KEYWORDS]...] "
         + "[" + PREFIX_MODULE + "MODULE_KEYWORD [MORE_KEYWORDS]...] "
-        + "[" + PREFIX_FACULTY + "FACULTY_KEYWORD [MORE_KEYWORDS]...]\n"
+        + "[" + PREFIX_FACULTY + "FACULTY_KEYWORD [MORE_KEYWORDS]...] "
+        + "[" + PREFIX_ADDRESS + "PART_OF_ADDRESS] "
+        + "[" + PREFIX_PHONE + "START_OF_PHONE [MORE_KEYWORDS]...] "
+        + "[" + PREFIX_EMAIL + "EMAIL_OR_@DOMAIN [MORE_KEYWORDS]...]\n"
+        + "Criteria can also be combined with AND, OR, NOT and parentheses.\n"
+        + "Module keywords can end with * to match the start of a module, or be a range such as CS2000..CS2999.\n"
+        + "Start with " + EXPLAIN_FLAG + " to also show the order in which the criteria are checked.\n"
+        + "Add " + PREFIX_LIMIT + "N to stop after the first N persons found, and enter " + MoreCommand.COMMAND_WORD
+        + " to find the next N.\n"
         + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alice "
-        + PREFIX_MODULE + "CS2103T " + PREFIX_FACULTY + "computing";
+        + PREFIX_MODULE + "CS2103T " + PREFIX_FACULTY + "computing\n"
+        + "Example: " + COMMAND_WORD + " (" + PREFIX_MODULE + "CS2103T OR " + PREFIX_MODULE + "CS2101) AND NOT "
+        + PREFIX_TAG + "ta";
 
+    public static final String MESSAGE_PERSONS_LISTED_LIMITED = "%1$d+ person(s) listed! There may be more, enter "
+            + MoreCommand.COMMAND_WORD + " to list them.";
+
+    public static final int NO_LIMIT = 0;
 
     private final Predicate<Person> predicate;
+    private final boolean isExplain;
+    private final int limit;
+    private final boolean isShown;
 
     public FindCommand(Predicate<Person> predicate) {
+        this(predicate, false);
+    }
+
+    public FindCommand(Predicate<Person> predicate, boolean isExplain) {
+        this(predicate, isExplain, NO_LIMIT);
+    }
+
+    /**
+     * Creates a FindCommand that lists the persons matching {@code predicate}, and if {@code isExplain} is true,
+     * also describes how the search is carried out. Unless {@code limit} is {@link #NO_LIMIT}, the search stops once
+     * {@code limit} persons are found.
+     */
+    public FindCommand(Predicate<Person> predicate, boolean isExplain, int limit) {
+        this(predicate, isExplain, limit, false);
+    }
+
+    private FindCommand(Predicate<Person> predicate, boolean isExplain, int limit, boolean isShown) {
         this.predicate = predicate;
+        this.isExplain = isExplain;
+        this.limit = limit;
+        this.isShown = isShown;
     }
 
     public Predicate<Person> getPredicate() {
         return predicate;
     }
 
+    public boolean isExplain() {
+        return isExplain;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns a copy of this command that lists the persons already shown in the filtered person list rather than
+     * filtering it again, for when a preview of this command shows them. The command must have no limit, as the
+     * persons left to list with {@code more} are only known to a search that the command runs itself.
+     */
+    public FindCommand withPersonsShown() {
+        assert limit == NO_LIMIT;
+        return new FindCommand(predicate, isExplain, limit, true);
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        String message;
+        if (limit == NO_LIMIT) {
+            if (!isShown) {
+                model.updateFilteredPersonList(predicate);
+            }
+            message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        } else {
+            model.updateFilteredPersonListToFirst(predicate, limit);
+            message = getLimitedListedMessage(model);
+        }
+        if (isExplain) {
+            // a limited search tests the persons in order rather than following the plan of an unlimited one
+            message += "\n" + (limit == NO_LIMIT
+                    ? Messages.format(model.getQueryPlan(predicate))
+                    : Messages.formatLimitedSearch(predicate, model.getAddressBook().getPersonList().size(), limit));
+        }
+        return new CommandResult(message);
+    }
+
+    /**
+     * Returns the message for the persons listed by a search that stops once enough persons are found. Their number
+     * is only a lower bound unless every person was tested.
+     */
+    static String getLimitedListedMessage(Model model) {
         int listSize = model.getFilteredPersonList().size();
-        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, listSize));
+        return model.canShowMorePersons()
+                ? String.format(MESSAGE_PERSONS_LISTED_LIMITED, listSize)
+                : String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, listSize);
     }
 
     @Override
@@ -63,13 +151,18 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && isExplain == otherFindCommand.isExplain
+                && limit == otherFindCommand.limit
+                && isShown == otherFindCommand.isShown;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isExplain", isExplain)
+                .add("limit", limit)
                 .toString();
     }
 }
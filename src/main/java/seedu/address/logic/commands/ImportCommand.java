@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import com.opencsv.exceptions.CsvValidationException;
 
@@ -59,14 +60,10 @@ public class ImportCommand extends Command {
         } catch (CsvValidationException | IOException e) {
             throw new CommandException(MESSAGE_USAGE);
         }
-        int addedCount = 0;
-        for (Person p : result.getValidContacts()) {
-            if (!model.hasPerson(p)) {
-                model.addPerson(p);
-                addedCount++;
-            }
-        }
-        int skippedCount = result.getValidContacts().size() - addedCount;
+        List<Person> duplicates = model.runInTransaction(transaction ->
+                transaction.addPersons(result.getValidContacts()));
+        int skippedCount = duplicates.size();
+        int addedCount = result.getValidContacts().size() - skippedCount;
 
         StringBuilder message = new StringBuilder();
         int errorCount = result.getErrorMessages().size();
@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Lists the next persons found by a {@code find} command with a limit, continuing from where it stopped.
+ */
+public class MoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "more";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the next persons found by the last " + FindCommand.COMMAND_WORD + " command with "
+            + PREFIX_LIMIT + "N, as many as N more.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_MORE_PERSONS = "There are no more persons to find. Use "
+            + FindCommand.COMMAND_WORD + " with " + PREFIX_LIMIT + "N to list the first N persons found.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canShowMorePersons()) {
+            throw new CommandException(MESSAGE_NO_MORE_PERSONS);
+        }
+        model.showMorePersons();
+        return new CommandResult(FindCommand.getLimitedListedMessage(model));
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves the persons matching a {@code find} query as a named view, which is kept up to date as contacts change, and
+ * lists them.
+ */
+public class SaveViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "save-view";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Saves the persons found by the given find arguments as a view that can be shown again with "
+            + ViewCommand.COMMAND_WORD + ", and displays them. The view is kept up to date as contacts change.\n"
+            + "Parameters: NAME FIND_ARGUMENTS\n"
+            + "Example: " + COMMAND_WORD + " cs2103t-tas m/CS2103T t/ta";
+
+    public static final String MESSAGE_SUCCESS = "View saved: %1$s";
+    public static final String MESSAGE_VIEW_REPLACED = "View replaced: %1$s";
+
+    private final String name;
+    private final String query;
+    private final Predicate<Person> predicate;
+
+    /**
+     * Creates a SaveViewCommand that saves the persons matching {@code predicate}, parsed from the find arguments
+     * {@code query}, as the view {@code name}.
+     */
+    public SaveViewCommand(String name, String query, Predicate<Person> predicate) {
+        requireNonNull(name);
+        requireNonNull(query);
+        requireNonNull(predicate);
+        this.name = name;
+        this.query = query;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        String message = model.hasSavedView(name) ? MESSAGE_VIEW_REPLACED : MESSAGE_SUCCESS;
+        model.addSavedView(name, query, predicate);
+        model.updateFilteredPersonListToSavedView(name);
+        return new CommandResult(String.format(message, name) + "\n"
+                + String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SaveViewCommand)) {
+            return false;
+        }
+
+        SaveViewCommand otherSaveViewCommand = (SaveViewCommand) other;
+        return name.equals(otherSaveViewCommand.name)
+                && query.equals(otherSaveViewCommand.query)
+                && predicate.equals(otherSaveViewCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("query", query)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
+
+/**
+ * Finds the persons who best match the argument keywords in any of their fields and lists them, best match first.
+ * Keyword matching is case insensitive.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final int MAX_RESULTS = 50;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds the persons with a name, tag, module, faculty or email word starting with any of the "
+            + "keywords, and displays the best " + MAX_RESULTS + " of them, best match first.\n"
+            + "Matches in names count the most, and whole words count more than the start of a word.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " tan computing";
+
+    public static final String MESSAGE_SUCCESS = "%1$d person(s) listed, best match first!";
+    public static final String MESSAGE_SUCCESS_LIMITED =
+            "Showing the best %1$d matches, best first! Add keywords to see more relevant persons.";
+
+    private final PersonMatchesKeywordsPredicate predicate;
+
+    public SearchCommand(PersonMatchesKeywordsPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        boolean isTruncated = model.updateFilteredPersonListToTop(predicate, MAX_RESULTS);
+        int listSize = model.getFilteredPersonList().size();
+        return new CommandResult(String.format(isTruncated ? MESSAGE_SUCCESS_LIMITED : MESSAGE_SUCCESS, listSize));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return predicate.equals(otherSearchCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
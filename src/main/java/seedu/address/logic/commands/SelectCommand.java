@@ -54,13 +54,10 @@ public class SelectCommand extends Command {
             throw new CommandException(String.format(MESSAGE_INVALID_FACULTY, availableFaculties));
         }
 
+        List<Person> duplicates = model.runInTransaction(transaction -> transaction.addPersons(facultyAdmins));
         List<String> duplicateMessages = new ArrayList<>();
-        for (Person person : facultyAdmins) {
-            if (model.hasPerson(person)) {
-                duplicateMessages.add(String.format(MESSAGE_DUPLICATE_PERSON, person.getName()));
-            } else {
-                model.addPerson(person);
-            }
+        for (Person duplicate : duplicates) {
+            duplicateMessages.add(String.format(MESSAGE_DUPLICATE_PERSON, duplicate.getName()));
         }
 
         String feedbackToUser = String.format(MESSAGE_SUCCESS, faculty);
@@ -74,7 +74,8 @@ public class UnfavCommand extends Command {
                 personToUnfav.getTags(),
                 personToUnfav.getModules(),
                 personToUnfav.getFaculties(),
-                new Favorite(false)
+                new Favorite(false),
+                personToUnfav.getId()
         );
     }
 
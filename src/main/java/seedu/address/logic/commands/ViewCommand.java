@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Lists the persons in a view saved with {@code save-view}.
+ */
+public class ViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "view";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Displays the persons in a view saved with " + SaveViewCommand.COMMAND_WORD + ".\n"
+            + "Parameters: NAME\n"
+            + "Example: " + COMMAND_WORD + " cs2103t-tas";
+
+    public static final String MESSAGE_SUCCESS = "Showing view: %1$s";
+    public static final String MESSAGE_UNKNOWN_VIEW = "No view is saved as %1$s.";
+
+    private final String name;
+
+    public ViewCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasSavedView(name)) {
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_VIEW, name));
+        }
+        model.updateFilteredPersonListToSavedView(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name) + "\n"
+                + String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ViewCommand)) {
+            return false;
+        }
+
+        ViewCommand otherViewCommand = (ViewCommand) other;
+        return name.equals(otherViewCommand.name);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("name", name).toString();
+    }
+}
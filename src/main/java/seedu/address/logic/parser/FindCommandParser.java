@@ -1,46 +1,99 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FACULTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.AllOfPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_INVALID_LIMIT = "Limit should be a positive integer.";
+
+    private static final Prefix[] SEARCH_PREFIXES = {PREFIX_NAME, PREFIX_NAME_FUZZY, PREFIX_TAG, PREFIX_FACULTY,
+        PREFIX_MODULE, PREFIX_ADDRESS, PREFIX_PHONE, PREFIX_EMAIL};
+
+    // the limit can come anywhere after the command word, so it is taken out before the criteria are parsed
+    private static final Pattern LIMIT_FORMAT = Pattern.compile("\\s" + PREFIX_LIMIT + "(\\S*)");
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TAG, PREFIX_FACULTY, PREFIX_MODULE);
+        String trimmedArgs = args.stripLeading();
+        boolean isExplain = false;
+        if (trimmedArgs.equals(FindCommand.EXPLAIN_FLAG) || trimmedArgs.startsWith(FindCommand.EXPLAIN_FLAG + " ")) {
+            // keeps the space before the first prefix, which the tokenizer needs to recognise it
+            args = trimmedArgs.substring(FindCommand.EXPLAIN_FLAG.length());
+            isExplain = true;
+        }
+
+        int limit = FindCommand.NO_LIMIT;
+        Matcher limitMatcher = LIMIT_FORMAT.matcher(args);
+        if (limitMatcher.find()) {
+            limit = parseLimit(limitMatcher.group(1));
+            String remainingArgs = args.substring(0, limitMatcher.start()) + args.substring(limitMatcher.end());
+            if (limitMatcher.find()) {
+                throw new ParseException(Messages.getErrorMessageForDuplicatePrefixes(PREFIX_LIMIT));
+            }
+            args = remainingArgs;
+        }
+        return new FindCommand(parsePredicate(args), isExplain, limit);
+    }
+
+    /**
+     * Parses {@code limit} as the number of persons to stop a search at.
+     * @throws ParseException if {@code limit} is not a positive integer.
+     */
+    private static int parseLimit(String limit) throws ParseException {
+        if (!StringUtil.isNonZeroUnsignedInteger(limit)) {
+            throw new ParseException(MESSAGE_INVALID_LIMIT);
+        }
+        return Integer.parseInt(limit);
+    }
 
-        if (!PredicateParserUtil.isAnyPrefixPresent(argMultimap, PREFIX_NAME, PREFIX_TAG, PREFIX_FACULTY, PREFIX_MODULE)
+    private Predicate<Person> parsePredicate(String args) throws ParseException {
+        if (QueryParser.isQuery(args, SEARCH_PREFIXES)) {
+            String usageMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+            return QueryParser.parse(args, usageMessage, SEARCH_PREFIXES);
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, SEARCH_PREFIXES);
+
+        if (!PredicateParserUtil.isAnyPrefixPresent(argMultimap, SEARCH_PREFIXES)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
         // Throws ParseException if prefixes are repeated e.g. n/Alice n/Bob
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_TAG, PREFIX_FACULTY, PREFIX_MODULE);
+        argMultimap.verifyNoDuplicatePrefixesFor(SEARCH_PREFIXES);
 
         String usageMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
         List<Predicate<Person>> predicates = PredicateParserUtil.parsePredicates(argMultimap, usageMessage);
 
         // Combine all predicates with an 'AND' logic
-        Predicate<Person> combinedPredicate = predicates.stream().reduce(Predicate::and).orElse(x -> true);
-
-        return new FindCommand(combinedPredicate);
+        return AllOfPredicate.of(predicates);
     }
 }
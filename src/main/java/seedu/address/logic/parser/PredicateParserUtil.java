@@ -1,8 +1,12 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FACULTY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
@@ -11,10 +15,14 @@ import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.EmailMatchesKeywordsPredicate;
 import seedu.address.model.person.FacultyContainsKeywordsPredicate;
 import seedu.address.model.person.ModuleContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameResemblesKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneStartsWithKeywordsPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
 
 /**
@@ -34,38 +42,48 @@ public class PredicateParserUtil {
             throws ParseException {
         List<Predicate<Person>> predicates = new ArrayList<>();
 
-        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
-            String nameKeywords = argMultimap.getValue(PREFIX_NAME).get();
-            if (nameKeywords.isEmpty()) {
-                throw new ParseException(usageMessage);
+        for (Prefix prefix : List.of(PREFIX_NAME, PREFIX_NAME_FUZZY, PREFIX_TAG, PREFIX_FACULTY, PREFIX_MODULE,
+                PREFIX_ADDRESS, PREFIX_PHONE, PREFIX_EMAIL)) {
+            if (argMultimap.getValue(prefix).isPresent()) {
+                String keywords = argMultimap.getValue(prefix).get();
+                if (keywords.isEmpty()) {
+                    throw new ParseException(usageMessage);
+                }
+                predicates.add(createPredicate(prefix, List.of(keywords.split("\\s+"))));
             }
-            predicates.add(new NameContainsKeywordsPredicate(List.of(nameKeywords.split("\\s+"))));
-        }
-        if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
-            String tagKeywords = argMultimap.getValue(PREFIX_TAG).get();
-            if (tagKeywords.isEmpty()) {
-                throw new ParseException(usageMessage);
-            }
-            predicates.add(new TagContainsKeywordsPredicate(List.of(tagKeywords.split("\\s+"))));
-        }
-        if (argMultimap.getValue(PREFIX_FACULTY).isPresent()) {
-            String facultyKeywords = argMultimap.getValue(PREFIX_FACULTY).get();
-            if (facultyKeywords.isEmpty()) {
-                throw new ParseException(usageMessage);
-            }
-            predicates.add(new FacultyContainsKeywordsPredicate(List.of(facultyKeywords.split("\\s+"))));
-        }
-        if (argMultimap.getValue(PREFIX_MODULE).isPresent()) {
-            String moduleKeywords = argMultimap.getValue(PREFIX_MODULE).get();
-            if (moduleKeywords.isEmpty()) {
-                throw new ParseException(usageMessage);
-            }
-            predicates.add(new ModuleContainsKeywordsPredicate(List.of(moduleKeywords.split("\\s+"))));
         }
 
         return predicates;
     }
 
+    /**
+     * Creates the predicate that matches persons with any of {@code keywords} in the field of {@code prefix}, or for
+     * addresses, with all of {@code keywords} in order. Phone keywords match the start of phone numbers, and email
+     * keywords match either a whole email or a domain.
+     *
+     * @throws IllegalArgumentException if {@code prefix} is not a search prefix.
+     */
+    public static Predicate<Person> createPredicate(Prefix prefix, List<String> keywords) {
+        if (prefix.equals(PREFIX_NAME)) {
+            return new NameContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_NAME_FUZZY)) {
+            return new NameResemblesKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_TAG)) {
+            return new TagContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_FACULTY)) {
+            return new FacultyContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_MODULE)) {
+            return new ModuleContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_ADDRESS)) {
+            return new AddressContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_PHONE)) {
+            return new PhoneStartsWithKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            return new EmailMatchesKeywordsPredicate(keywords);
+        }
+        throw new IllegalArgumentException("Not a search prefix: " + prefix);
+    }
+
     /**
      * Returns true if at least one of the prefixes is present in the given
      * {@code ArgumentMultimap}.
@@ -0,0 +1,304 @@
+package seedu.address.logic.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.AllOfPredicate;
+import seedu.address.model.search.AnyOfPredicate;
+import seedu.address.model.search.NotPredicate;
+
+/**
+ * Parses a boolean query, such as {@code (m/CS2103T OR m/CS2101) AND NOT t/ta}, into a {@code Predicate<Person>}.
+ * Each term is a prefix followed by keywords, as in a plain search. Terms are combined with the operators
+ * {@code AND}, {@code OR} and {@code NOT}, which must be in upper case, and grouped with parentheses.
+ * {@code NOT} binds tightest and {@code OR} loosest, and terms with no operator between them are combined with
+ * {@code AND}, as in a plain search.
+ * Parentheses and operators are only read as such where they stand between terms: an opening parenthesis or
+ * {@code NOT} must come before a term, {@code AND} and {@code OR} between two terms, and a closing parenthesis must
+ * close an opening one. Anywhere else, such as in {@code a/Blk 5 (East Wing)}, they are part of the keywords.
+ */
+public class QueryParser {
+
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+
+    private final List<Token> tokens;
+    private final List<Prefix> prefixes;
+    private final String usageMessage;
+    private int position = 0;
+
+    private QueryParser(List<Token> tokens, List<Prefix> prefixes, String usageMessage) {
+        this.tokens = tokens;
+        this.prefixes = prefixes;
+        this.usageMessage = usageMessage;
+    }
+
+    /**
+     * Returns true if {@code args}, whose terms may use any of {@code prefixes}, uses an operator or a parenthesis
+     * between terms, and so should be parsed as a boolean query rather than as plain prefixed arguments.
+     */
+    public static boolean isQuery(String args, Prefix... prefixes) {
+        return tokenize(args, List.of(prefixes)).stream().anyMatch(token -> token.isSymbol);
+    }
+
+    /**
+     * Parses the boolean query {@code args}, whose terms may use any of {@code prefixes}.
+     *
+     * @param usageMessage The message to show if the query is malformed.
+     * @throws ParseException if the query is malformed, or uses a prefix not in {@code prefixes}.
+     */
+    public static Predicate<Person> parse(String args, String usageMessage, Prefix... prefixes)
+            throws ParseException {
+        List<Prefix> prefixList = List.of(prefixes);
+        QueryParser parser = new QueryParser(tokenize(args, prefixList), prefixList, usageMessage);
+        Predicate<Person> predicate = parser.parseOr();
+        if (parser.hasNext()) {
+            // e.g. an unmatched closing parenthesis
+            throw new ParseException(usageMessage);
+        }
+        return predicate;
+    }
+
+    /**
+     * Splits {@code args} into words, operators and parentheses. A parenthesis or operator that does not stand
+     * between terms is kept as part of a word, together with the text it is written against.
+     */
+    private static List<Token> tokenize(String args, List<Prefix> prefixes) {
+        List<Piece> pieces = split(args);
+        List<Token> tokens = new ArrayList<>();
+        // the groups opened by parentheses, and the parentheses opened in the keywords of the current term
+        int groupDepth = 0;
+        int keywordDepth = 0;
+        for (int i = 0; i < pieces.size(); i++) {
+            Piece piece = pieces.get(i);
+            boolean isSymbol;
+            switch (piece.text) {
+            case OPEN_PARENTHESIS:
+                isSymbol = isTermStart(pieces, i + 1, prefixes);
+                break;
+            case CLOSE_PARENTHESIS:
+                isSymbol = groupDepth > 0 && keywordDepth == 0;
+                break;
+            case OPERATOR_NOT:
+                isSymbol = isTermStart(pieces, i + 1, prefixes);
+                break;
+            case OPERATOR_AND:
+            case OPERATOR_OR:
+                isSymbol = isTermEnd(tokens) && isTermStart(pieces, i + 1, prefixes);
+                break;
+            default:
+                isSymbol = false;
+            }
+
+            if (isSymbol) {
+                if (piece.text.equals(OPEN_PARENTHESIS)) {
+                    groupDepth++;
+                } else if (piece.text.equals(CLOSE_PARENTHESIS)) {
+                    groupDepth--;
+                }
+                keywordDepth = 0;
+                tokens.add(new Token(piece.text, true));
+                continue;
+            }
+            if (piece.text.equals(OPEN_PARENTHESIS)) {
+                keywordDepth++;
+            } else if (piece.text.equals(CLOSE_PARENTHESIS)) {
+                keywordDepth = Math.max(0, keywordDepth - 1);
+            } else if (prefixOf(piece.text, prefixes) != null) {
+                keywordDepth = 0;
+            }
+            Token previous = tokens.isEmpty() ? null : tokens.get(tokens.size() - 1);
+            if (piece.isJoinedToPrevious && previous != null && !previous.isSymbol) {
+                tokens.set(tokens.size() - 1, new Token(previous.text + piece.text, false));
+            } else {
+                tokens.add(new Token(piece.text, false));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Splits {@code args} at whitespace and around each parenthesis.
+     */
+    private static List<Piece> split(String args) {
+        List<Piece> pieces = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        boolean isJoined = false;
+        for (char c : args.toCharArray()) {
+            boolean isParenthesis = c == '(' || c == ')';
+            if (!Character.isWhitespace(c) && !isParenthesis) {
+                word.append(c);
+                continue;
+            }
+            if (word.length() > 0) {
+                pieces.add(new Piece(word.toString(), isJoined));
+                word.setLength(0);
+                isJoined = true;
+            }
+            if (isParenthesis) {
+                pieces.add(new Piece(String.valueOf(c), isJoined));
+                isJoined = true;
+            } else {
+                isJoined = false;
+            }
+        }
+        if (word.length() > 0) {
+            pieces.add(new Piece(word.toString(), isJoined));
+        }
+        return pieces;
+    }
+
+    /**
+     * Returns true if a term begins at {@code pieces[index]}, possibly after opening parentheses and {@code NOT}s.
+     */
+    private static boolean isTermStart(List<Piece> pieces, int index, List<Prefix> prefixes) {
+        for (int i = index; i < pieces.size(); i++) {
+            String text = pieces.get(i).text;
+            if (!text.equals(OPEN_PARENTHESIS) && !text.equals(OPERATOR_NOT)) {
+                return prefixOf(text, prefixes) != null;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the last of {@code tokens} ends a term.
+     */
+    private static boolean isTermEnd(List<Token> tokens) {
+        if (tokens.isEmpty()) {
+            return false;
+        }
+        Token last = tokens.get(tokens.size() - 1);
+        return !last.isSymbol || last.text.equals(CLOSE_PARENTHESIS);
+    }
+
+    private Predicate<Person> parseOr() throws ParseException {
+        List<Predicate<Person>> parts = new ArrayList<>();
+        parts.add(parseAnd());
+        while (accept(OPERATOR_OR)) {
+            parts.add(parseAnd());
+        }
+        return AnyOfPredicate.of(parts);
+    }
+
+    private Predicate<Person> parseAnd() throws ParseException {
+        List<Predicate<Person>> parts = new ArrayList<>();
+        parts.add(parseNot());
+        while (hasNext() && !isNext(OPERATOR_OR) && !isNext(CLOSE_PARENTHESIS)) {
+            accept(OPERATOR_AND);
+            parts.add(parseNot());
+        }
+        return AllOfPredicate.of(parts);
+    }
+
+    private Predicate<Person> parseNot() throws ParseException {
+        if (accept(OPERATOR_NOT)) {
+            return new NotPredicate(parseNot());
+        }
+        if (accept(OPEN_PARENTHESIS)) {
+            Predicate<Person> predicate = parseOr();
+            if (!accept(CLOSE_PARENTHESIS)) {
+                throw new ParseException(usageMessage);
+            }
+            return predicate;
+        }
+        return parseTerm();
+    }
+
+    /**
+     * Parses a prefix and the keywords after it, up to the next operator, parenthesis or prefix.
+     */
+    private Predicate<Person> parseTerm() throws ParseException {
+        if (!hasNext()) {
+            throw new ParseException(usageMessage);
+        }
+        Token token = tokens.get(position++);
+        Prefix prefix = token.isSymbol ? null : prefixOf(token.text, prefixes);
+        if (prefix == null) {
+            throw new ParseException(usageMessage);
+        }
+
+        List<String> keywords = new ArrayList<>();
+        String firstKeyword = token.text.substring(prefix.getPrefix().length());
+        if (!firstKeyword.isEmpty()) {
+            keywords.add(firstKeyword);
+        }
+        while (hasNext() && !peek().isSymbol && prefixOf(peek().text, prefixes) == null) {
+            keywords.add(tokens.get(position++).text);
+        }
+        if (keywords.isEmpty()) {
+            throw new ParseException(usageMessage);
+        }
+        return PredicateParserUtil.createPredicate(prefix, keywords);
+    }
+
+    /**
+     * Returns the prefix that {@code token} starts with, or null if it does not start with any of the prefixes.
+     */
+    private static Prefix prefixOf(String token, List<Prefix> prefixes) {
+        return prefixes.stream()
+                .filter(prefix -> token.startsWith(prefix.getPrefix()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    /**
+     * Returns true if the next token is {@code symbol}, read as an operator or a parenthesis.
+     */
+    private boolean isNext(String symbol) {
+        return hasNext() && peek().isSymbol && peek().text.equals(symbol);
+    }
+
+    /**
+     * Consumes the next token if it is {@code symbol}, returning true if it was.
+     */
+    private boolean accept(String symbol) {
+        if (isNext(symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * A word, or an operator or parenthesis read as such.
+     */
+    private static class Token {
+        private final String text;
+        private final boolean isSymbol;
+
+        Token(String text, boolean isSymbol) {
+            this.text = text;
+            this.isSymbol = isSymbol;
+        }
+    }
+
+    /**
+     * A run of text without whitespace or parentheses, or a single parenthesis, and whether it is written against
+     * the piece before it.
+     */
+    private static class Piece {
+        private final String text;
+        private final boolean isJoinedToPrevious;
+
+        Piece(String text, boolean isJoinedToPrevious) {
+            this.text = text;
+            this.isJoinedToPrevious = isJoinedToPrevious;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.SaveViewCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+
+/**
+ * Parses input arguments and creates a new SaveViewCommand object.
+ */
+public class SaveViewCommandParser implements Parser<SaveViewCommand> {
+
+    public static final String MESSAGE_INVALID_NAME =
+            "View names should only contain letters, digits, hyphens and underscores.";
+    public static final String MESSAGE_QUERY_OPTION_NOT_ALLOWED = "A view lists every person its query finds, so "
+            + "its query cannot have " + PREFIX_LIMIT + "N or " + FindCommand.EXPLAIN_FLAG + ".";
+
+    private static final String NAME_VALIDATION_REGEX = "[\\p{Alnum}_-]+";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SaveViewCommand
+     * and returns a SaveViewCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public SaveViewCommand parse(String args) throws ParseException {
+        String[] nameAndQuery = args.trim().split("\\s+", 2);
+        if (nameAndQuery.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveViewCommand.MESSAGE_USAGE));
+        }
+        String name = parseName(nameAndQuery[0]);
+        String query = nameAndQuery[1];
+        return new SaveViewCommand(name, query, parseQuery(query));
+    }
+
+    /**
+     * Parses {@code name} as the name of a saved view.
+     * @throws ParseException if {@code name} is not a valid view name.
+     */
+    public static String parseName(String name) throws ParseException {
+        String trimmedName = name.trim();
+        if (!trimmedName.matches(NAME_VALIDATION_REGEX)) {
+            throw new ParseException(MESSAGE_INVALID_NAME);
+        }
+        return trimmedName;
+    }
+
+    /**
+     * Parses the {@code find} arguments {@code query} of a saved view into the predicate that they search by.
+     * @throws ParseException if {@code query} are not valid {@code find} arguments, or have a limit or ask for an
+     *     explanation, which a view would otherwise save but ignore.
+     */
+    public static Predicate<Person> parseQuery(String query) throws ParseException {
+        // the find parser expects the space that separates its arguments from the command word
+        FindCommand findCommand = new FindCommandParser().parse(" " + query);
+        if (findCommand.getLimit() != FindCommand.NO_LIMIT || findCommand.isExplain()) {
+            throw new ParseException(MESSAGE_QUERY_OPTION_NOT_ALLOWED);
+        }
+        return findCommand.getPredicate();
+    }
+}
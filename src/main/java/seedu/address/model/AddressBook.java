@@ -2,20 +2,30 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonSearchIndex;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Keeps a {@code PersonSearchIndex} of its persons up to date with every change.
+ * Counts its modifications in a version, so that a caller can tell whether it changed since it last looked.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+    private long version;
+    private long versionBeforeBatch;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +56,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        searchIndex.setPersons(getPersonList());
+        version++;
     }
 
     /**
@@ -72,7 +84,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        searchIndex.add(persons.add(p));
+        version++;
+    }
+
+    /**
+     * Adds every person in {@code persons} that does not share an identity with a person in the address book or with
+     * an earlier person in {@code persons}.
+     *
+     * @return the persons that were skipped as duplicates.
+     */
+    public List<Person> addPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        List<Person> duplicates = this.persons.addAll(persons, searchIndex::add);
+        // nothing changed if every person was skipped, so the data need not be saved again
+        if (duplicates.size() < persons.size()) {
+            version++;
+        }
+        return duplicates;
     }
 
     /**
@@ -83,7 +112,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        searchIndex.add(persons.setPerson(target, editedPerson));
+        version++;
     }
 
     /**
@@ -91,7 +121,66 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        searchIndex.remove(persons.remove(key));
+        version++;
+    }
+
+    //// batch operations
+
+    /**
+     * Begins a batch of changes to this address book. Listeners of the person list are notified of every change made
+     * until the matching {@link #endBatch()} as a single change that covers only the persons changed.
+     * The search index is kept up to date with every change as usual.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+        versionBeforeBatch = version;
+    }
+
+    /**
+     * Reverts every change made since the open batch began, which stays open.
+     */
+    public void undoBatch() {
+        // only the persons that were changed are indexed again
+        persons.undoBatch(searchIndex::remove, searchIndex::add);
+        version = versionBeforeBatch;
+    }
+
+    /**
+     * Ends the open batch, notifying listeners of the person list of the changes made in it.
+     */
+    public void endBatch() {
+        persons.endBatch();
+    }
+
+    //// search operations
+
+    /**
+     * Returns the persons that satisfy {@code predicate}, in no particular order.
+     * An {@code IndexedPredicate} is answered from the search index instead of being tested on every person.
+     */
+    public List<Person> findPersons(Predicate<Person> predicate) {
+        return findPersons(predicate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the persons that satisfy {@code predicate}, like {@link #findPersons(Predicate)}, except that a
+     * predicate that is not an {@code IndexedPredicate} is tested in parallel if there are at least
+     * {@code parallelThreshold} persons. Such persons are returned in the order of the person list.
+     */
+    public List<Person> findPersons(Predicate<Person> predicate, int parallelThreshold) {
+        requireNonNull(predicate);
+        if (!(predicate instanceof IndexedPredicate)) {
+            return CollectionUtil.filter(getPersonList(), predicate, parallelThreshold);
+        }
+        return searchIndex.getPersons(((IndexedPredicate) predicate).resolve(searchIndex));
+    }
+
+    /**
+     * Returns the search index over the persons in this address book.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return searchIndex;
     }
 
     //// util methods
@@ -108,6 +197,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
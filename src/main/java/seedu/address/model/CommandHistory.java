@@ -10,12 +10,14 @@ import java.util.Optional;
 /**
  * Represents the command history of the application.
  * Stores up to 10 recent commands and provides navigation through the history.
+ * Counts the commands added in a version, so that a caller can tell whether the history changed since it last looked.
  */
 public class CommandHistory {
     private static final int MAX_HISTORY_SIZE = 10;
 
     private final List<String> history;
     private int currentPosition;
+    private long version;
 
     /**
      * Creates a CommandHistory with an empty history.
@@ -66,6 +68,7 @@ public class CommandHistory {
         }
 
         history.add(command);
+        version++;
 
         // Remove oldest command if size exceeds limit
         if (history.size() > MAX_HISTORY_SIZE) {
@@ -115,5 +118,12 @@ public class CommandHistory {
     public List<String> getHistory() {
         return Collections.unmodifiableList(history);
     }
+
+    /**
+     * Returns the number of commands added to the history, which grows with every command added.
+     */
+    public long getVersion() {
+        return version;
+    }
 }
 
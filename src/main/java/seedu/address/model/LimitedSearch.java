@@ -0,0 +1,99 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A search that finds the persons of a list satisfying a predicate a batch at a time, testing persons only until the
+ * batch is full. A cursor records where the search stopped, so that the next batch resumes from there.
+ */
+class LimitedSearch {
+
+    private final Predicate<Person> predicate;
+    private final int batchSize;
+    private final Set<Integer> foundIds = new HashSet<>();
+    // the position in the list of the next person to test
+    private int cursor;
+
+    /**
+     * Creates a search for the persons satisfying {@code predicate}, {@code batchSize} at a time.
+     */
+    LimitedSearch(Predicate<Person> predicate, int batchSize) {
+        requireNonNull(predicate);
+        checkArgument(batchSize > 0, "Batch size must be positive");
+        this.predicate = predicate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Tests the persons of {@code persons} from the cursor onwards until another batch of persons satisfying the
+     * predicate is found or the list ends, and moves the cursor past the last person tested.
+     */
+    void findMore(List<Person> persons) {
+        int found = 0;
+        while (cursor < persons.size() && found < batchSize) {
+            Person person = persons.get(cursor++);
+            // a person that moved past the cursor may have been found already
+            if (predicate.test(person) && foundIds.add(person.getId())) {
+                found++;
+            }
+        }
+    }
+
+    /**
+     * Returns true if every person in {@code persons} has been tested, so that the persons found are all those that
+     * satisfy the predicate.
+     */
+    boolean isExhausted(List<Person> persons) {
+        return cursor >= persons.size();
+    }
+
+    /**
+     * Returns true if {@code person} has been found and still satisfies the predicate.
+     */
+    boolean isFound(Person person) {
+        return foundIds.contains(person.getId()) && predicate.test(person);
+    }
+
+    /**
+     * Moves the cursor for the persons removed from and added to the list before it in {@code change}, so that the
+     * persons before it are still those that have been tested.
+     */
+    void updateCursor(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (from >= cursor) {
+                continue;
+            }
+            int removedEnd = from + change.getRemovedSize();
+            if (removedEnd <= cursor) {
+                cursor += change.getAddedSize() - change.getRemovedSize();
+            } else {
+                // the persons replacing those around the cursor have not been tested
+                cursor = from;
+            }
+        }
+    }
+
+    Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .add("batchSize", batchSize)
+                .add("found", foundIds.size())
+                .toString();
+    }
+}
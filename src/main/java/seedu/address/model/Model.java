@@ -1,12 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.QueryPlan;
+import seedu.address.model.search.ScoredPredicate;
 
 /**
  * The API of the Model component.
@@ -70,6 +73,14 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds every person in {@code persons} that does not share an identity with an existing person or with an earlier
+     * person in {@code persons}, as a single update to the address book.
+     *
+     * @return the persons that were skipped as duplicates.
+     */
+    List<Person> addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -77,6 +88,24 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Runs {@code transaction} against this model as one batch. Address book changes made inside it are applied to the
+     * address book as they are made, and published as a single change to the person list, covering only the persons
+     * changed, once it returns. If it throws, the changes are reverted and the address book is left as it was.
+     * The filtered person list is not brought up to date until the transaction ends, so it must not be read inside
+     * one. A transaction started inside another one joins the outer transaction.
+     *
+     * @return the result of {@code transaction}.
+     * @throws E if {@code transaction} throws.
+     */
+    <T, E extends Exception> T runInTransaction(ModelTransaction<T, E> transaction) throws E;
+
+    /**
+     * Returns the persons in the address book that satisfy {@code predicate}, in no particular order.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    List<Person> findPersons(Predicate<Person> predicate);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -86,6 +115,66 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns a task that filters and ranks the filtered person list again as it is filtered and ranked now.
+     */
+    Runnable saveFilteredPersonListFilter();
+
+    /**
+     * Updates the filter of the filtered person list to show only the at most {@code limit} persons that score
+     * highest on {@code predicate}, best first. The persons shown stay shown, at their rank, when they are edited.
+     * @return true if more than {@code limit} persons score on {@code predicate}, so that some of them are not shown.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    boolean updateFilteredPersonListToTop(ScoredPredicate predicate, int limit);
+
+    /**
+     * Updates the filter of the filtered person list to show the first {@code limit} persons of the address book that
+     * satisfy {@code predicate}, testing persons only until that many are found.
+     * @throws NullPointerException if {@code predicate} is null.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    void updateFilteredPersonListToFirst(Predicate<Person> predicate, int limit);
+
+    /**
+     * Returns true if the filtered person list shows the persons found by
+     * {@link #updateFilteredPersonListToFirst(Predicate, int)}, and not every person has been tested yet.
+     */
+    boolean canShowMorePersons();
+
+    /**
+     * Adds the next persons satisfying the predicate last given to
+     * {@link #updateFilteredPersonListToFirst(Predicate, int)} to the filtered person list, as many as its limit,
+     * resuming from the person after the last one tested.
+     * @throws IllegalStateException if {@link #canShowMorePersons()} is false.
+     */
+    void showMorePersons();
+
+    /**
+     * Saves a view named {@code name} of the persons that satisfy {@code predicate}, which was parsed from the
+     * {@code find} arguments {@code query}, replacing any view with the same name. The persons in the view are kept
+     * up to date as the address book changes, and the view is added to the user prefs.
+     * @throws NullPointerException if any of the arguments is null.
+     */
+    void addSavedView(String name, String query, Predicate<Person> predicate);
+
+    /**
+     * Returns true if a view named {@code name} has been saved.
+     */
+    boolean hasSavedView(String name);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons in the saved view named {@code name}.
+     * @throws IllegalArgumentException if no view named {@code name} has been saved.
+     */
+    void updateFilteredPersonListToSavedView(String name);
+
+    /**
+     * Returns how the persons in the address book that satisfy {@code predicate} are found.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    QueryPlan getQueryPlan(Predicate<Person> predicate);
+
     /**
      * Returns an unmodifiable view of the command alias map.
      */
@@ -1,21 +1,29 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.parser.AliasProvider;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.QueryPlan;
+import seedu.address.model.search.RankedPredicate;
+import seedu.address.model.search.ScoredPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -26,6 +34,13 @@ public class ModelManager implements Model, AliasProvider {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> rankedPersons;
+    private final Map<String, SavedView> savedViews = new HashMap<>();
+    // the search whose persons are shown, if the filtered person list was last set to the first persons found
+    private LimitedSearch limitedSearch;
+
+    private boolean isInTransaction;
+    private boolean isShowAllPending;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -37,9 +52,12 @@ public class ModelManager implements Model, AliasProvider {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        // registered before the filtered list's own listener, so that a saved view being shown is up to date by the
+        // time the filtered list checks the persons that changed
+        this.addressBook.getPersonList().addListener(this::updateSavedViews);
+        this.addressBook.getPersonList().addListener(this::updateLimitedSearch);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-
-        sortByFavoriteStatus();
+        rankedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -137,92 +155,208 @@ public class ModelManager implements Model, AliasProvider {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        showAllPersons();
+    }
 
-        if (person.getFavorite().getIsFavorite()) {
-            sortByFavoriteStatus(person);
-        }
+    @Override
+    public List<Person> addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        List<Person> duplicates = addressBook.addPersons(persons);
+        showAllPersons();
+        return duplicates;
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        boolean favoriteStatusChanged = !target.getFavorite().equals(editedPerson.getFavorite());
-
         addressBook.setPerson(target, editedPerson);
+    }
+
+    @Override
+    public <T, E extends Exception> T runInTransaction(ModelTransaction<T, E> transaction) throws E {
+        requireNonNull(transaction);
+        if (isInTransaction) {
+            return transaction.run(this);
+        }
 
-        if (favoriteStatusChanged) {
-            sortByFavoriteStatus(editedPerson);
+        isInTransaction = true;
+        addressBook.beginBatch();
+        boolean isCompleted = false;
+        try {
+            T result = transaction.run(this);
+            isCompleted = true;
+            return result;
+        } finally {
+            if (!isCompleted) {
+                addressBook.undoBatch();
+            }
+            addressBook.endBatch();
+            isInTransaction = false;
+            if (isCompleted && isShowAllPending) {
+                updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            }
+            isShowAllPending = false;
+        }
+    }
+
+    @Override
+    public List<Person> findPersons(Predicate<Person> predicate) {
+        return addressBook.findPersons(predicate, userPrefs.getParallelFilterThreshold());
+    }
+
+    /**
+     * Shows all persons in the filtered list, or does so when the running transaction completes.
+     */
+    private void showAllPersons() {
+        if (isInTransaction) {
+            isShowAllPending = true;
+        } else {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         }
     }
 
     //=========== Filtered Person List Accessors =============================================================
 
     /**
-     * Returns an unmodifiable view of the filtered list of {@code Person}.
+     * Returns an unmodifiable view of the filtered list of {@code Person}, ranked by the current predicate if it is a
+     * {@code RankedPredicate}.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return rankedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        limitedSearch = null;
+        filteredPersons.setPredicate(predicate == PREDICATE_SHOW_ALL_PERSONS
+                ? predicate
+                : addressBook.getSearchIndex().filterFor(predicate, userPrefs.getParallelFilterThreshold()));
+        rankedPersons.setComparator(rankingOf(predicate));
     }
 
-    //=========== Sorting Methods ============================================================================
+    @Override
+    public Runnable saveFilteredPersonListFilter() {
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        Comparator<? super Person> ranking = rankedPersons.getComparator();
+        LimitedSearch search = limitedSearch;
+        return () -> {
+            limitedSearch = search;
+            filteredPersons.setPredicate(predicate);
+            rankedPersons.setComparator(ranking);
+        };
+    }
 
-    /**
-     * Sorts the entire address book by favorite status.
-     * Favorite contacts appear first, followed by non-favorites.
-     * Within each group, the original order is preserved.
-     */
-    private void sortByFavoriteStatus() {
-        sortByFavoriteStatus(null);
+    private static Comparator<Person> rankingOf(Predicate<Person> predicate) {
+        return predicate instanceof RankedPredicate
+                ? ((RankedPredicate) predicate).getRanking().orElse(null)
+                : null;
+    }
+
+    @Override
+    public boolean updateFilteredPersonListToTop(ScoredPredicate predicate, int limit) {
+        requireNonNull(predicate);
+        limitedSearch = null;
+        // one person more than the limit tells whether the persons shown are all that score
+        List<Person> topPersons = addressBook.getSearchIndex().findTop(predicate, limit + 1);
+        boolean isTruncated = topPersons.size() > limit;
+        int shownCount = Math.min(topPersons.size(), limit);
+        // keyed by id, so that an edited person keeps its place among the persons shown
+        Map<Integer, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < shownCount; i++) {
+            ranks.put(topPersons.get(i).getId(), i);
+        }
+        // only the persons shown are sorted, by their rank in the top persons
+        filteredPersons.setPredicate(person -> ranks.containsKey(person.getId()));
+        // persons outside the top ones reach the comparator while a later filter replaces this one
+        rankedPersons.setComparator(Comparator.comparingInt(person -> ranks.getOrDefault(person.getId(), shownCount)));
+        return isTruncated;
+    }
+
+    @Override
+    public void updateFilteredPersonListToFirst(Predicate<Person> predicate, int limit) {
+        requireNonNull(predicate);
+        limitedSearch = new LimitedSearch(predicate, limit);
+        limitedSearch.findMore(addressBook.getPersonList());
+        filteredPersons.setPredicate(limitedSearch::isFound);
+        rankedPersons.setComparator(rankingOf(predicate));
+    }
+
+    @Override
+    public boolean canShowMorePersons() {
+        return limitedSearch != null && !limitedSearch.isExhausted(addressBook.getPersonList());
+    }
+
+    @Override
+    public void showMorePersons() {
+        if (!canShowMorePersons()) {
+            throw new IllegalStateException("No limited search has persons left to test");
+        }
+        limitedSearch.findMore(addressBook.getPersonList());
+        // a new predicate, so that the filtered list tests every person again
+        filteredPersons.setPredicate(limitedSearch::isFound);
     }
 
     /**
-     * Sorts the address book by favorite status, with special handling for the edited person.
-     * If a person is newly favorited, they are placed at the top of the favorites group.
-     * If a person is unfavorited, they are placed at the bottom of the non-favorites group.
-     *
-     * @param editedPerson The person whose favorite status was changed, or null for general sorting
+     * Keeps the cursor of the limited search being shown, if any, in step with {@code change} to the person list.
      */
-    private void sortByFavoriteStatus(Person editedPerson) {
-        ObservableList<Person> personList = addressBook.getPersonList();
-        List<Person> allPersons = new ArrayList<>(personList);
+    private void updateLimitedSearch(ListChangeListener.Change<? extends Person> change) {
+        if (limitedSearch != null) {
+            limitedSearch.updateCursor(change);
+        }
+    }
 
-        List<Person> favorites = new ArrayList<>();
-        List<Person> nonFavorites = new ArrayList<>();
+    //=========== Saved Views ================================================================================
 
-        if (editedPerson != null && editedPerson.getFavorite().getIsFavorite()) {
-            favorites.add(editedPerson);
-        }
+    @Override
+    public void addSavedView(String name, String query, Predicate<Person> predicate) {
+        requireAllNonNull(name, query, predicate);
+        List<Person> matchingPersons = addressBook.findPersons(predicate, userPrefs.getParallelFilterThreshold());
+        savedViews.put(name, new SavedView(query, predicate, matchingPersons));
+        userPrefs.addSavedView(name, query);
+    }
 
-        for (Person person : allPersons) {
-            if (editedPerson != null && person.equals(editedPerson)) {
-                continue;
-            }
+    @Override
+    public boolean hasSavedView(String name) {
+        requireNonNull(name);
+        return savedViews.containsKey(name);
+    }
 
-            if (person.getFavorite().getIsFavorite()) {
-                favorites.add(person);
-            } else {
-                nonFavorites.add(person);
-            }
-        }
+    /**
+     * {@inheritDoc}
+     * Each person is looked up in the view rather than tested against the query of the view.
+     */
+    @Override
+    public void updateFilteredPersonListToSavedView(String name) {
+        SavedView view = savedViews.get(requireNonNull(name));
+        checkArgument(view != null, "No saved view named " + name);
+        limitedSearch = null;
+        filteredPersons.setPredicate(view::contains);
+        rankedPersons.setComparator(rankingOf(view.getPredicate()));
+    }
 
-        if (editedPerson != null && !editedPerson.getFavorite().getIsFavorite()) {
-            nonFavorites.add(editedPerson);
+    /**
+     * Updates every saved view for the persons removed from and added to the address book in {@code change}.
+     */
+    private void updateSavedViews(ListChangeListener.Change<? extends Person> change) {
+        if (savedViews.isEmpty()) {
+            return;
         }
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        while (change.next()) {
+            removed.addAll(change.getRemoved());
+            added.addAll(change.getAddedSubList());
+        }
+        savedViews.values().forEach(view -> view.update(removed, added));
+    }
 
-        List<Person> sortedList = new ArrayList<>();
-        sortedList.addAll(favorites);
-        sortedList.addAll(nonFavorites);
-
-        addressBook.setPersons(sortedList);
+    @Override
+    public QueryPlan getQueryPlan(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return QueryPlan.of(predicate, addressBook.getSearchIndex());
     }
 
     @Override
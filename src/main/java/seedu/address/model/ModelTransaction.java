@@ -0,0 +1,17 @@
+package seedu.address.model;
+
+/**
+ * A batch of operations on a {@code Model} that is applied as a whole or not at all.
+ *
+ * @param <T> the type of the result of the batch.
+ * @param <E> the type of exception the batch may throw to abort.
+ * @see Model#runInTransaction(ModelTransaction)
+ */
+@FunctionalInterface
+public interface ModelTransaction<T, E extends Exception> {
+
+    /**
+     * Performs the batch against {@code model} and returns its result.
+     */
+    T run(Model model) throws E;
+}
@@ -14,4 +14,9 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the number of times the address book has been modified, which grows with every modification.
+     */
+    long getVersion();
+
 }
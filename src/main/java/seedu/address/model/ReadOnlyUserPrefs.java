@@ -20,4 +20,19 @@ public interface ReadOnlyUserPrefs {
      */
     Map<String, String> getCommandAliases();
 
+    /**
+     * Returns the saved views, each mapped from its name to the {@code find} arguments that it shows.
+     */
+    Map<String, String> getSavedViews();
+
+    /**
+     * Returns the number of persons from which predicates that the search index cannot answer are tested in parallel.
+     */
+    int getParallelFilterThreshold();
+
+    /**
+     * Returns the number of times the prefs have been modified, which grows with every modification.
+     */
+    long getVersion();
+
 }
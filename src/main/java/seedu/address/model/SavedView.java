@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons of an address book that satisfy a saved query, kept up to date as persons are added, edited and removed
+ * by testing only the persons that changed. The view can then be shown again by looking persons up, without testing
+ * every person against the query.
+ */
+class SavedView {
+
+    private final String query;
+    private final Predicate<Person> predicate;
+    private final Set<Integer> matchingIds = new HashSet<>();
+
+    /**
+     * Creates a view of the persons satisfying {@code predicate}, which was parsed from {@code query}, starting with
+     * {@code matchingPersons}, the persons that satisfy it now.
+     */
+    SavedView(String query, Predicate<Person> predicate, List<Person> matchingPersons) {
+        requireAllNonNull(query, predicate, matchingPersons);
+        this.query = query;
+        this.predicate = predicate;
+        matchingPersons.forEach(person -> matchingIds.add(person.getId()));
+    }
+
+    /**
+     * Updates the view for {@code removed} persons having left the address book and {@code added} persons having
+     * joined it. An edited person is removed in its old form and added in its new one.
+     */
+    void update(Collection<? extends Person> removed, Collection<? extends Person> added) {
+        // removals go first, as a person that moves within the list is both removed and added
+        removed.forEach(person -> matchingIds.remove(person.getId()));
+        for (Person person : added) {
+            if (predicate.test(person)) {
+                matchingIds.add(person.getId());
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code person} is in the view.
+     */
+    boolean contains(Person person) {
+        return matchingIds.contains(person.getId());
+    }
+
+    /**
+     * Returns the number of persons in the view.
+     */
+    int size() {
+        return matchingIds.size();
+    }
+
+    String getQuery() {
+        return query;
+    }
+
+    Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("size", matchingIds.size())
+                .toString();
+    }
+}
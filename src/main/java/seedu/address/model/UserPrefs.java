@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -15,9 +16,18 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 50_000;
+
+    public static final String MESSAGE_INVALID_PARALLEL_FILTER_THRESHOLD =
+            "Parallel filter threshold must be positive";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Map<String, String> commandAliases = new HashMap<>();
+    private Map<String, String> savedViews = new HashMap<>();
+    private int parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
+    // not saved with the prefs, as it only tells whether they changed since the app started
+    private transient long version;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,6 +50,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setCommandAliases(new HashMap<>(newUserPrefs.getCommandAliases()));
+        setSavedViews(newUserPrefs.getSavedViews());
+        setParallelFilterThreshold(newUserPrefs.getParallelFilterThreshold());
     }
 
     public GuiSettings getGuiSettings() {
@@ -49,6 +61,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setGuiSettings(GuiSettings guiSettings) {
         requireNonNull(guiSettings);
         this.guiSettings = guiSettings;
+        version++;
     }
 
     public Path getAddressBookFilePath() {
@@ -58,6 +71,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setAddressBookFilePath(Path addressBookFilePath) {
         requireNonNull(addressBookFilePath);
         this.addressBookFilePath = addressBookFilePath;
+        version++;
     }
 
     @Override
@@ -68,6 +82,29 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setCommandAliases(Map<String, String> commandAliases) {
         requireNonNull(commandAliases);
         this.commandAliases = new HashMap<>(commandAliases);
+        version++;
+    }
+
+    @Override
+    public Map<String, String> getSavedViews() {
+        return new HashMap<>(savedViews);
+    }
+
+    public void setSavedViews(Map<String, String> savedViews) {
+        requireNonNull(savedViews);
+        this.savedViews = new HashMap<>(savedViews);
+        version++;
+    }
+
+    @Override
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        checkArgument(parallelFilterThreshold > 0, MESSAGE_INVALID_PARALLEL_FILTER_THRESHOLD);
+        this.parallelFilterThreshold = parallelFilterThreshold;
+        version++;
     }
 
     /**
@@ -80,6 +117,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(alias);
         requireNonNull(commandString);
         this.commandAliases.put(alias, commandString);
+        version++;
     }
 
     /**
@@ -90,7 +128,29 @@ public class UserPrefs implements ReadOnlyUserPrefs {
      */
     public String removeAlias(String alias) {
         requireNonNull(alias);
-        return this.commandAliases.remove(alias);
+        String commandString = this.commandAliases.remove(alias);
+        if (commandString != null) {
+            version++;
+        }
+        return commandString;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Adds a saved view, replacing any saved view with the same name.
+     *
+     * @param name The name of the view.
+     * @param query The {@code find} arguments that the view shows.
+     */
+    public void addSavedView(String name, String query) {
+        requireNonNull(name);
+        requireNonNull(query);
+        this.savedViews.put(name, query);
+        version++;
     }
 
     @Override
@@ -106,12 +166,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && commandAliases.equals(otherUserPrefs.commandAliases);
+                && commandAliases.equals(otherUserPrefs.commandAliases)
+                && savedViews.equals(otherUserPrefs.savedViews)
+                && parallelFilterThreshold == otherUserPrefs.parallelFilterThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, commandAliases);
+        return Objects.hash(guiSettings, addressBookFilePath, commandAliases, savedViews, parallelFilterThreshold);
     }
 
     @Override
@@ -120,6 +182,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nCommand Aliases : " + commandAliases);
+        sb.append("\nSaved Views : " + savedViews);
+        sb.append("\nParallel filter threshold : " + parallelFilterThreshold);
         return sb.toString();
     }
 
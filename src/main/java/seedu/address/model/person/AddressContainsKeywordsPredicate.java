@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonSearchIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Address} contains the keywords given, in order and separated by whitespace,
+ * ignoring case. The keywords need not be whole words, so that "kent ridge" matches "21 Lower Kent Ridge Road" and
+ * "#05-1" matches "Blk 7 #05-12".
+ */
+public class AddressContainsKeywordsPredicate implements IndexedPredicate {
+    private final List<String> keywords;
+    private final String foldedText;
+
+    /**
+     * Creates a predicate matching addresses that contain {@code keywords}.
+     */
+    public AddressContainsKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.foldedText = SearchKeys.foldText(String.join(" ", keywords));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        // like the other keyword predicates, no keywords match no one
+        return !foldedText.isEmpty() && person.getSearchKeys().getAddress().contains(foldedText);
+    }
+
+    @Override
+    public BitSet resolve(PersonSearchIndex index) {
+        return foldedText.isEmpty() ? new BitSet() : index.getOrdinalsWithAddressContaining(foldedText);
+    }
+
+    /**
+     * Returns the number of persons whose address is compared with the keywords, which is at least the number of
+     * persons whose address contains them.
+     */
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        return foldedText.isEmpty() ? 0 : index.countAddressCandidates(foldedText);
+    }
+
+    @Override
+    public String describe() {
+        return "address: " + String.join(" ", keywords);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        AddressContainsKeywordsPredicate otherPredicate = (AddressContainsKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonSearchIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Email} matches any of the keywords given, ignoring case.
+ * A keyword with a user name, such as "alice@u.nus.edu", matches that email only. Any other keyword, such as
+ * "@comp.nus.edu.sg" or "nus.edu.sg", is a domain, and matches the emails in that domain or in one of its subdomains.
+ */
+public class EmailMatchesKeywordsPredicate implements IndexedPredicate {
+    private final List<String> keywords;
+    private final String[] foldedEmails;
+    private final String[] foldedDomains;
+
+    /**
+     * Creates a predicate matching emails that are, or are in the domain of, any of {@code keywords}.
+     */
+    public EmailMatchesKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        List<String> emails = new ArrayList<>();
+        List<String> domains = new ArrayList<>();
+        for (String keyword : SearchKeys.foldKeywords(keywords, true)) {
+            int at = keyword.lastIndexOf('@');
+            if (at > 0) {
+                emails.add(keyword);
+            } else if (at + 1 < keyword.length()) {
+                // a keyword of only "@" has no domain to match
+                domains.add(keyword.substring(at + 1));
+            }
+        }
+        this.foldedEmails = emails.toArray(new String[0]);
+        this.foldedDomains = domains.toArray(new String[0]);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        SearchKeys keys = person.getSearchKeys();
+        for (String email : foldedEmails) {
+            if (keys.getEmail().equals(email)) {
+                return true;
+            }
+        }
+        String emailDomain = keys.getEmailDomain();
+        for (String domain : foldedDomains) {
+            if (emailDomain.equals(domain) || emailDomain.endsWith("." + domain)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public BitSet resolve(PersonSearchIndex index) {
+        BitSet ordinals = new BitSet();
+        for (String email : foldedEmails) {
+            ordinals.or(index.getOrdinalsWithEmail(email));
+        }
+        for (String domain : foldedDomains) {
+            ordinals.or(index.getOrdinalsWithEmailDomain(domain));
+        }
+        return ordinals;
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        long matches = 0;
+        for (String email : foldedEmails) {
+            matches += index.countEmailCandidates(email);
+        }
+        for (String domain : foldedDomains) {
+            matches += index.countWithEmailDomain(domain);
+        }
+        return (int) Math.min(matches, index.size());
+    }
+
+    @Override
+    public String describe() {
+        return "email: " + String.join(" ", keywords);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EmailMatchesKeywordsPredicate)) {
+            return false;
+        }
+
+        EmailMatchesKeywordsPredicate otherPredicate = (EmailMatchesKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -1,29 +1,53 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonSearchIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Faculty} matches any of the keywords given.
  */
-public class FacultyContainsKeywordsPredicate implements Predicate<Person> {
+public class FacultyContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
+    /**
+     * Creates a predicate matching any of {@code keywords}.
+     */
     public FacultyContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = SearchKeys.foldKeywords(keywords, true);
     }
 
     @Override
     public boolean test(Person person) {
-        if (keywords.isEmpty()) {
-            return false;
+        return SearchKeys.containsAny(person.getSearchKeys().getFacultyWords(), foldedKeywords);
+    }
+
+    @Override
+    public BitSet resolve(PersonSearchIndex index) {
+        BitSet ordinals = new BitSet();
+        for (String keyword : foldedKeywords) {
+            ordinals.or(index.getOrdinalsWithFacultyWord(keyword));
         }
-        return person.getFaculties().stream()
-                .anyMatch(faculty -> keywords.stream()
-                        .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(faculty.facultyName, keyword)));
+        return ordinals;
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        long matches = 0;
+        for (String keyword : foldedKeywords) {
+            matches += index.countWithFacultyWord(keyword);
+        }
+        return (int) Math.min(matches, index.size());
+    }
+
+    @Override
+    public String describe() {
+        return "faculty: " + String.join(" ", keywords);
     }
 
     @Override
@@ -1,28 +1,102 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonSearchIndex;
 
 /**
- * Tests that a {@code Person}'s {@code Module} matches any of the keywords given.
+ * Tests that a {@code Person}'s {@code Module} matches any of the keywords given, ignoring case.
+ * A keyword ending with {@value #WILDCARD}, such as "CS21*", matches the modules starting with the rest of it, and a
+ * keyword with {@value #RANGE_SEPARATOR}, such as "CS2000..CS2999", matches the modules from the code before it to the
+ * code after it in alphabetical order, including the modules starting with the latter, such as "CS2999T". Either end
+ * of a range may be left out. Any other keyword matches a whole module.
  */
-public class ModuleContainsKeywordsPredicate implements Predicate<Person> {
+public class ModuleContainsKeywordsPredicate implements IndexedPredicate {
+
+    public static final String WILDCARD = "*";
+    public static final String RANGE_SEPARATOR = "..";
+
     private final List<String> keywords;
+    private final String[] foldedKeywords;
+    // the ends of the ranges, including those of wildcard keywords, which are ranges from their prefix to itself
+    private final String[] rangeStarts;
+    private final String[] rangeEnds;
 
+    /**
+     * Creates a predicate matching any of {@code keywords}.
+     */
     public ModuleContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        List<String> exact = new ArrayList<>();
+        List<String> starts = new ArrayList<>();
+        List<String> ends = new ArrayList<>();
+        for (String keyword : SearchKeys.foldKeywords(keywords, true)) {
+            int separator = keyword.indexOf(RANGE_SEPARATOR);
+            if (separator >= 0) {
+                starts.add(keyword.substring(0, separator));
+                ends.add(keyword.substring(separator + RANGE_SEPARATOR.length()));
+            } else if (keyword.endsWith(WILDCARD)) {
+                String prefix = keyword.substring(0, keyword.length() - WILDCARD.length());
+                starts.add(prefix);
+                ends.add(prefix);
+            } else {
+                exact.add(keyword);
+            }
+        }
+        this.foldedKeywords = exact.toArray(new String[0]);
+        this.rangeStarts = starts.toArray(new String[0]);
+        this.rangeEnds = ends.toArray(new String[0]);
     }
 
     @Override
     public boolean test(Person person) {
-        if (keywords.isEmpty()) {
-            return false;
+        if (SearchKeys.containsAny(person.getSearchKeys().getModuleWords(), foldedKeywords)) {
+            return true;
+        }
+        for (String word : person.getSearchKeys().getModuleWords()) {
+            for (int i = 0; i < rangeStarts.length; i++) {
+                if (isInRange(word, rangeStarts[i], rangeEnds[i])) {
+                    return true;
+                }
+            }
         }
-        return person.getModules().stream()
-                .anyMatch(module -> keywords.stream()
-                        .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(module.moduleName, keyword)));
+        return false;
+    }
+
+    private static boolean isInRange(String word, String start, String end) {
+        return word.compareTo(start) >= 0 && (word.compareTo(end) <= 0 || word.startsWith(end));
+    }
+
+    @Override
+    public BitSet resolve(PersonSearchIndex index) {
+        BitSet ordinals = new BitSet();
+        for (String keyword : foldedKeywords) {
+            ordinals.or(index.getOrdinalsWithModuleWord(keyword));
+        }
+        for (int i = 0; i < rangeStarts.length; i++) {
+            ordinals.or(index.getOrdinalsWithModuleWordInRange(rangeStarts[i], rangeEnds[i]));
+        }
+        return ordinals;
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        long matches = 0;
+        for (String keyword : foldedKeywords) {
+            matches += index.countWithModuleWord(keyword);
+        }
+        for (int i = 0; i < rangeStarts.length; i++) {
+            matches += index.countWithModuleWordInRange(rangeStarts[i], rangeEnds[i]);
+        }
+        return (int) Math.min(matches, index.size());
+    }
+
+    @Override
+    public String describe() {
+        return "module: " + String.join(" ", keywords);
     }
 
     @Override
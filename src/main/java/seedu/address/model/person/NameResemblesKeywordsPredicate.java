@@ -0,0 +1,120 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.RankedPredicate;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} has a word within a few typos of any of the keywords given, ignoring
+ * case. Adjacent words are also compared joined together, on both sides, so that "Wei Ming" matches "Weiming".
+ * Matching persons are ranked by their smallest edit distance to a keyword.
+ */
+public class NameResemblesKeywordsPredicate implements IndexedPredicate, RankedPredicate {
+    private final List<String> keywords;
+    private final String[] terms;
+
+    /**
+     * Creates a predicate matching names that resemble any of {@code keywords}.
+     */
+    public NameResemblesKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.terms = SearchKeys.foldTerms(keywords);
+    }
+
+    /**
+     * Returns the number of edits allowed between {@code term} and a name term that resembles it.
+     * Short terms allow fewer edits, as they would otherwise resemble too many names.
+     */
+    static int maxDistanceFor(String term) {
+        if (term.length() <= 2) {
+            return 0;
+        }
+        return term.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the smallest edit distance between a keyword and a name term of {@code person}, or
+     * {@code Integer.MAX_VALUE} if none are within the allowed distance.
+     */
+    public int distanceTo(Person person) {
+        int distance = Integer.MAX_VALUE;
+        for (String term : terms) {
+            int maxDistance = maxDistanceFor(term);
+            for (String nameTerm : person.getSearchKeys().getNameTerms()) {
+                int termDistance = StringUtil.editDistanceWithin(term, nameTerm, maxDistance);
+                if (termDistance <= maxDistance) {
+                    distance = Math.min(distance, termDistance);
+                }
+            }
+        }
+        return distance;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return distanceTo(person) != Integer.MAX_VALUE;
+    }
+
+    @Override
+    public BitSet resolve(PersonSearchIndex index) {
+        BitSet ordinals = new BitSet();
+        for (String term : terms) {
+            ordinals.or(index.getOrdinalsWithNameTermWithin(term, maxDistanceFor(term)));
+        }
+        return ordinals;
+    }
+
+    /**
+     * Returns the number of indexed persons, as the index has no statistics for how many names resemble a keyword.
+     */
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        return index.size();
+    }
+
+    /**
+     * Returns the number of edit distances that resolving may have to compute, which is at most one per keyword and
+     * name term.
+     */
+    @Override
+    public long estimateLookupCost(PersonSearchIndex index) {
+        return (long) terms.length * index.countNameTerms();
+    }
+
+    @Override
+    public String describe() {
+        return "name resembling: " + String.join(" ", keywords);
+    }
+
+    @Override
+    public Optional<Comparator<Person>> getRanking() {
+        return Optional.of(Comparator.comparingInt(this::distanceTo));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameResemblesKeywordsPredicate)) {
+            return false;
+        }
+
+        NameResemblesKeywordsPredicate otherPredicate = (NameResemblesKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
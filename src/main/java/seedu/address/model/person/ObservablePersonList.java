@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list of persons that can also move a person to a new position, or make a batch of changes,
+ * as a single list change.
+ */
+class ObservablePersonList extends ModifiableObservableListBase<Person> {
+
+    private final List<Person> persons = new ArrayList<>();
+
+    /**
+     * Removes the person at {@code from} and inserts {@code person} at {@code to}, where {@code to} is a position in
+     * the list after the removal. Listeners are notified once, with a change covering both steps.
+     *
+     * @return the person removed.
+     */
+    public Person move(int from, int to, Person person) {
+        beginChange();
+        try {
+            Person removed = remove(from);
+            add(to, person);
+            return removed;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Holds back notifications until the matching {@link #endBatch()}, when listeners are notified once, with a
+     * change covering every change made in between. Batches may be nested.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the batch begun by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public Person get(int index) {
+        return persons.get(index);
+    }
+
+    @Override
+    public int size() {
+        return persons.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Person element) {
+        persons.add(index, element);
+    }
+
+    @Override
+    protected Person doSet(int index, Person element) {
+        return persons.set(index, element);
+    }
+
+    @Override
+    protected Person doRemove(int index) {
+        return persons.remove(index);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
@@ -16,9 +17,20 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Each person may also carry an internal id, assigned by {@link UniquePersonList} on insert and kept across edited
+ * copies. The id is a lookup key only: it is not shown to the user and takes no part in equality.
  */
 public class Person {
 
+    /** Id of a person that has not yet been added to a {@link UniquePersonList}. */
+    public static final int UNASSIGNED_ID = 0;
+
+    public static final String MESSAGE_INVALID_ID = "Person id must not be negative";
+
+    // Internal id
+    private final int id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -31,8 +43,12 @@ public class Person {
     private final Set<Faculty> faculties = new HashSet<>();
     private final Favorite favorite;
 
+    // Computed on first use; the person is immutable, so a racy second computation yields equal keys.
+    private SearchKeys searchKeys;
+
     /**
      * Every field must be present and not null.
+     * The person is created without an id.
      */
     public Person(
         Name name,
@@ -43,8 +59,27 @@ public class Person {
         Set<Module> modules,
         Set<Faculty> faculties,
         Favorite favorite) {
+        this(name, phone, email, address, tags, modules, faculties, favorite, UNASSIGNED_ID);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * {@code id} must be positive, or {@link #UNASSIGNED_ID}.
+     */
+    public Person(
+        Name name,
+        Phone phone,
+        Email email,
+        Address address,
+        Set<Tag> tags,
+        Set<Module> modules,
+        Set<Faculty> faculties,
+        Favorite favorite,
+        int id) {
         requireAllNonNull(name, phone, email, address, tags, modules, faculties, favorite);
+        checkArgument(id >= UNASSIGNED_ID, MESSAGE_INVALID_ID);
 
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -55,6 +90,29 @@ public class Person {
         this.favorite = favorite;
     }
 
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns true if this person has been given an id.
+     */
+    public boolean hasId() {
+        return id != UNASSIGNED_ID;
+    }
+
+    /**
+     * Returns a copy of this person with the given {@code id} and the same details.
+     */
+    public Person withId(int id) {
+        if (id == this.id) {
+            return this;
+        }
+        Person copy = new Person(name, phone, email, address, tags, modules, faculties, favorite, id);
+        copy.searchKeys = searchKeys;
+        return copy;
+    }
+
     public Name getName() {
         return name;
     }
@@ -99,6 +157,18 @@ public class Person {
         return favorite;
     }
 
+    /**
+     * Returns the case-folded keys this person is searched by, computing them on the first call.
+     */
+    public SearchKeys getSearchKeys() {
+        SearchKeys keys = searchKeys;
+        if (keys == null) {
+            keys = new SearchKeys(this);
+            searchKeys = keys;
+        }
+        return keys;
+    }
+
     /**
      * Returns true if both persons have the same name or the same phone number.
      * This defines a weaker notion of equality between two persons.
@@ -121,6 +191,7 @@ public class Person {
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The internal id is not compared.
      */
     @Override
     public boolean equals(Object other) {
@@ -0,0 +1,126 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.ScoredPredicate;
+
+/**
+ * Tests that a word of a {@code Person}'s name, email, modules or faculties, or one of its tags, starts with any of
+ * the keywords given, ignoring case.
+ * Matching persons are scored by how well each keyword matches: a keyword scores the weight of the best field it is
+ * found in, multiplied by {@link #WHOLE_WORD_FACTOR} if it is a whole word rather than the start of one.
+ */
+public class PersonMatchesKeywordsPredicate implements ScoredPredicate {
+
+    public static final int NAME_WEIGHT = 8;
+    public static final int TAG_WEIGHT = 4;
+    public static final int MODULE_WEIGHT = 4;
+    public static final int FACULTY_WEIGHT = 2;
+    public static final int EMAIL_WEIGHT = 1;
+    public static final int WHOLE_WORD_FACTOR = 3;
+
+    private final List<String> keywords;
+    private final String[] foldedKeywords;
+
+    /**
+     * Creates a predicate matching persons with a word starting with any of {@code keywords}.
+     */
+    public PersonMatchesKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        // an empty keyword would start every word
+        this.foldedKeywords = Arrays.stream(SearchKeys.foldKeywords(keywords, true))
+                .filter(keyword -> !keyword.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public int score(Person person) {
+        SearchKeys keys = person.getSearchKeys();
+        int score = 0;
+        for (String keyword : foldedKeywords) {
+            int keywordScore = NAME_WEIGHT * matchFactor(keys.getNameWords(), keyword);
+            keywordScore = Math.max(keywordScore, TAG_WEIGHT * matchFactor(keys.getTagNames(), keyword));
+            keywordScore = Math.max(keywordScore, MODULE_WEIGHT * matchFactor(keys.getModuleWords(), keyword));
+            keywordScore = Math.max(keywordScore, FACULTY_WEIGHT * matchFactor(keys.getFacultyWords(), keyword));
+            keywordScore = Math.max(keywordScore, EMAIL_WEIGHT * matchFactor(keys.getEmailWords(), keyword));
+            score += keywordScore;
+        }
+        return score;
+    }
+
+    /**
+     * Returns {@link #WHOLE_WORD_FACTOR} if {@code words} contains {@code keyword}, 1 if a word only starts with it,
+     * or 0 if no word does.
+     */
+    private static int matchFactor(Set<String> words, String keyword) {
+        if (words.contains(keyword)) {
+            return WHOLE_WORD_FACTOR;
+        }
+        for (String word : words) {
+            if (word.startsWith(keyword)) {
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public BitSet resolve(PersonSearchIndex index) {
+        BitSet ordinals = new BitSet();
+        for (String keyword : foldedKeywords) {
+            ordinals.or(index.getOrdinalsWithKeyPrefix(keyword));
+        }
+        return ordinals;
+    }
+
+    /**
+     * Returns the number of postings that resolving reads, or the number of indexed persons if that is fewer, as a
+     * person may have more than one key starting with the keywords.
+     */
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        return (int) Math.min(index.size(), estimateLookupCost(index));
+    }
+
+    /**
+     * Returns the number of postings that resolving reads: those of the keys starting with each keyword.
+     */
+    @Override
+    public long estimateLookupCost(PersonSearchIndex index) {
+        long cost = 0;
+        for (String keyword : foldedKeywords) {
+            cost += index.countWithKeyPrefix(keyword);
+        }
+        return cost;
+    }
+
+    @Override
+    public String describe() {
+        return "any field: " + String.join(" ", keywords);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonMatchesKeywordsPredicate)) {
+            return false;
+        }
+
+        PersonMatchesKeywordsPredicate otherPredicate = (PersonMatchesKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonSearchIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Phone} starts with any of the keywords given, so that "9123" matches
+ * "91234567".
+ */
+public class PhoneStartsWithKeywordsPredicate implements IndexedPredicate {
+    private final List<String> keywords;
+    private final String[] prefixes;
+
+    /**
+     * Creates a predicate matching phone numbers that start with any of {@code keywords}.
+     */
+    public PhoneStartsWithKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        // an empty keyword would start every phone number
+        this.prefixes = keywords.stream()
+                .map(String::trim)
+                .filter(keyword -> !keyword.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String phone = person.getSearchKeys().getPhone();
+        for (String prefix : prefixes) {
+            if (phone.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public BitSet resolve(PersonSearchIndex index) {
+        BitSet ordinals = new BitSet();
+        for (String prefix : prefixes) {
+            ordinals.or(index.getOrdinalsWithPhonePrefix(prefix));
+        }
+        return ordinals;
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        long matches = 0;
+        for (String prefix : prefixes) {
+            matches += index.countWithPhonePrefix(prefix);
+        }
+        return (int) Math.min(matches, index.size());
+    }
+
+    @Override
+    public String describe() {
+        return "phone: " + String.join(" ", keywords);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhoneStartsWithKeywordsPredicate)) {
+            return false;
+        }
+
+        PhoneStartsWithKeywordsPredicate otherPredicate = (PhoneStartsWithKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
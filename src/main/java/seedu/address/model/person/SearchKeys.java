@@ -0,0 +1,177 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.faculty.Faculty;
+import seedu.address.model.module.Module;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The case-folded keys that a {@code Person} is searched by, as produced by {@link StringUtil#foldCase(String)}.
+ * Names, modules and faculties contribute each of their words, while tags contribute their whole name. Emails
+ * contribute each of their runs of letters and digits, such as the user name and the parts of the domain, and are also
+ * kept whole, for domain searches. Addresses are kept whole, for substring searches, with {@link #foldText(String)}
+ * applied. Phone numbers are kept as they are, as they consist of digits only.
+ * Guarantees: immutable.
+ */
+public final class SearchKeys {
+
+    private static final Pattern EMAIL_SEPARATOR = Pattern.compile("[^\\p{Alnum}]+");
+
+    private final Set<String> nameWords;
+    private final Set<String> nameTerms;
+    private final Set<String> tagNames;
+    private final Set<String> moduleWords;
+    private final Set<String> facultyWords;
+    private final Set<String> emailWords;
+    private final String email;
+    private final String address;
+    private final String phone;
+
+    /**
+     * Computes the search keys of {@code person}.
+     */
+    SearchKeys(Person person) {
+        // the keys are kept in compact immutable sets, which take less memory and are quicker to scan than HashSets
+        Set<String> names = new HashSet<>();
+        addFoldedWords(names, person.getName().fullName);
+        nameWords = Set.copyOf(names);
+        List<String> words = Arrays.asList(StringUtil.splitWords(person.getName().fullName));
+        nameTerms = Set.copyOf(Arrays.asList(foldTerms(words)));
+
+        Set<String> tags = new HashSet<>();
+        for (Tag tag : person.getTags()) {
+            tags.add(StringUtil.foldCase(tag.tagName));
+        }
+        tagNames = Set.copyOf(tags);
+
+        Set<String> modules = new HashSet<>();
+        for (Module module : person.getModules()) {
+            addFoldedWords(modules, module.moduleName);
+        }
+        moduleWords = Set.copyOf(modules);
+
+        Set<String> faculties = new HashSet<>();
+        for (Faculty faculty : person.getFaculties()) {
+            addFoldedWords(faculties, faculty.facultyName);
+        }
+        facultyWords = Set.copyOf(faculties);
+
+        Set<String> emails = new HashSet<>();
+        for (String word : EMAIL_SEPARATOR.split(person.getEmail().value)) {
+            if (!word.isEmpty()) {
+                emails.add(StringUtil.foldCase(word));
+            }
+        }
+        emailWords = Set.copyOf(emails);
+        email = StringUtil.foldCase(person.getEmail().value);
+
+        address = foldText(person.getAddress().value);
+        phone = person.getPhone().value;
+    }
+
+    /**
+     * Returns {@code text} case-folded, with leading and trailing whitespace removed and each other run of whitespace
+     * replaced by one space, so that substring searches ignore case and spacing.
+     */
+    public static String foldText(String text) {
+        return StringUtil.foldCase(String.join(" ", StringUtil.splitWords(text)));
+    }
+
+    /**
+     * Returns the distinct case-folded forms of {@code keywords}, in their original order, for looking up in the
+     * key sets of a {@code SearchKeys}. Each keyword is trimmed first if {@code isTrimmed} is true.
+     */
+    static String[] foldKeywords(List<String> keywords, boolean isTrimmed) {
+        Set<String> folded = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            folded.add(StringUtil.foldCase(isTrimmed ? keyword.trim() : keyword));
+        }
+        return folded.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the distinct case-folded forms of {@code words}, trimmed, followed by each pair of adjacent words joined
+     * together. The joined pairs let names that differ only in where a word is split, such as "Wei Ming" and
+     * "Weiming", be compared word for word.
+     */
+    static String[] foldTerms(List<String> words) {
+        String[] foldedWords = foldKeywords(words, true);
+        Set<String> terms = new LinkedHashSet<>(Arrays.asList(foldedWords));
+        for (int i = 1; i < words.size(); i++) {
+            terms.add(StringUtil.foldCase(words.get(i - 1).trim() + words.get(i).trim()));
+        }
+        return terms.toArray(new String[0]);
+    }
+
+    /**
+     * Returns true if {@code keys} contains any of {@code foldedKeywords}.
+     */
+    static boolean containsAny(Set<String> keys, String[] foldedKeywords) {
+        for (String keyword : foldedKeywords) {
+            if (keys.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Set<String> getNameWords() {
+        return nameWords;
+    }
+
+    /**
+     * Returns the words of the name together with each pair of adjacent words joined, as compared by fuzzy name
+     * searches.
+     */
+    public Set<String> getNameTerms() {
+        return nameTerms;
+    }
+
+    public Set<String> getTagNames() {
+        return tagNames;
+    }
+
+    public Set<String> getModuleWords() {
+        return moduleWords;
+    }
+
+    public Set<String> getFacultyWords() {
+        return facultyWords;
+    }
+
+    public Set<String> getEmailWords() {
+        return emailWords;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Returns the domain of the email, which is the part after its last {@code @}.
+     */
+    public String getEmailDomain() {
+        return email.substring(email.lastIndexOf('@') + 1);
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    private static void addFoldedWords(Set<String> words, String sentence) {
+        for (String word : StringUtil.splitWords(sentence)) {
+            words.add(StringUtil.foldCase(word));
+        }
+    }
+}
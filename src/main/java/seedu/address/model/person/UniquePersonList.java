@@ -3,8 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,83 +25,317 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered from hash indexes on {@code Name} and {@code Phone}, which are kept in sync with the
+ * list on every mutation, so they take expected constant time instead of a scan over the whole list.
+ *
+ * Every person stored in the list carries an id that is unique within the list. A person added without an id, or
+ * with an id already in use, is stored as a copy with a fresh id; a replacement keeps the id of the person it
+ * replaces. Persons passed back in with their id are located through an id-to-position index, so replacing and
+ * removing them does not compare full persons across the list.
+ *
+ * Favorite persons are kept before all other persons. A person who is added as or becomes a favorite is placed first,
+ * and a person who stops being a favorite is placed last; every other mutation keeps the relative order of the rest.
+ * Moving a person between the two groups is reported to listeners as a single change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final ObservablePersonList internalList = new ObservablePersonList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Identity indexes; each name and each phone belongs to at most one person in the list.
+    private Map<Name, Person> personsByName = new HashMap<>();
+    private Map<Phone, Person> personsByPhone = new HashMap<>();
+
+    // Position of each stored person in internalList, keyed by id.
+    private Map<Integer, Integer> positionsById = new HashMap<>();
+    private int nextId = Person.UNASSIGNED_ID + 1;
+
+    // internalList[0, favoriteCount) holds exactly the favorite persons, as asserted after every change.
+    private int favoriteCount = 0;
+
+    // Reverts the changes made since the open batch began, in the order they were made, or null if none is open.
+    private List<UndoStep> undoLog;
+    private int nextIdBeforeBatch;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName()) || personsByPhone.containsKey(toCheck.getPhone());
     }
 
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
+     *
+     * @return the person as stored in the list, which carries its assigned id.
      */
-    public void add(Person toAdd) {
+    public Person add(Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        Person storedPerson = toAdd;
+        if (!toAdd.hasId() || positionsById.containsKey(toAdd.getId())) {
+            storedPerson = toAdd.withId(nextId);
+        }
+        nextId = Math.max(nextId, storedPerson.getId() + 1);
+
+        int index = isFavorite(storedPerson) ? 0 : internalList.size();
+        insertAt(index, storedPerson);
+        recordUndo((removed, restored) -> removed.accept(removeAt(index)));
+        return storedPerson;
+    }
+
+    /**
+     * Adds every person in {@code toAdd} whose identity is not already in the list and not shared with an earlier
+     * person in {@code toAdd}. Duplicates are checked in a single hashed pass and the list is updated with one change,
+     * with the new favorites placed first and the other new persons placed last, each in their given order.
+     *
+     * @return the persons that were skipped as duplicates, in their given order.
+     */
+    public List<Person> addAll(Collection<Person> toAdd) {
+        return addAll(toAdd, person -> {});
+    }
+
+    /**
+     * Adds persons like {@link #addAll(Collection)}, giving each person added, as stored in the list, to
+     * {@code addedPersonConsumer}. Only the persons added are hashed and indexed, so the time taken does not grow with
+     * the number of persons already in the list, except to renumber their positions if any new person is a favorite.
+     *
+     * @return the persons that were skipped as duplicates, in their given order.
+     */
+    public List<Person> addAll(Collection<Person> toAdd, Consumer<Person> addedPersonConsumer) {
+        requireAllNonNull(toAdd);
+        requireNonNull(addedPersonConsumer);
+        List<Person> duplicates = new ArrayList<>();
+        List<Person> newFavorites = new ArrayList<>();
+        List<Person> newOthers = new ArrayList<>();
+        Set<Name> newNames = new HashSet<>(mapCapacityFor(toAdd.size()));
+        Set<Phone> newPhones = new HashSet<>(mapCapacityFor(toAdd.size()));
+        Set<Integer> newIds = new HashSet<>(mapCapacityFor(toAdd.size()));
+        for (Person person : toAdd) {
+            if (contains(person) || newNames.contains(person.getName()) || newPhones.contains(person.getPhone())) {
+                duplicates.add(person);
+                continue;
+            }
+            newNames.add(person.getName());
+            newPhones.add(person.getPhone());
+
+            // an id already in use belongs to the stored person, so the new person is given a fresh one
+            Person newPerson = person;
+            if (!person.hasId() || positionsById.containsKey(person.getId()) || newIds.contains(person.getId())) {
+                newPerson = person.withId(nextId);
+            }
+            newIds.add(newPerson.getId());
+            nextId = Math.max(nextId, newPerson.getId() + 1);
+            if (isFavorite(newPerson)) {
+                newFavorites.add(newPerson);
+            } else {
+                newOthers.add(newPerson);
+            }
+        }
+
+        if (newFavorites.isEmpty() && newOthers.isEmpty()) {
+            return duplicates;
+        }
+        internalList.beginBatch();
+        try {
+            internalList.addAll(0, newFavorites);
+            internalList.addAll(newOthers);
+        } finally {
+            internalList.endBatch();
+        }
+        favoriteCount += newFavorites.size();
+        newFavorites.forEach(this::index);
+        newOthers.forEach(this::index);
+        int size = internalList.size();
+        updatePositions(newFavorites.isEmpty() ? size - newOthers.size() : 0, size);
+        assertFavoritesFirst();
+        recordUndo((removed, restored) -> {
+            removeRange(internalList.size() - newOthers.size(), internalList.size()).forEach(removed);
+            removeRange(0, newFavorites.size()).forEach(removed);
+        });
+
+        newFavorites.forEach(addedPersonConsumer);
+        newOthers.forEach(addedPersonConsumer);
+        return duplicates;
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the edited person as stored in the list, which carries the id of {@code target}.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person storedTarget = internalList.get(index);
+        if (hasIdentityConflict(editedPerson, storedTarget)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person storedPerson = editedPerson.withId(storedTarget.getId());
+        boolean wasFavorite = isFavorite(storedTarget);
+        boolean isFavorite = isFavorite(storedPerson);
+        int newIndex = wasFavorite == isFavorite ? index : isFavorite ? 0 : internalList.size() - 1;
+        moveTo(index, newIndex, storedPerson);
+        recordUndo((removed, restored) -> {
+            removed.accept(moveTo(newIndex, index, storedTarget));
+            restored.accept(storedTarget);
+        });
+        return storedPerson;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the person that was removed, as it was stored in the list.
      */
-    public void remove(Person toRemove) {
+    public Person remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person storedPerson = removeAt(index);
+        recordUndo((removed, restored) -> {
+            insertAt(index, storedPerson);
+            restored.accept(storedPerson);
+        });
+        return storedPerson;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        recordSetPersonsUndo();
         internalList.setAll(replacement.internalList);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        personsByPhone.clear();
+        personsByPhone.putAll(replacement.personsByPhone);
+        positionsById.clear();
+        positionsById.putAll(replacement.positionsById);
+        nextId = replacement.nextId;
+        favoriteCount = replacement.favoriteCount;
+        assertFavoritesFirst();
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException naming the first conflicting pair if {@code persons} contains duplicates.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        int newNextId = Person.UNASSIGNED_ID + 1;
+        for (Person person : persons) {
+            newNextId = Math.max(newNextId, person.getId() + 1);
+        }
+
+        // keep every id that is set and not already taken, so ids survive a save and reload
+        Set<Integer> usedIds = new HashSet<>(mapCapacityFor(persons.size()));
+        List<Person> personsWithIds = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            Person storedPerson = person;
+            if (!person.hasId() || !usedIds.add(person.getId())) {
+                storedPerson = person.withId(newNextId);
+                usedIds.add(newNextId++);
+            }
+            personsWithIds.add(storedPerson);
+        }
+
+        Map<Name, Person> newPersonsByName = new HashMap<>(mapCapacityFor(persons.size()));
+        Map<Phone, Person> newPersonsByPhone = new HashMap<>(mapCapacityFor(persons.size()));
+        indexUniquePersons(personsWithIds, newPersonsByName, newPersonsByPhone);
+
+        // stable partition with favorites first
+        List<Person> storedPersons = new ArrayList<>(persons.size());
+        personsWithIds.stream().filter(UniquePersonList::isFavorite).forEach(storedPersons::add);
+        int newFavoriteCount = storedPersons.size();
+        personsWithIds.stream().filter(person -> !isFavorite(person)).forEach(storedPersons::add);
+
+        Map<Integer, Integer> newPositionsById = new HashMap<>(mapCapacityFor(persons.size()));
+        for (int i = 0; i < storedPersons.size(); i++) {
+            newPositionsById.put(storedPersons.get(i).getId(), i);
+        }
+
+        recordSetPersonsUndo();
+        internalList.setAll(storedPersons);
+        personsByName = newPersonsByName;
+        personsByPhone = newPersonsByPhone;
+        positionsById = newPositionsById;
+        nextId = newNextId;
+        favoriteCount = newFavoriteCount;
+        assertFavoritesFirst();
+    }
+
+    /**
+     * Begins a batch of changes to this list. Listeners of the list are notified of every change made until the
+     * matching {@link #endBatch()} as a single change, when the batch ends, and the changes can be reverted with
+     * {@link #undoBatch()} until then. Only one batch can be open at a time.
+     */
+    public void beginBatch() {
+        if (undoLog != null) {
+            throw new IllegalStateException("A batch is already open");
+        }
+        undoLog = new ArrayList<>();
+        nextIdBeforeBatch = nextId;
+        internalList.beginBatch();
+    }
+
+    /**
+     * Reverts every change made since the open batch began, which stays open.
+     */
+    public void undoBatch() {
+        undoBatch(person -> {}, person -> {});
+    }
+
+    /**
+     * Reverts changes like {@link #undoBatch()}, giving each person that the reverting takes out of the list to
+     * {@code removedPersonConsumer} and each person it puts back, as stored in the list, to
+     * {@code restoredPersonConsumer}, in the order the reverting makes those changes. Only the persons that were
+     * changed in the batch are given.
+     */
+    public void undoBatch(Consumer<Person> removedPersonConsumer, Consumer<Person> restoredPersonConsumer) {
+        requireAllNonNull(removedPersonConsumer, restoredPersonConsumer);
+        requireOpenBatch();
+        List<UndoStep> changes = undoLog;
+        // the undoing itself is not recorded
+        undoLog = null;
+        try {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo(removedPersonConsumer, restoredPersonConsumer);
+            }
+            nextId = nextIdBeforeBatch;
+        } finally {
+            undoLog = new ArrayList<>();
         }
+    }
 
-        internalList.setAll(persons);
+    /**
+     * Ends the open batch, notifying listeners of the changes made in it.
+     */
+    public void endBatch() {
+        requireOpenBatch();
+        undoLog = null;
+        internalList.endBatch();
     }
 
     /**
@@ -135,16 +376,185 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code target}, or -1 if there is none.
+     * A target carrying the id of a stored person is found without scanning the list.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    private int indexOf(Person target) {
+        if (target.hasId()) {
+            Integer position = positionsById.get(target.getId());
+            if (position != null) {
+                Person storedPerson = internalList.get(position);
+                if (storedPerson == target || storedPerson.equals(target)) {
+                    return position;
                 }
             }
         }
-        return true;
+        return internalList.indexOf(target);
+    }
+
+    /**
+     * Inserts {@code person} at {@code index}, which must keep the favorite persons first.
+     */
+    private void insertAt(int index, Person person) {
+        internalList.add(index, person);
+        if (isFavorite(person)) {
+            favoriteCount++;
+        }
+        index(person);
+        updatePositions(index, internalList.size());
+        assertFavoritesFirst();
+    }
+
+    /**
+     * Removes and returns the person at {@code index}.
+     */
+    private Person removeAt(int index) {
+        Person person = internalList.remove(index);
+        if (isFavorite(person)) {
+            favoriteCount--;
+        }
+        unindex(person);
+        positionsById.remove(person.getId());
+        updatePositions(index, internalList.size());
+        assertFavoritesFirst();
+        return person;
+    }
+
+    /**
+     * Removes and returns the persons at {@code internalList[from, to)}.
+     */
+    private List<Person> removeRange(int from, int to) {
+        List<Person> removed = new ArrayList<>(internalList.subList(from, to));
+        for (Person person : removed) {
+            if (isFavorite(person)) {
+                favoriteCount--;
+            }
+            unindex(person);
+            positionsById.remove(person.getId());
+        }
+        internalList.remove(from, to);
+        updatePositions(from, internalList.size());
+        assertFavoritesFirst();
+        return removed;
+    }
+
+    /**
+     * Replaces the person at {@code from} with {@code person}, which has the same id, placing it at {@code to}, a
+     * position that must keep the favorite persons first. Listeners are notified with a single change.
+     *
+     * @return the person that was replaced.
+     */
+    private Person moveTo(int from, int to, Person person) {
+        Person previous = from == to ? internalList.set(from, person) : internalList.move(from, to, person);
+        favoriteCount += (isFavorite(person) ? 1 : 0) - (isFavorite(previous) ? 1 : 0);
+        unindex(previous);
+        index(person);
+        updatePositions(Math.min(from, to), Math.max(from, to) + 1);
+        assertFavoritesFirst();
+        return previous;
+    }
+
+    /**
+     * Asserts that {@code favoriteCount} splits the list into the favorite persons and then the others. Only the
+     * persons on either side of the split are checked, so that the check takes constant time after every change.
+     */
+    private void assertFavoritesFirst() {
+        assert favoriteCount >= 0 && favoriteCount <= internalList.size();
+        assert favoriteCount == 0 || isFavorite(internalList.get(favoriteCount - 1));
+        assert favoriteCount == internalList.size() || !isFavorite(internalList.get(favoriteCount));
+    }
+
+    private void recordUndo(UndoStep undo) {
+        if (undoLog != null) {
+            undoLog.add(undo);
+        }
+    }
+
+    /**
+     * Records how to undo replacing the whole list, if a batch is open.
+     */
+    private void recordSetPersonsUndo() {
+        if (undoLog != null) {
+            List<Person> previousPersons = new ArrayList<>(internalList);
+            undoLog.add((removed, restored) -> {
+                internalList.forEach(removed);
+                setPersons(previousPersons);
+                internalList.forEach(restored);
+            });
+        }
+    }
+
+    private void requireOpenBatch() {
+        if (undoLog == null) {
+            throw new IllegalStateException("No batch is open");
+        }
+    }
+
+    /**
+     * Returns true if {@code person} has the same identity as a person in the list other than {@code ignored}.
+     * This matches {@code Person#isSamePerson(Person)} against every other person in the list.
+     */
+    private boolean hasIdentityConflict(Person person, Person ignored) {
+        Person sameName = personsByName.get(person.getName());
+        Person samePhone = personsByPhone.get(person.getPhone());
+        return (sameName != null && sameName != ignored) || (samePhone != null && samePhone != ignored);
+    }
+
+    /**
+     * Refreshes the id-to-position index for the persons in {@code internalList[from, to)}.
+     */
+    private void updatePositions(int from, int to) {
+        for (int i = from; i < to; i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    private static boolean isFavorite(Person person) {
+        return person.getFavorite().getIsFavorite();
+    }
+
+    private void index(Person person) {
+        personsByName.put(person.getName(), person);
+        personsByPhone.put(person.getPhone(), person);
+    }
+
+    private void unindex(Person person) {
+        personsByName.remove(person.getName());
+        personsByPhone.remove(person.getPhone());
+    }
+
+    /**
+     * Indexes {@code persons} by name and phone into the given maps in a single pass.
+     *
+     * @throws DuplicatePersonException naming the first pair of persons in {@code persons} with the same identity.
+     */
+    private static void indexUniquePersons(List<Person> persons, Map<Name, Person> byName,
+            Map<Phone, Person> byPhone) {
+        for (Person person : persons) {
+            Person sameName = byName.putIfAbsent(person.getName(), person);
+            if (sameName != null) {
+                throw new DuplicatePersonException(sameName, person);
+            }
+            Person samePhone = byPhone.putIfAbsent(person.getPhone(), person);
+            if (samePhone != null) {
+                throw new DuplicatePersonException(samePhone, person);
+            }
+        }
+    }
+
+    /**
+     * Returns a {@code HashMap} capacity that holds {@code size} entries without rehashing.
+     */
+    private static int mapCapacityFor(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    /**
+     * Reverts one change to the list, giving the persons it takes out of the list and puts back into it to the
+     * given consumers.
+     */
+    @FunctionalInterface
+    private interface UndoStep {
+        void undo(Consumer<Person> removedPersonConsumer, Consumer<Person> restoredPersonConsumer);
     }
 }
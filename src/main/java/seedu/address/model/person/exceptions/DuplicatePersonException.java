@@ -1,11 +1,45 @@
 package seedu.address.model.person.exceptions;
 
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * name or the same phone number).
  */
 public class DuplicatePersonException extends RuntimeException {
+    public static final String MESSAGE_CONFLICTING_PAIR =
+            "Operation would result in duplicate persons: %1$s (%2$s) and %3$s (%4$s)";
+
+    private final Person firstPerson;
+    private final Person secondPerson;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        this.firstPerson = null;
+        this.secondPerson = null;
+    }
+
+    /**
+     * Creates a {@code DuplicatePersonException} naming the two persons that share the same identity.
+     */
+    public DuplicatePersonException(Person firstPerson, Person secondPerson) {
+        super(String.format(MESSAGE_CONFLICTING_PAIR, firstPerson.getName(), firstPerson.getPhone(),
+                secondPerson.getName(), secondPerson.getPhone()));
+        this.firstPerson = firstPerson;
+        this.secondPerson = secondPerson;
+    }
+
+    /**
+     * Returns the earlier of the two conflicting persons, or null if the conflict was not attributed to a pair.
+     */
+    public Person getFirstPerson() {
+        return firstPerson;
+    }
+
+    /**
+     * Returns the later of the two conflicting persons, or null if the conflict was not attributed to a pair.
+     */
+    public Person getSecondPerson() {
+        return secondPerson;
     }
 }
@@ -0,0 +1,117 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies all of the given predicates.
+ * Unlike chaining with {@code Predicate#and}, the parts stay visible, so they can be evaluated against an index in the
+ * order planned by {@code QueryPlan}: most selective first, and looked up in the index or tested only against the
+ * persons left, whichever is cheaper.
+ * Matching persons are ranked by the first part that ranks them, if any.
+ */
+public class AllOfPredicate implements IndexedPredicate, RankedPredicate {
+    private final List<Predicate<Person>> predicates;
+
+    public AllOfPredicate(List<Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        this.predicates = List.copyOf(predicates);
+    }
+
+    /**
+     * Returns a predicate that is satisfied by the persons that satisfy all of {@code predicates}.
+     * A single predicate is returned as is.
+     */
+    public static Predicate<Person> of(List<Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        return predicates.size() == 1 ? predicates.get(0) : new AllOfPredicate(predicates);
+    }
+
+    public List<Predicate<Person>> getPredicates() {
+        return predicates;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return predicates.stream().allMatch(predicate -> predicate.test(person));
+    }
+
+    /**
+     * Resolves the parts in the order of their {@code QueryPlan}, looking each part up in the index or testing it on
+     * the persons left as planned, and stops once no person is left.
+     */
+    @Override
+    public BitSet resolve(PersonSearchIndex index) {
+        BitSet ordinals = null;
+        for (QueryPlan.Step step : QueryPlan.of(this, index).getSteps()) {
+            Predicate<Person> predicate = step.getPredicate();
+            if (ordinals == null) {
+                ordinals = index.resolve(predicate);
+            } else if (step.getMethod() == QueryPlan.Method.LOOKUP) {
+                ordinals.and(((IndexedPredicate) predicate).resolve(index));
+            } else {
+                index.retainMatching(ordinals, predicate);
+            }
+            if (ordinals.isEmpty()) {
+                break;
+            }
+        }
+        return ordinals == null ? index.getAllOrdinals() : ordinals;
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        List<QueryPlan.Step> steps = QueryPlan.of(this, index).getSteps();
+        return steps.isEmpty() ? index.size() : (int) steps.get(steps.size() - 1).getEstimatedMatches();
+    }
+
+    @Override
+    public long estimateLookupCost(PersonSearchIndex index) {
+        return QueryPlan.of(this, index).getEstimatedCost();
+    }
+
+    @Override
+    public String describe() {
+        return predicates.stream()
+                .map(IndexedPredicate::describe)
+                .collect(Collectors.joining(" AND ", "(", ")"));
+    }
+
+    @Override
+    public Optional<Comparator<Person>> getRanking() {
+        return predicates.stream()
+                .filter(predicate -> predicate instanceof RankedPredicate)
+                .map(predicate -> ((RankedPredicate) predicate).getRanking())
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AllOfPredicate)) {
+            return false;
+        }
+
+        AllOfPredicate otherAllOfPredicate = (AllOfPredicate) other;
+        return predicates.equals(otherAllOfPredicate.predicates);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicates", predicates).toString();
+    }
+}
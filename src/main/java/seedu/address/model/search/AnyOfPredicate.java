@@ -0,0 +1,119 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies at least one of the given predicates.
+ * The parts that are {@code IndexedPredicate}s are answered from the index, and the rest are only tested against the
+ * persons that no other part has matched.
+ * Matching persons are ranked by the first part that ranks them, if any.
+ */
+public class AnyOfPredicate implements IndexedPredicate, RankedPredicate {
+    private final List<Predicate<Person>> predicates;
+
+    public AnyOfPredicate(List<Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        this.predicates = List.copyOf(predicates);
+    }
+
+    /**
+     * Returns a predicate that is satisfied by the persons that satisfy any of {@code predicates}.
+     * A single predicate is returned as is.
+     */
+    public static Predicate<Person> of(List<Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        return predicates.size() == 1 ? predicates.get(0) : new AnyOfPredicate(predicates);
+    }
+
+    public List<Predicate<Person>> getPredicates() {
+        return predicates;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return predicates.stream().anyMatch(predicate -> predicate.test(person));
+    }
+
+    @Override
+    public BitSet resolve(PersonSearchIndex index) {
+        BitSet ordinals = new BitSet();
+        for (Predicate<Person> predicate : predicates) {
+            if (predicate instanceof IndexedPredicate) {
+                ordinals.or(((IndexedPredicate) predicate).resolve(index));
+            }
+        }
+        for (Predicate<Person> predicate : predicates) {
+            if (!(predicate instanceof IndexedPredicate)) {
+                BitSet unmatched = index.getAllOrdinals();
+                unmatched.andNot(ordinals);
+                index.retainMatching(unmatched, predicate);
+                ordinals.or(unmatched);
+            }
+        }
+        return ordinals;
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        long matches = 0;
+        for (Predicate<Person> predicate : predicates) {
+            matches += QueryPlan.estimateMatches(predicate, index);
+        }
+        return (int) Math.min(matches, index.size());
+    }
+
+    @Override
+    public long estimateLookupCost(PersonSearchIndex index) {
+        long cost = 0;
+        for (Predicate<Person> predicate : predicates) {
+            cost += QueryPlan.estimateLookupCost(predicate, index);
+        }
+        return cost;
+    }
+
+    @Override
+    public String describe() {
+        return predicates.stream()
+                .map(IndexedPredicate::describe)
+                .collect(Collectors.joining(" OR ", "(", ")"));
+    }
+
+    @Override
+    public Optional<Comparator<Person>> getRanking() {
+        return predicates.stream()
+                .filter(predicate -> predicate instanceof RankedPredicate)
+                .map(predicate -> ((RankedPredicate) predicate).getRanking())
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AnyOfPredicate)) {
+            return false;
+        }
+
+        AnyOfPredicate otherAnyOfPredicate = (AnyOfPredicate) other;
+        return predicates.equals(otherAnyOfPredicate.predicates);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicates", predicates).toString();
+    }
+}
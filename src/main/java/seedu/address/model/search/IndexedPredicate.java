@@ -0,0 +1,48 @@
+package seedu.address.model.search;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate<Person>} that can also be answered from a {@code PersonSearchIndex} without testing every person.
+ * For every person in the index, {@link #resolve(PersonSearchIndex)} must contain the ordinal of that person exactly
+ * when {@link #test(Object)} returns true for them.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the ordinals of the persons in {@code index} that satisfy this predicate.
+     * The returned set is owned by the caller, which may modify it.
+     */
+    BitSet resolve(PersonSearchIndex index);
+
+    /**
+     * Returns an estimate of the number of persons in {@code index} that satisfy this predicate, worked out from the
+     * statistics of the index without resolving the predicate.
+     */
+    int estimateMatches(PersonSearchIndex index);
+
+    /**
+     * Returns an estimate of the cost of {@link #resolve(PersonSearchIndex)}, in the units of {@link QueryPlan}.
+     * By default, this is the number of matches, as for a predicate that reads one posting per match.
+     */
+    default long estimateLookupCost(PersonSearchIndex index) {
+        return estimateMatches(index);
+    }
+
+    /**
+     * Returns a short description of this predicate for users, such as {@code tag: friends cca}.
+     */
+    default String describe() {
+        return toString();
+    }
+
+    /**
+     * Returns a short description of {@code predicate} for users.
+     */
+    static String describe(Predicate<Person> predicate) {
+        return predicate instanceof IndexedPredicate ? ((IndexedPredicate) predicate).describe() : predicate.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} does not satisfy the given predicate.
+ * If that predicate is an {@code IndexedPredicate}, this predicate is answered from the index as well, by taking the
+ * persons it matches away from all indexed persons.
+ */
+public class NotPredicate implements IndexedPredicate {
+    private final Predicate<Person> predicate;
+
+    public NotPredicate(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !predicate.test(person);
+    }
+
+    @Override
+    public BitSet resolve(PersonSearchIndex index) {
+        BitSet ordinals = index.getAllOrdinals();
+        ordinals.andNot(index.resolve(predicate));
+        return ordinals;
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        if (!(predicate instanceof IndexedPredicate)) {
+            // nothing is known about how many persons the predicate matches
+            return index.size();
+        }
+        return index.size() - ((IndexedPredicate) predicate).estimateMatches(index);
+    }
+
+    @Override
+    public long estimateLookupCost(PersonSearchIndex index) {
+        return QueryPlan.estimateLookupCost(predicate, index);
+    }
+
+    @Override
+    public String describe() {
+        return "NOT " + IndexedPredicate.describe(predicate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotPredicate)) {
+            return false;
+        }
+
+        NotPredicate otherNotPredicate = (NotPredicate) other;
+        return predicate.equals(otherNotPredicate.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicate", predicate).toString();
+    }
+}
@@ -0,0 +1,598 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchKeys;
+
+/**
+ * Inverted indexes over the persons of an address book.
+ * Each indexed person is given a dense ordinal, which it keeps until it is removed, and the postings of every key are
+ * kept as a {@code BitSet} of ordinals, so that lookups can be combined with word-wide bitwise operations.
+ * Tags are indexed by their whole name, and names, modules, faculties and emails by each of their words, as given by
+ * {@code SearchKeys}, all case-folded with {@link StringUtil#foldCase(String)} so that lookups match
+ * {@code String#equalsIgnoreCase}.
+ * Name terms are also indexed by their trigrams, for fuzzy name searches, and addresses by their trigrams, for
+ * substring searches. Name words, tags, module words, faculty words and email words are also kept in order, for
+ * prefix and range searches that read only the keys in range. Phone numbers and emails are kept in
+ * prefix tries, the latter keyed by their domain labels in reverse order, so that persons can be found by the start
+ * of their phone number or by their email domain.
+ * The number of persons with each key is kept as well, so that queries can be planned without resolving them.
+ */
+public class PersonSearchIndex {
+
+    // best first: highest score, then lowest ordinal
+    private static final Comparator<ScoredOrdinal> SCORE_ORDER = Comparator
+            .comparingInt((ScoredOrdinal scoredOrdinal) -> -scoredOrdinal.score)
+            .thenComparingInt(scoredOrdinal -> scoredOrdinal.ordinal);
+
+    private final Map<Integer, Integer> ordinalsById = new HashMap<>();
+    // null at the ordinals that are free
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final BitSet allOrdinals = new BitSet();
+    // no ordinal below this one is free
+    private int lowestFreeOrdinal = 0;
+
+    private final SortedPostingIndex nameWords = new SortedPostingIndex();
+    private final TrigramIndex nameTerms = new TrigramIndex();
+    private final SortedPostingIndex tags = new SortedPostingIndex();
+    private final SortedPostingIndex moduleWords = new SortedPostingIndex();
+    private final SortedPostingIndex facultyWords = new SortedPostingIndex();
+    private final SortedPostingIndex emailWords = new SortedPostingIndex();
+    private final PostingIndex addressTrigrams = new PostingIndex();
+    private final PrefixTrie phones = new PrefixTrie();
+    private final PrefixTrie emails = new PrefixTrie();
+
+    // Incremented on every change, so that results computed from the index can tell when they are stale.
+    private int version = 0;
+
+    /**
+     * Indexes {@code person} under its id, replacing the person previously indexed under that id.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinalsById.get(person.getId());
+        if (ordinal == null) {
+            ordinal = allocateOrdinal();
+            ordinalsById.put(person.getId(), ordinal);
+        } else {
+            Person previous = personsByOrdinal.get(ordinal);
+            if (previous == person) {
+                return;
+            }
+            unindex(previous, ordinal);
+        }
+        personsByOrdinal.set(ordinal, person);
+        index(person, ordinal);
+        version++;
+    }
+
+    /**
+     * Removes {@code person} from the index, if the index holds a person with its id.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinalsById.remove(person.getId());
+        if (ordinal == null) {
+            return;
+        }
+        unindex(personsByOrdinal.get(ordinal), ordinal);
+        personsByOrdinal.set(ordinal, null);
+        allOrdinals.clear(ordinal);
+        lowestFreeOrdinal = Math.min(lowestFreeOrdinal, ordinal);
+        version++;
+    }
+
+    /**
+     * Makes the index hold exactly {@code persons}. Persons that are already indexed are left as they are.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        Set<Integer> ids = new HashSet<>();
+        for (Person person : persons) {
+            ids.add(person.getId());
+            add(person);
+        }
+        for (Person person : getPersons(allOrdinals)) {
+            if (!ids.contains(person.getId())) {
+                remove(person);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code person} itself, not merely an equal person, is the one indexed under its id.
+     */
+    public boolean isIndexed(Person person) {
+        Integer ordinal = ordinalsById.get(person.getId());
+        return ordinal != null && personsByOrdinal.get(ordinal) == person;
+    }
+
+    /**
+     * Returns the person at {@code ordinal}, or null if no person is.
+     */
+    public Person getPersonAt(int ordinal) {
+        return ordinal < personsByOrdinal.size() ? personsByOrdinal.get(ordinal) : null;
+    }
+
+    /**
+     * Returns the persons at {@code ordinals}, in the order of their ordinals.
+     */
+    public List<Person> getPersons(BitSet ordinals) {
+        List<Person> persons = new ArrayList<>(ordinals.cardinality());
+        for (int i = ordinals.nextSetBit(0); i >= 0; i = ordinals.nextSetBit(i + 1)) {
+            persons.add(personsByOrdinal.get(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the ordinals of all indexed persons.
+     */
+    public BitSet getAllOrdinals() {
+        return (BitSet) allOrdinals.clone();
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of indexed persons.
+     */
+    public int size() {
+        return ordinalsById.size();
+    }
+
+    /**
+     * Returns the ordinals of the persons whose name contains {@code word} as a whole word, ignoring case.
+     */
+    public BitSet getOrdinalsWithNameWord(String word) {
+        return nameWords.get(StringUtil.foldCase(word.trim()));
+    }
+
+    /**
+     * Returns the ordinals of the persons with a name term, as given by {@code SearchKeys#getNameTerms()}, within
+     * {@code maxDistance} edits of {@code term}, ignoring case.
+     */
+    public BitSet getOrdinalsWithNameTermWithin(String term, int maxDistance) {
+        return nameTerms.getWithin(StringUtil.foldCase(term.trim()), maxDistance);
+    }
+
+    /**
+     * Returns the ordinals of the persons with a tag named {@code tagName}, ignoring case.
+     */
+    public BitSet getOrdinalsWithTag(String tagName) {
+        return tags.get(StringUtil.foldCase(tagName));
+    }
+
+    /**
+     * Returns the ordinals of the persons with a module whose name contains {@code word} as a whole word, ignoring
+     * case.
+     */
+    public BitSet getOrdinalsWithModuleWord(String word) {
+        return moduleWords.get(StringUtil.foldCase(word.trim()));
+    }
+
+    /**
+     * Returns the ordinals of the persons with a module word from {@code from} to {@code to} in alphabetical order,
+     * ignoring case. The range includes both ends, and also the words starting with {@code to}, so that
+     * {@code CS2000} to {@code CS2999} includes {@code CS2999T}, and {@code CS21} to {@code CS21} holds every word
+     * starting with {@code CS21}. Only the words in the range are read.
+     */
+    public BitSet getOrdinalsWithModuleWordInRange(String from, String to) {
+        BitSet ordinals = new BitSet();
+        moduleWords.addInRangeTo(StringUtil.foldCase(from.trim()), StringUtil.foldCase(to.trim()), ordinals);
+        return ordinals;
+    }
+
+    /**
+     * Returns the ordinals of the persons with a faculty whose name contains {@code word} as a whole word, ignoring
+     * case.
+     */
+    public BitSet getOrdinalsWithFacultyWord(String word) {
+        return facultyWords.get(StringUtil.foldCase(word.trim()));
+    }
+
+    /**
+     * Returns the ordinals of the persons with a name word, tag, module word, faculty word or email word that starts
+     * with {@code prefix}, ignoring case. Only the keys that start with {@code prefix} are read, as the keys are kept
+     * in order.
+     */
+    public BitSet getOrdinalsWithKeyPrefix(String prefix) {
+        String foldedPrefix = StringUtil.foldCase(prefix.trim());
+        BitSet ordinals = new BitSet();
+        for (SortedPostingIndex postings : getKeyIndexes()) {
+            postings.addInRangeTo(foldedPrefix, foldedPrefix, ordinals);
+        }
+        return ordinals;
+    }
+
+    /**
+     * Returns the sum of the number of persons with each name word, tag, module word, faculty word or email word that
+     * starts with {@code prefix}, ignoring case, which is the number of postings that
+     * {@link #getOrdinalsWithKeyPrefix(String)} reads. A person with more than one such key is counted once for each.
+     */
+    public long countWithKeyPrefix(String prefix) {
+        String foldedPrefix = StringUtil.foldCase(prefix.trim());
+        long count = 0;
+        for (SortedPostingIndex postings : getKeyIndexes()) {
+            count += postings.countInRange(foldedPrefix, foldedPrefix);
+        }
+        return count;
+    }
+
+    private List<SortedPostingIndex> getKeyIndexes() {
+        return List.of(nameWords, tags, moduleWords, facultyWords, emailWords);
+    }
+
+    /**
+     * Returns the ordinals of the persons whose address contains {@code text}, ignoring case and treating each run of
+     * whitespace as one space, as given by {@code SearchKeys#getAddress()}.
+     * Only the persons whose address has the rarest trigram of {@code text} are compared.
+     */
+    public BitSet getOrdinalsWithAddressContaining(String text) {
+        String foldedText = SearchKeys.foldText(text);
+        BitSet ordinals = getAddressCandidates(foldedText);
+        retainMatching(ordinals, person -> person.getSearchKeys().getAddress().contains(foldedText));
+        return ordinals;
+    }
+
+    /**
+     * Returns the number of persons whose address {@link #getOrdinalsWithAddressContaining(String)} compares with
+     * {@code text}, which is at least the number of persons whose address contains it.
+     */
+    public int countAddressCandidates(String text) {
+        String foldedText = SearchKeys.foldText(text);
+        if (foldedText.length() < 3) {
+            return getAddressCandidates(foldedText).cardinality();
+        }
+        return addressTrigrams.count(rarestTrigram(foldedText));
+    }
+
+    /**
+     * Returns the ordinals of the persons whose address may contain {@code foldedText}: those whose address has its
+     * rarest trigram, or if it is shorter than a trigram, those whose address has a trigram containing it.
+     */
+    private BitSet getAddressCandidates(String foldedText) {
+        if (foldedText.length() < 3) {
+            BitSet ordinals = new BitSet();
+            addressTrigrams.addMatchingTo(trigram -> trigram.contains(foldedText), ordinals);
+            return ordinals;
+        }
+        return addressTrigrams.get(rarestTrigram(foldedText));
+    }
+
+    private String rarestTrigram(String foldedText) {
+        String rarest = null;
+        for (int i = 0; i + 3 <= foldedText.length(); i++) {
+            String trigram = foldedText.substring(i, i + 3);
+            if (rarest == null || addressTrigrams.count(trigram) < addressTrigrams.count(rarest)) {
+                rarest = trigram;
+            }
+        }
+        return rarest;
+    }
+
+    /**
+     * Returns the ordinals of the persons whose phone number starts with {@code prefix}.
+     */
+    public BitSet getOrdinalsWithPhonePrefix(String prefix) {
+        return phones.getWithPrefix(prefix.trim());
+    }
+
+    /**
+     * Returns the ordinals of the persons whose email domain is {@code domain} or one of its subdomains, ignoring case.
+     * For example, the domain {@code nus.edu.sg} covers both {@code alice@nus.edu.sg} and {@code bob@comp.nus.edu.sg}.
+     */
+    public BitSet getOrdinalsWithEmailDomain(String domain) {
+        return emails.getWithPrefix(reverseDomain(StringUtil.foldCase(domain.trim())));
+    }
+
+    /**
+     * Returns the ordinals of the persons whose email is {@code email}, ignoring case.
+     * Only the persons whose email starts with the same user name at the same domain are compared.
+     */
+    public BitSet getOrdinalsWithEmail(String email) {
+        String foldedEmail = StringUtil.foldCase(email.trim());
+        BitSet ordinals = emails.getWithPrefix(emailKey(foldedEmail));
+        retainMatching(ordinals, person -> person.getSearchKeys().getEmail().equals(foldedEmail));
+        return ordinals;
+    }
+
+    /**
+     * Returns the number of persons whose phone number starts with {@code prefix}.
+     */
+    public int countWithPhonePrefix(String prefix) {
+        return phones.countWithPrefix(prefix.trim());
+    }
+
+    /**
+     * Returns the number of persons whose email domain is {@code domain} or one of its subdomains, ignoring case.
+     */
+    public int countWithEmailDomain(String domain) {
+        return emails.countWithPrefix(reverseDomain(StringUtil.foldCase(domain.trim())));
+    }
+
+    /**
+     * Returns the number of persons whose email {@link #getOrdinalsWithEmail(String)} compares with {@code email},
+     * which is at least the number of persons whose email it is.
+     */
+    public int countEmailCandidates(String email) {
+        return emails.countWithPrefix(emailKey(StringUtil.foldCase(email.trim())));
+    }
+
+    /**
+     * Returns the key of {@code foldedEmail} in the email trie: its domain labels in reverse order, each followed by a
+     * dot, then {@code @} and the user name. Persons with an email in a domain are then exactly those whose key
+     * starts with {@link #reverseDomain(String)} of the domain, as the dots keep labels from matching in part.
+     */
+    private static String emailKey(String foldedEmail) {
+        int at = foldedEmail.lastIndexOf('@');
+        return reverseDomain(foldedEmail.substring(at + 1)) + "@" + foldedEmail.substring(0, Math.max(at, 0));
+    }
+
+    /**
+     * Returns the labels of {@code domain} in reverse order, each followed by a dot, so that {@code comp.nus.edu.sg}
+     * becomes {@code sg.edu.nus.comp.}.
+     */
+    private static String reverseDomain(String domain) {
+        // a limit of -1 keeps empty labels, so that malformed domains match nothing rather than a shorter domain
+        String[] labels = domain.split("\\.", -1);
+        StringBuilder reversed = new StringBuilder(domain.length() + 1);
+        for (int i = labels.length - 1; i >= 0; i--) {
+            reversed.append(labels[i]).append('.');
+        }
+        return reversed.toString();
+    }
+
+    /**
+     * Returns the number of persons whose name contains {@code word} as a whole word, ignoring case.
+     */
+    public int countWithNameWord(String word) {
+        return nameWords.count(StringUtil.foldCase(word.trim()));
+    }
+
+    /**
+     * Returns the number of distinct name terms, as given by {@code SearchKeys#getNameTerms()}, of the indexed
+     * persons.
+     */
+    public int countNameTerms() {
+        return nameTerms.keys().size();
+    }
+
+    /**
+     * Returns the number of persons with a tag named {@code tagName}, ignoring case.
+     */
+    public int countWithTag(String tagName) {
+        return tags.count(StringUtil.foldCase(tagName));
+    }
+
+    /**
+     * Returns the number of persons with a module whose name contains {@code word} as a whole word, ignoring case.
+     */
+    public int countWithModuleWord(String word) {
+        return moduleWords.count(StringUtil.foldCase(word.trim()));
+    }
+
+    /**
+     * Returns the number of persons with a module word in the range from {@code from} to {@code to}, as for
+     * {@link #getOrdinalsWithModuleWordInRange(String, String)}, or more if a person has several words in the range.
+     */
+    public long countWithModuleWordInRange(String from, String to) {
+        return moduleWords.countInRange(StringUtil.foldCase(from.trim()), StringUtil.foldCase(to.trim()));
+    }
+
+    /**
+     * Returns the number of persons with a faculty whose name contains {@code word} as a whole word, ignoring case.
+     */
+    public int countWithFacultyWord(String word) {
+        return facultyWords.count(StringUtil.foldCase(word.trim()));
+    }
+
+    /**
+     * Returns the ordinals of the indexed persons that satisfy {@code predicate}. An {@code IndexedPredicate} is
+     * answered from the index; any other predicate is tested on every indexed person.
+     */
+    public BitSet resolve(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof IndexedPredicate) {
+            return ((IndexedPredicate) predicate).resolve(this);
+        }
+        BitSet ordinals = getAllOrdinals();
+        retainMatching(ordinals, predicate);
+        return ordinals;
+    }
+
+    /**
+     * Clears from {@code ordinals} the persons that do not satisfy {@code predicate}, testing only the persons at
+     * {@code ordinals}.
+     */
+    public void retainMatching(BitSet ordinals, Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        for (int i = ordinals.nextSetBit(0); i >= 0; i = ordinals.nextSetBit(i + 1)) {
+            if (!predicate.test(personsByOrdinal.get(i))) {
+                ordinals.clear(i);
+            }
+        }
+    }
+
+    /**
+     * Returns the at most {@code limit} indexed persons that score highest on {@code predicate}, best first, leaving
+     * out persons that do not satisfy it. Persons with equal scores are in the order of their ordinals.
+     * Only the persons resolved from {@code predicate} are scored, and only the best {@code limit} of them are kept
+     * and sorted.
+     */
+    public List<Person> findTop(ScoredPredicate predicate, int limit) {
+        requireNonNull(predicate);
+        if (limit <= 0) {
+            return List.of();
+        }
+        // the worst of the persons kept so far is at the head
+        PriorityQueue<ScoredOrdinal> best = new PriorityQueue<>(limit, SCORE_ORDER.reversed());
+        BitSet candidates = predicate.resolve(this);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            int score = predicate.score(personsByOrdinal.get(i));
+            if (score <= 0) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(new ScoredOrdinal(score, i));
+            } else if (score > best.peek().score) {
+                // a later ordinal only replaces a person with a lower score, so ties go to the earlier ordinal
+                best.poll();
+                best.add(new ScoredOrdinal(score, i));
+            }
+        }
+
+        List<ScoredOrdinal> sorted = new ArrayList<>(best);
+        sorted.sort(SCORE_ORDER);
+        List<Person> persons = new ArrayList<>(sorted.size());
+        for (ScoredOrdinal scoredOrdinal : sorted) {
+            persons.add(personsByOrdinal.get(scoredOrdinal.ordinal));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} for filtering the indexed persons. If {@code predicate} is an
+     * {@code IndexedPredicate}, the result looks persons up in the set resolved from this index, and re-resolves it
+     * whenever the index changes; any other predicate is returned as is.
+     */
+    public Predicate<Person> filterFor(Predicate<Person> predicate) {
+        return filterFor(predicate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} for filtering the indexed persons, like
+     * {@link #filterFor(Predicate)}. In addition, if {@code predicate} is not an {@code IndexedPredicate} but at least
+     * {@code parallelThreshold} persons are indexed, the result looks persons up in the set of those that satisfy
+     * {@code predicate}, which is worked out by testing them in parallel. As the set would have to be worked out
+     * again from every person, it is only used until the index changes; from then on, as only the persons that
+     * changed are filtered again, {@code predicate} is tested on each person.
+     */
+    public Predicate<Person> filterFor(Predicate<Person> predicate, int parallelThreshold) {
+        requireNonNull(predicate);
+        if (predicate instanceof IndexedPredicate) {
+            return filterResolvedBy(((IndexedPredicate) predicate)::resolve, predicate);
+        } else if (ordinalsById.size() < parallelThreshold) {
+            return predicate;
+        }
+        return new Predicate<>() {
+            private final BitSet matchingOrdinals = findOrdinals(predicate, parallelThreshold);
+            private final int resolvedVersion = version;
+
+            @Override
+            public boolean test(Person person) {
+                if (resolvedVersion != version || !isIndexed(person)) {
+                    return predicate.test(person);
+                }
+                return matchingOrdinals.get(ordinalsById.get(person.getId()));
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that looks persons up in the set {@code resolver} works out
+     * from this index, working it out again whenever the index changes.
+     */
+    private Predicate<Person> filterResolvedBy(Function<PersonSearchIndex, BitSet> resolver,
+            Predicate<Person> predicate) {
+        return new Predicate<>() {
+            private BitSet matchingOrdinals;
+            private int resolvedVersion;
+
+            @Override
+            public boolean test(Person person) {
+                if (!isIndexed(person)) {
+                    // the list can report a person before the index has caught up with it
+                    return predicate.test(person);
+                }
+                if (matchingOrdinals == null || resolvedVersion != version) {
+                    matchingOrdinals = resolver.apply(PersonSearchIndex.this);
+                    resolvedVersion = version;
+                }
+                return matchingOrdinals.get(ordinalsById.get(person.getId()));
+            }
+        };
+    }
+
+    /**
+     * Returns the ordinals of the indexed persons that satisfy {@code predicate}, testing them in parallel if there
+     * are at least {@code parallelThreshold} of them.
+     */
+    private BitSet findOrdinals(Predicate<Person> predicate, int parallelThreshold) {
+        BitSet ordinals = new BitSet();
+        for (Person person : CollectionUtil.filter(getPersons(allOrdinals), predicate, parallelThreshold)) {
+            ordinals.set(ordinalsById.get(person.getId()));
+        }
+        return ordinals;
+    }
+
+    /**
+     * Returns the lowest free ordinal, marking it as taken.
+     */
+    private int allocateOrdinal() {
+        int ordinal = allOrdinals.nextClearBit(lowestFreeOrdinal);
+        allOrdinals.set(ordinal);
+        lowestFreeOrdinal = ordinal + 1;
+        if (ordinal == personsByOrdinal.size()) {
+            personsByOrdinal.add(null);
+        }
+        return ordinal;
+    }
+
+    private void index(Person person, int ordinal) {
+        forEachKey(person, (postings, key) -> postings.add(key, ordinal));
+        phones.add(person.getSearchKeys().getPhone(), ordinal);
+        emails.add(emailKey(person.getSearchKeys().getEmail()), ordinal);
+    }
+
+    private void unindex(Person person, int ordinal) {
+        forEachKey(person, (postings, key) -> postings.remove(key, ordinal));
+        phones.remove(person.getSearchKeys().getPhone(), ordinal);
+        emails.remove(emailKey(person.getSearchKeys().getEmail()), ordinal);
+    }
+
+    /**
+     * Passes every index key of {@code person} to {@code action}, together with the posting index it belongs to.
+     */
+    private void forEachKey(Person person, BiConsumer<PostingIndex, String> action) {
+        SearchKeys keys = person.getSearchKeys();
+        keys.getNameWords().forEach(word -> action.accept(nameWords, word));
+        keys.getNameTerms().forEach(term -> action.accept(nameTerms, term));
+        keys.getTagNames().forEach(tagName -> action.accept(tags, tagName));
+        keys.getModuleWords().forEach(word -> action.accept(moduleWords, word));
+        keys.getFacultyWords().forEach(word -> action.accept(facultyWords, word));
+        keys.getEmailWords().forEach(word -> action.accept(emailWords, word));
+        TrigramIndex.trigramsOf(keys.getAddress()).forEach(trigram -> action.accept(addressTrigrams, trigram));
+    }
+
+    /**
+     * The ordinal of a person with its score, for keeping the best scoring persons.
+     */
+    private static class ScoredOrdinal {
+        private final int score;
+        private final int ordinal;
+
+        ScoredOrdinal(int score, int ordinal) {
+            this.score = score;
+            this.ordinal = ordinal;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.search;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Maps keys to the ordinals of the persons that have them, also known as posting lists.
+ * Lookups are returned as {@code BitSet}s, so that they can be combined a word of persons at a time.
+ */
+class PostingIndex {
+
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    /**
+     * Records that the person at {@code ordinal} has {@code key}.
+     */
+    void add(String key, int ordinal) {
+        postings.computeIfAbsent(key, unused -> new Postings()).add(ordinal);
+    }
+
+    /**
+     * Removes the record that the person at {@code ordinal} has {@code key}, if any.
+     */
+    void remove(String key, int ordinal) {
+        Postings keyPostings = postings.get(key);
+        if (keyPostings == null) {
+            return;
+        }
+        keyPostings.remove(ordinal);
+        if (keyPostings.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    /**
+     * Returns true if at least one person has {@code key}.
+     */
+    boolean contains(String key) {
+        return postings.containsKey(key);
+    }
+
+    /**
+     * Returns the number of persons with {@code key}.
+     */
+    int count(String key) {
+        Postings keyPostings = postings.get(key);
+        return keyPostings == null ? 0 : keyPostings.size();
+    }
+
+    /**
+     * Adds the ordinals of the persons with {@code key} to {@code ordinals}.
+     */
+    void addTo(String key, BitSet ordinals) {
+        Postings keyPostings = postings.get(key);
+        if (keyPostings != null) {
+            keyPostings.addTo(ordinals);
+        }
+    }
+
+    /**
+     * Adds the ordinals of the persons with a key that satisfies {@code keyPredicate} to {@code ordinals}.
+     * Every key is tested, so this takes time in the number of keys rather than of persons.
+     */
+    void addMatchingTo(Predicate<String> keyPredicate, BitSet ordinals) {
+        postings.forEach((key, keyPostings) -> {
+            if (keyPredicate.test(key)) {
+                keyPostings.addTo(ordinals);
+            }
+        });
+    }
+
+    /**
+     * Returns the ordinals of the persons with {@code key}.
+     */
+    BitSet get(String key) {
+        BitSet ordinals = new BitSet();
+        addTo(key, ordinals);
+        return ordinals;
+    }
+
+    /**
+     * Returns an unmodifiable view of the keys that at least one person has.
+     */
+    Set<String> keys() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+}
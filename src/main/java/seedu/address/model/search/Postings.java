@@ -0,0 +1,116 @@
+package seedu.address.model.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The ordinals of the persons with one key. They are kept as a sorted array while that takes less memory than a
+ * {@code BitSet} up to the highest ordinal, as most name words belong to only a few persons, and as a
+ * {@code BitSet} once the key is common enough.
+ */
+class Postings {
+    // A BitSet spends one bit per ordinal below the highest, and the array 32 bits per person.
+    private static final int BITS_PER_ORDINAL = Integer.SIZE;
+    private static final int MIN_DENSE_SIZE = 8;
+
+    private int[] sparse = new int[1];
+    private BitSet dense;
+    private int size;
+
+    void add(int ordinal) {
+        if (dense != null) {
+            if (!dense.get(ordinal)) {
+                dense.set(ordinal);
+                size++;
+            }
+            switchToSparseIfRare();
+            return;
+        }
+        int position = Arrays.binarySearch(sparse, 0, size, ordinal);
+        if (position >= 0) {
+            return;
+        }
+        position = -position - 1;
+        if (size == sparse.length) {
+            sparse = Arrays.copyOf(sparse, size * 2);
+        }
+        System.arraycopy(sparse, position, sparse, position + 1, size - position);
+        sparse[position] = ordinal;
+        size++;
+        if (size >= MIN_DENSE_SIZE && (long) size * BITS_PER_ORDINAL >= sparse[size - 1] + 1L) {
+            toDense();
+        }
+    }
+
+    void remove(int ordinal) {
+        if (dense != null) {
+            if (dense.get(ordinal)) {
+                dense.clear(ordinal);
+                size--;
+            }
+            switchToSparseIfRare();
+            return;
+        }
+        int position = Arrays.binarySearch(sparse, 0, size, ordinal);
+        if (position >= 0) {
+            System.arraycopy(sparse, position + 1, sparse, position, size - position - 1);
+            size--;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void addTo(BitSet ordinals) {
+        if (dense != null) {
+            ordinals.or(dense);
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            ordinals.set(sparse[i]);
+        }
+    }
+
+    /**
+     * Returns postings with the same ordinals as these, which can be changed independently of these.
+     */
+    Postings copy() {
+        Postings copy = new Postings();
+        copy.sparse = sparse == null ? null : sparse.clone();
+        copy.dense = dense == null ? null : (BitSet) dense.clone();
+        copy.size = size;
+        return copy;
+    }
+
+    private void toDense() {
+        dense = new BitSet(sparse[size - 1] + 1);
+        for (int i = 0; i < size; i++) {
+            dense.set(sparse[i]);
+        }
+        sparse = null;
+    }
+
+    /**
+     * Switches back to a sorted array once the key has become rare among the ordinals below its highest one.
+     * This happens well below the point of switching to a {@code BitSet}, so that a key does not keep switching.
+     */
+    private void switchToSparseIfRare() {
+        if ((long) size * BITS_PER_ORDINAL * 2 < dense.length()) {
+            toSparse();
+        }
+    }
+
+    private void toSparse() {
+        sparse = new int[Math.max(size, 1)];
+        int i = 0;
+        for (int ordinal = dense.nextSetBit(0); ordinal >= 0; ordinal = dense.nextSetBit(ordinal + 1)) {
+            sparse[i++] = ordinal;
+        }
+        dense = null;
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.address.model.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Maps keys to the ordinals of the persons that have them, and finds the persons with a key starting with a given
+ * prefix in time proportional to the length of the prefix and the number of persons found.
+ * The keys are kept in a radix tree, in which each node holds the ordinals of every person whose key passes through
+ * it, so that a lookup ends at the node that the prefix leads to. Chains of nodes with one child each are merged into
+ * a single edge, so that the tree has fewer nodes than twice the number of keys.
+ * Each person may have at most one key.
+ */
+class PrefixTrie {
+
+    private final Node root = new Node("");
+
+    /**
+     * Records that the person at {@code ordinal} has {@code key}.
+     */
+    void add(String key, int ordinal) {
+        Node node = root;
+        node.postings.add(ordinal);
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.getChild(key.charAt(position));
+            if (child == null) {
+                child = new Node(key.substring(position));
+                child.postings.add(ordinal);
+                node.addChild(child);
+                return;
+            }
+            int common = commonPrefixLength(child.edge, key, position);
+            if (common < child.edge.length()) {
+                child = node.split(child, common);
+            }
+            child.postings.add(ordinal);
+            node = child;
+            position += common;
+        }
+    }
+
+    /**
+     * Removes the record that the person at {@code ordinal} has {@code key}, if any.
+     */
+    void remove(String key, int ordinal) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            node = node.getChild(key.charAt(position));
+            if (node == null || !key.startsWith(node.edge, position)) {
+                return;
+            }
+            path.add(node);
+            position += node.edge.length();
+        }
+
+        path.forEach(pathNode -> pathNode.postings.remove(ordinal));
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node parent = path.get(i - 1);
+            Node pathNode = path.get(i);
+            if (pathNode.postings.isEmpty()) {
+                parent.removeChild(pathNode);
+            } else {
+                pathNode.mergeWithOnlyChild();
+            }
+        }
+    }
+
+    /**
+     * Returns the ordinals of the persons with a key that starts with {@code prefix}.
+     */
+    BitSet getWithPrefix(String prefix) {
+        BitSet ordinals = new BitSet();
+        Node node = find(prefix);
+        if (node != null) {
+            node.postings.addTo(ordinals);
+        }
+        return ordinals;
+    }
+
+    /**
+     * Returns the number of persons with a key that starts with {@code prefix}.
+     */
+    int countWithPrefix(String prefix) {
+        Node node = find(prefix);
+        return node == null ? 0 : node.postings.size();
+    }
+
+    /**
+     * Returns the node whose persons are exactly those with a key starting with {@code prefix}, or null if there are
+     * none. This is the node at the end of the edge that the prefix ends on.
+     */
+    private Node find(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            node = node.getChild(prefix.charAt(position));
+            if (node == null) {
+                return null;
+            }
+            int common = commonPrefixLength(node.edge, prefix, position);
+            if (position + common == prefix.length()) {
+                return node;
+            }
+            if (common < node.edge.length()) {
+                return null;
+            }
+            position += common;
+        }
+        return node;
+    }
+
+    /**
+     * Returns the length of the longest common prefix of {@code edge} and the part of {@code key} from
+     * {@code position}.
+     */
+    private static int commonPrefixLength(String edge, String key, int position) {
+        int length = 0;
+        while (length < edge.length() && position + length < key.length()
+                && edge.charAt(length) == key.charAt(position + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * A node of the tree, reached from its parent by {@code edge}, with the ordinals of the persons whose key starts
+     * with the edges leading to it.
+     */
+    private static class Node {
+        private String edge;
+        private Postings postings = new Postings();
+        // the children start with distinct characters; null while there are none
+        private List<Node> children;
+
+        Node(String edge) {
+            this.edge = edge;
+        }
+
+        Node getChild(char firstChar) {
+            if (children == null) {
+                return null;
+            }
+            for (Node child : children) {
+                if (child.edge.charAt(0) == firstChar) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        void addChild(Node child) {
+            if (children == null) {
+                children = new ArrayList<>(1);
+            }
+            children.add(child);
+        }
+
+        void removeChild(Node child) {
+            children.remove(child);
+            if (children.isEmpty()) {
+                children = null;
+            }
+        }
+
+        /**
+         * Splits the edge to {@code child} after its first {@code length} characters, and returns the node inserted
+         * at the split, which holds the same persons as {@code child}.
+         */
+        Node split(Node child, int length) {
+            Node middle = new Node(child.edge.substring(0, length));
+            middle.postings = child.postings.copy();
+            middle.addChild(child);
+            child.edge = child.edge.substring(length);
+            children.set(children.indexOf(child), middle);
+            return middle;
+        }
+
+        /**
+         * Merges this node with its child if it has only one, and no key ends at this node.
+         */
+        void mergeWithOnlyChild() {
+            if (children == null || children.size() != 1) {
+                return;
+            }
+            Node child = children.get(0);
+            // as each person has one key, a key ends here exactly when this node holds a person its child does not
+            if (child.postings.size() == postings.size()) {
+                edge = edge + child.edge;
+                postings = child.postings;
+                children = child.children;
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * The order in which the parts of a query that must all hold are evaluated against a {@code PersonSearchIndex}.
+ * Parts are ordered from the fewest estimated matches to the most, so that the persons left to consider shrink as
+ * early as possible, with parts that are not {@code IndexedPredicate}s last. After the first part, each part is
+ * either looked up in the index and intersected with the persons left, or tested on each of the persons left,
+ * whichever is estimated to cost less.
+ *
+ * Costs are in postings read from the index, with testing a person against a predicate counting as
+ * {@link #TEST_COST} postings. Estimates assume that the parts hold independently of each other.
+ */
+public class QueryPlan {
+
+    /** The cost of testing one person against a predicate. */
+    public static final long TEST_COST = 8;
+
+    /**
+     * How a step of the plan is evaluated.
+     */
+    public enum Method {
+        LOOKUP("index lookup"),
+        TEST("test each person left");
+
+        private final String description;
+
+        Method(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * One part of the query, with how it is evaluated, the estimated number of persons left after it and the
+     * estimated cost of evaluating it.
+     */
+    public static class Step {
+        private final Predicate<Person> predicate;
+        private final Method method;
+        private final long estimatedMatches;
+        private final long estimatedCost;
+
+        Step(Predicate<Person> predicate, Method method, long estimatedMatches, long estimatedCost) {
+            this.predicate = predicate;
+            this.method = method;
+            this.estimatedMatches = estimatedMatches;
+            this.estimatedCost = estimatedCost;
+        }
+
+        public Predicate<Person> getPredicate() {
+            return predicate;
+        }
+
+        public Method getMethod() {
+            return method;
+        }
+
+        public long getEstimatedMatches() {
+            return estimatedMatches;
+        }
+
+        public long getEstimatedCost() {
+            return estimatedCost;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("predicate", predicate)
+                    .add("method", method)
+                    .add("estimatedMatches", estimatedMatches)
+                    .add("estimatedCost", estimatedCost)
+                    .toString();
+        }
+    }
+
+    private final int personCount;
+    private final List<Step> steps;
+
+    private QueryPlan(int personCount, List<Step> steps) {
+        this.personCount = personCount;
+        this.steps = List.copyOf(steps);
+    }
+
+    /**
+     * Plans the evaluation of {@code predicate} against {@code index}. An {@code AllOfPredicate} is planned part by
+     * part; any other predicate is a plan of one step.
+     */
+    public static QueryPlan of(Predicate<Person> predicate, PersonSearchIndex index) {
+        requireNonNull(predicate);
+        requireNonNull(index);
+        List<Predicate<Person>> parts = predicate instanceof AllOfPredicate
+                ? new ArrayList<>(((AllOfPredicate) predicate).getPredicates())
+                : new ArrayList<>(List.of(predicate));
+        int personCount = index.size();
+
+        Map<Predicate<Person>, Long> matches = new IdentityHashMap<>();
+        Map<Predicate<Person>, Long> lookupCosts = new IdentityHashMap<>();
+        for (Predicate<Person> part : parts) {
+            matches.put(part, (long) estimateMatches(part, index));
+            lookupCosts.put(part, estimateLookupCost(part, index));
+        }
+        // parts that are not indexed go last, as they have to be tested anyway and their matches are unknown;
+        // List.sort is stable, so parts with equal estimates keep the order they were given in
+        parts.sort(Comparator.<Predicate<Person>, Boolean>comparing(part -> !(part instanceof IndexedPredicate))
+                .thenComparing(matches::get)
+                .thenComparing(lookupCosts::get));
+
+        List<Step> steps = new ArrayList<>();
+        double personsLeft = personCount;
+        for (Predicate<Person> part : parts) {
+            long lookupCost = lookupCosts.get(part);
+            long testCost = (long) Math.ceil(personsLeft * TEST_COST);
+            boolean isLookup = part instanceof IndexedPredicate && (steps.isEmpty() || lookupCost <= testCost);
+
+            personsLeft = personCount == 0 ? 0 : personsLeft * matches.get(part) / personCount;
+            steps.add(isLookup
+                    ? new Step(part, Method.LOOKUP, Math.round(personsLeft), lookupCost)
+                    : new Step(part, Method.TEST, Math.round(personsLeft), testCost));
+        }
+        return new QueryPlan(personCount, steps);
+    }
+
+    /**
+     * Returns an estimate of the number of persons in {@code index} that satisfy {@code predicate}.
+     * A predicate that is not an {@code IndexedPredicate} is assumed to match every person.
+     */
+    static int estimateMatches(Predicate<Person> predicate, PersonSearchIndex index) {
+        return predicate instanceof IndexedPredicate
+                ? ((IndexedPredicate) predicate).estimateMatches(index)
+                : index.size();
+    }
+
+    /**
+     * Returns an estimate of the cost of finding the persons in {@code index} that satisfy {@code predicate}.
+     * A predicate that is not an {@code IndexedPredicate} has to be tested on every person.
+     */
+    static long estimateLookupCost(Predicate<Person> predicate, PersonSearchIndex index) {
+        return predicate instanceof IndexedPredicate
+                ? ((IndexedPredicate) predicate).estimateLookupCost(index)
+                : index.size() * TEST_COST;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Returns the estimated cost of evaluating every step.
+     */
+    public long getEstimatedCost() {
+        return steps.stream().mapToLong(Step::getEstimatedCost).sum();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personCount", personCount)
+                .add("steps", steps)
+                .toString();
+    }
+}
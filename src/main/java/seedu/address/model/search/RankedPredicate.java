@@ -0,0 +1,19 @@
+package seedu.address.model.search;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate<Person>} that can also rank the persons it matches, such as by how closely they match.
+ */
+public interface RankedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the order to show the matching persons in, best match first, or an empty {@code Optional} if they
+     * should be shown in the order of the address book.
+     */
+    Optional<Comparator<Person>> getRanking();
+}
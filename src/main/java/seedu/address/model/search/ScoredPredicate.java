@@ -0,0 +1,32 @@
+package seedu.address.model.search;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code IndexedPredicate} that scores how well each person matches, so that only the best matches need to be
+ * shown. A person satisfies the predicate exactly when its score is positive, and the persons resolved from a
+ * {@code PersonSearchIndex} are exactly those that score positive.
+ */
+public interface ScoredPredicate extends IndexedPredicate, RankedPredicate {
+
+    /**
+     * Returns how well {@code person} matches, higher being better, or 0 if it does not match.
+     */
+    int score(Person person);
+
+    @Override
+    default boolean test(Person person) {
+        return score(person) > 0;
+    }
+
+    /**
+     * Ranks persons from the highest score to the lowest.
+     */
+    @Override
+    default Optional<Comparator<Person>> getRanking() {
+        return Optional.of(Comparator.comparingInt(this::score).reversed());
+    }
+}
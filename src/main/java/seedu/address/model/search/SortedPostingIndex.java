@@ -0,0 +1,66 @@
+package seedu.address.model.search;
+
+import java.util.BitSet;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * A {@code PostingIndex} that also keeps its keys in order, so that the persons with a key in a range, or with a key
+ * starting with a prefix, can be found by scanning only the keys in that range rather than every key.
+ */
+class SortedPostingIndex extends PostingIndex {
+
+    private final NavigableSet<String> sortedKeys = new TreeSet<>();
+
+    @Override
+    void add(String key, int ordinal) {
+        super.add(key, ordinal);
+        sortedKeys.add(key);
+    }
+
+    @Override
+    void remove(String key, int ordinal) {
+        super.remove(key, ordinal);
+        if (!contains(key)) {
+            sortedKeys.remove(key);
+        }
+    }
+
+    /**
+     * Adds the ordinals of the persons with a key in the range from {@code from} to {@code to} to {@code ordinals}.
+     * The range includes both ends, and also the keys that start with {@code to}, so that a range with the same
+     * string at both ends holds the keys starting with it, and an empty {@code to} leaves the range open.
+     */
+    void addInRangeTo(String from, String to, BitSet ordinals) {
+        for (String key : sortedKeys.tailSet(from, true)) {
+            if (!isAtMost(key, to)) {
+                break;
+            }
+            addTo(key, ordinals);
+        }
+    }
+
+    /**
+     * Returns the sum of the number of persons with each key in the range from {@code from} to {@code to}, as for
+     * {@link #addInRangeTo(String, String, BitSet)}. A person with more than one key in the range is counted once for
+     * each of them.
+     */
+    long countInRange(String from, String to) {
+        long count = 0;
+        for (String key : sortedKeys.tailSet(from, true)) {
+            if (!isAtMost(key, to)) {
+                break;
+            }
+            count += count(key);
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if {@code key} is ordered before or at {@code to}, or starts with it. The keys for which this holds
+     * come before the others, as the keys that start with {@code to} follow it directly.
+     */
+    private static boolean isAtMost(String key, String to) {
+        return key.compareTo(to) <= 0 || key.startsWith(to);
+    }
+}
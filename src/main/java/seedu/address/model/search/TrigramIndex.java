@@ -0,0 +1,104 @@
+package seedu.address.model.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A {@code PostingIndex} that can also find the keys within a given edit distance of a string.
+ * Each key is indexed by its character trigrams, with the start and end of the key marked. One edit changes at most
+ * three trigrams, so only keys sharing enough trigrams with the string need their edit distance computed.
+ */
+class TrigramIndex extends PostingIndex {
+
+    private static final char START = '\u0002';
+    private static final char END = '\u0003';
+
+    private final Map<String, Set<String>> keysByTrigram = new HashMap<>();
+
+    @Override
+    void add(String key, int ordinal) {
+        if (!contains(key)) {
+            for (String trigram : trigramsOf(key)) {
+                keysByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(key);
+            }
+        }
+        super.add(key, ordinal);
+    }
+
+    @Override
+    void remove(String key, int ordinal) {
+        super.remove(key, ordinal);
+        if (contains(key)) {
+            return;
+        }
+        for (String trigram : trigramsOf(key)) {
+            Set<String> keys = keysByTrigram.get(trigram);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the ordinals of the persons with a key within {@code maxDistance} edits of {@code s}.
+     */
+    BitSet getWithin(String s, int maxDistance) {
+        BitSet ordinals = new BitSet();
+        for (String key : candidateKeys(s, maxDistance)) {
+            if (StringUtil.editDistanceWithin(s, key, maxDistance) <= maxDistance) {
+                addTo(key, ordinals);
+            }
+        }
+        return ordinals;
+    }
+
+    /**
+     * Returns the keys that may be within {@code maxDistance} edits of {@code s}, which include all that are.
+     */
+    private Collection<String> candidateKeys(String s, int maxDistance) {
+        Set<String> trigrams = trigramsOf(s);
+        int minSharedTrigrams = trigrams.size() - 3 * maxDistance;
+        if (minSharedTrigrams <= 0) {
+            // too short for the trigrams to rule any key out
+            return keys();
+        }
+
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String key : keysByTrigram.getOrDefault(trigram, Set.of())) {
+                sharedTrigrams.merge(key, 1, Integer::sum);
+            }
+        }
+        List<String> candidates = new ArrayList<>();
+        sharedTrigrams.forEach((key, count) -> {
+            if (count >= minSharedTrigrams) {
+                candidates.add(key);
+            }
+        });
+        return candidates;
+    }
+
+    /**
+     * Returns the trigrams of {@code s}, with its start and end marked, so that a string of fewer than three
+     * characters still has trigrams. Every three consecutive characters of {@code s} form one of them.
+     */
+    static Set<String> trigramsOf(String s) {
+        String marked = START + s + END;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= marked.length(); i++) {
+            trigrams.add(marked.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
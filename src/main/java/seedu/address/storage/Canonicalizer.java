@@ -0,0 +1,26 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps one instance of each distinct immutable value it is given, so that the equal values read from a file share
+ * that instance instead of each holding a copy of the same data.
+ */
+class Canonicalizer {
+
+    private final Map<Object, Object> instances = new HashMap<>();
+
+    /**
+     * Returns the first value given to this canonicalizer that is equal to {@code value}, or {@code value} itself if
+     * there is none.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T canonicalize(T value) {
+        requireNonNull(value);
+        // values of different classes are never equal, so the cast always holds
+        return (T) instances.computeIfAbsent(value, key -> key);
+    }
+}
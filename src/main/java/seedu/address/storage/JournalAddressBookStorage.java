@@ -0,0 +1,617 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file on the hard disk, with the changes made since the
+ * snapshot appended to a journal file beside it.
+ * Each save appends a record for every person added, edited, moved or deleted since the previous save, and syncs the
+ * journal to the disk once for all of them, so that what it writes grows with the size of the change rather than that
+ * of the address book. The changes are found by matching persons by id, without serializing those that did not
+ * change. Once the journal passes a size threshold, a new snapshot is written in the background and the records it
+ * includes are dropped from the journal.
+ * Each record carries a sequence number, which the snapshot records the last of, so that records already in the
+ * snapshot are skipped when the journal is replayed, whenever the app stopped.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    /** The size in bytes that the journal may grow to before it is compacted into a new snapshot. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final boolean isCompactJson;
+    private final long compactionThreshold;
+    private final Executor compactionExecutor;
+
+    // the fields below are guarded by this storage
+    // the persons as the snapshot and journal have them, or null if they are not known to match any saved data
+    private List<Person> savedPersons;
+    private long lastSequence;
+    private long journalSize;
+    private FileChannel journal;
+    private boolean isCompacting;
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that keeps its snapshot at {@code filePath}, and compacts the
+     * journal on a thread of its own.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that keeps its snapshot at {@code filePath}, written on a single
+     * line if {@code isCompactJson} is true or indented otherwise, and compacts the journal on a thread of its own.
+     */
+    public JournalAddressBookStorage(Path filePath, boolean isCompactJson) {
+        this(filePath, isCompactJson, DEFAULT_COMPACTION_THRESHOLD, createCompactionThread());
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that keeps its snapshot at {@code filePath}, and compacts the
+     * journal on {@code compactionExecutor} once it reaches {@code compactionThreshold} bytes.
+     */
+    JournalAddressBookStorage(Path filePath, boolean isCompactJson, long compactionThreshold,
+                              Executor compactionExecutor) {
+        this.filePath = requireNonNull(filePath);
+        this.journalPath = getJournalPath(filePath);
+        this.isCompactJson = isCompactJson;
+        this.compactionThreshold = compactionThreshold;
+        this.compactionExecutor = requireNonNull(compactionExecutor);
+    }
+
+    private static ExecutorService createCompactionThread() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-compactor");
+            // a compaction cut short leaves the journal in place, to be replayed at the next start
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    private static Path getTempPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMP_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal beside {@code filePath} is replayed up to its last complete record; any record cut short by a
+     * crash while it was being written is ignored, and removed if {@code filePath} is this storage's own.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Path journalPath = getJournalPath(filePath);
+        try {
+            JsonAddressBookReader reader = new JsonAddressBookReader();
+            reader.read(filePath);
+            List<Person> persons = reader.getPersons();
+            Replay replay = replayJournal(journalPath, persons, reader.getJournalSequence());
+            // a file saved before ids existed has none, so records cannot refer to its persons until it is saved again
+            boolean hasIds = persons.stream().allMatch(Person::hasId);
+            AddressBook addressBook = JsonSerializableAddressBook.toAddressBook(persons);
+            if (filePath.equals(this.filePath)) {
+                resumeJournal(hasIds ? addressBook : null, replay);
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or " + journalPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading " + filePath + " or " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    /**
+     * Applies to {@code persons} the records of the journal at {@code journalPath} that come after
+     * {@code snapshotSequence}, stopping at the first record that is incomplete or corrupted.
+     */
+    private static Replay replayJournal(Path journalPath, List<Person> persons, long snapshotSequence)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return new Replay(snapshotSequence, 0, 0);
+        }
+
+        byte[] bytes = Files.readAllBytes(journalPath);
+        long sequence = snapshotSequence;
+        int validLength = 0;
+        int replayedCount = 0;
+        while (validLength < bytes.length) {
+            int end = indexOfNewline(bytes, validLength);
+            // a record without its newline was cut short while it was being written
+            Optional<JsonAdaptedJournalRecord> record = end < 0
+                    ? Optional.empty()
+                    : decodeRecord(new String(bytes, validLength, end - validLength, UTF_8));
+            if (!record.isPresent()) {
+                logger.warning("Ignoring " + (bytes.length - validLength)
+                        + " bytes of incomplete records at the end of " + journalPath);
+                break;
+            }
+            if (record.get().getSequence() > sequence) {
+                record.get().applyTo(persons);
+                sequence = record.get().getSequence();
+                replayedCount++;
+            }
+            validLength = end + 1;
+        }
+        logger.info("Replayed " + replayedCount + " records from " + journalPath);
+        return new Replay(sequence, validLength, bytes.length);
+    }
+
+    private static int indexOfNewline(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a line of the journal holding {@code record}: the checksum of its JSON in hexadecimal, then the JSON.
+     */
+    static String encodeRecord(JsonAdaptedJournalRecord record) throws IOException {
+        String json = JsonUtil.toCompactJsonString(record);
+        return String.format("%08x %s\n", checksum(json), json);
+    }
+
+    /**
+     * Returns the record held by {@code line}, or {@code Optional.empty()} if the line is not one that
+     * {@link #encodeRecord} returned.
+     */
+    static Optional<JsonAdaptedJournalRecord> decodeRecord(String line) {
+        int separator = line.indexOf(' ');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        String json = line.substring(separator + 1);
+        try {
+            if (Long.parseLong(line.substring(0, separator), 16) != checksum(json)) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonUtil.fromJsonString(json, JsonAdaptedJournalRecord.class));
+        } catch (NumberFormatException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static long checksum(String json) {
+        CRC32 crc = new CRC32();
+        crc.update(json.getBytes(UTF_8));
+        return crc.getValue();
+    }
+
+    /**
+     * Continues the journal after the records replayed by {@code replay}, which loaded {@code addressBook}.
+     * If {@code addressBook} is null, the next save is written as a new snapshot instead.
+     */
+    private synchronized void resumeJournal(AddressBook addressBook, Replay replay) throws IOException {
+        awaitCompaction();
+        closeJournal();
+        if (replay.validLength < replay.fileLength) {
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(replay.validLength);
+            }
+        }
+        savedPersons = addressBook == null ? null : List.copyOf(addressBook.getPersonList());
+        lastSequence = replay.sequence;
+        journalSize = replay.validLength;
+        if (savedPersons != null && journalSize >= compactionThreshold) {
+            startCompaction();
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only this storage's own file is journaled; the address book is saved to any other file as a new snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(filePath, persons, 0);
+            Files.deleteIfExists(getJournalPath(filePath));
+            return;
+        }
+
+        synchronized (this) {
+            if (savedPersons == null || !persons.stream().allMatch(Person::hasId)) {
+                saveSnapshot(persons);
+                return;
+            }
+            List<JsonAdaptedJournalRecord> records = recordChanges(persons);
+            if (records.isEmpty()) {
+                return;
+            }
+            appendToJournal(records);
+            savedPersons = persons;
+            if (journalSize >= compactionThreshold && !isCompacting) {
+                startCompaction();
+            }
+        }
+    }
+
+    /**
+     * Returns the records that change the saved persons into {@code persons}, numbered after the last record.
+     * Persons no longer present are removed first. Of the persons kept unchanged, as many as can be are left where they
+     * are: those whose order in {@code persons} is that of a longest run of saved persons in increasing new position.
+     * Every other person is then put in its new position, in the order of {@code persons}, so that a moved person
+     * takes one record.
+     * Positions are looked up by id and counted with a {@code PositionCounter}, so that the time taken grows with
+     * {@code n log n} for {@code n} persons, however many records there are.
+     */
+    private List<JsonAdaptedJournalRecord> recordChanges(List<Person> persons) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        Map<Integer, Integer> newIndexById = new HashMap<>((int) (persons.size() / 0.75f) + 1);
+        for (int i = 0; i < persons.size(); i++) {
+            newIndexById.put(persons.get(i).getId(), i);
+        }
+
+        // the saved persons that are kept, in saved order, with the new index of each, and the reverse
+        List<Person> keptPersons = new ArrayList<>(savedPersons.size());
+        int[] keptNewIndexes = new int[savedPersons.size()];
+        int[] keptPositions = new int[persons.size()];
+        Arrays.fill(keptPositions, -1);
+        for (Person savedPerson : savedPersons) {
+            Integer newIndex = newIndexById.get(savedPerson.getId());
+            if (newIndex == null) {
+                records.add(JsonAdaptedJournalRecord.remove(++lastSequence, savedPerson.getId()));
+                continue;
+            }
+            keptPositions[newIndex] = keptPersons.size();
+            keptNewIndexes[keptPersons.size()] = newIndex;
+            keptPersons.add(savedPerson);
+        }
+        int keptCount = keptPersons.size();
+
+        boolean[] isInPlace = findInPlace(keptPersons, keptNewIndexes, persons);
+        // the kept persons that are still to be put in their new positions, by their position among the kept persons
+        PositionCounter outOfPlace = new PositionCounter(keptCount);
+        for (int position = 0; position < keptCount; position++) {
+            if (!isInPlace[keptNewIndexes[position]]) {
+                outOfPlace.add(position, 1);
+            }
+        }
+
+        // each person put goes right after the one before it in persons, which is either the last person in place or
+        // is put right after it; only the kept persons still out of place can sit among them
+        int lastInPlacePosition = -1;
+        for (int i = 0; i < persons.size(); i++) {
+            if (isInPlace[i]) {
+                lastInPlacePosition = keptPositions[i];
+                continue;
+            }
+            if (keptPositions[i] >= 0) {
+                // a put takes the person out of its old position first
+                outOfPlace.add(keptPositions[i], -1);
+            }
+            int index = i + (lastInPlacePosition < 0 ? 0 : outOfPlace.countBefore(lastInPlacePosition));
+            records.add(JsonAdaptedJournalRecord.put(++lastSequence, index, persons.get(i)));
+        }
+        assert replaysTo(records, persons);
+        return records;
+    }
+
+    /**
+     * Returns, by new index, whether each person is left in place: the persons of {@code keptPersons} that are
+     * unchanged in {@code persons} and form a longest run of increasing new indexes, given by
+     * {@code keptNewIndexes}.
+     */
+    private static boolean[] findInPlace(List<Person> keptPersons, int[] keptNewIndexes, List<Person> persons) {
+        int keptCount = keptPersons.size();
+        // tails[k] is the position of the smallest new index that ends a run of length k + 1 found so far
+        int[] tails = new int[keptCount];
+        int[] previous = new int[keptCount];
+        int length = 0;
+        for (int position = 0; position < keptCount; position++) {
+            int newIndex = keptNewIndexes[position];
+            if (!isSameRecord(keptPersons.get(position), persons.get(newIndex))) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (keptNewIndexes[tails[middle]] < newIndex) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            previous[position] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = position;
+            length = Math.max(length, low + 1);
+        }
+
+        boolean[] isInPlace = new boolean[persons.size()];
+        for (int position = length > 0 ? tails[length - 1] : -1; position >= 0; position = previous[position]) {
+            isInPlace[keptNewIndexes[position]] = true;
+        }
+        return isInPlace;
+    }
+
+    private static boolean isSameRecord(Person savedPerson, Person person) {
+        return savedPerson == person || (savedPerson.getId() == person.getId() && savedPerson.equals(person));
+    }
+
+    /**
+     * Returns true if applying {@code records} to the saved persons gives {@code persons}.
+     * This replays every record on a copy of the list, so it is only meant for assertions.
+     */
+    private boolean replaysTo(List<JsonAdaptedJournalRecord> records, List<Person> persons) {
+        List<Person> replayed = new ArrayList<>(savedPersons);
+        try {
+            for (JsonAdaptedJournalRecord record : records) {
+                record.applyTo(replayed);
+            }
+        } catch (IllegalValueException e) {
+            return false;
+        }
+        return replayed.equals(persons);
+    }
+
+    /**
+     * Appends {@code records} to the journal and syncs it to the disk once for all of them.
+     * If writing fails, the journal is cut back to its previous end, so that no partial record is followed by
+     * others.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (JsonAdaptedJournalRecord record : records) {
+            bytes.write(encodeRecord(record).getBytes(UTF_8));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+
+        try {
+            if (journal == null) {
+                FileUtil.createParentDirsOfFile(journalPath);
+                journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            }
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        } catch (IOException e) {
+            try {
+                if (journal != null) {
+                    journal.truncate(journalSize);
+                }
+            } catch (IOException truncateFailure) {
+                e.addSuppressed(truncateFailure);
+            }
+            closeJournal();
+            throw e;
+        }
+        journalSize += buffer.limit();
+        logger.fine(() -> "Appended " + records.size() + " records to " + journalPath);
+    }
+
+    /**
+     * Writes {@code persons} as a new snapshot at once, in place of the snapshot and journal.
+     */
+    private void saveSnapshot(List<Person> persons) throws IOException {
+        awaitCompaction();
+        // the snapshot needs a sequence number of its own, as its persons are not those of any record
+        long sequence = ++lastSequence;
+        writeSnapshot(filePath, persons, sequence);
+        closeJournal();
+        Files.deleteIfExists(journalPath);
+        journalSize = 0;
+        // persons without ids are given new ones when the snapshot is read, so later saves cannot refer to them
+        savedPersons = persons.stream().allMatch(Person::hasId) ? persons : null;
+    }
+
+    /**
+     * Starts writing the saved persons as a new snapshot in the background.
+     */
+    private void startCompaction() {
+        isCompacting = true;
+        List<Person> persons = savedPersons;
+        long sequence = lastSequence;
+        long compactedSize = journalSize;
+        compactionExecutor.execute(() -> compact(persons, sequence, compactedSize));
+    }
+
+    /**
+     * Writes {@code persons} as a new snapshot, then drops the first {@code compactedSize} bytes of the journal,
+     * whose records are up to {@code sequence} and so included in the snapshot.
+     */
+    private void compact(List<Person> persons, long sequence, long compactedSize) {
+        try {
+            writeSnapshot(filePath, persons, sequence);
+            synchronized (this) {
+                dropFromJournal(compactedSize);
+            }
+            logger.info("Compacted " + compactedSize + " bytes of journal into " + filePath);
+        } catch (IOException | RuntimeException e) {
+            // the journal is left whole, and replayed over the previous snapshot until a later compaction succeeds
+            logger.warning("Failed to compact journal " + journalPath + ": " + StringUtil.getDetails(e));
+        } finally {
+            synchronized (this) {
+                isCompacting = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Replaces the journal with one holding only the records after its first {@code size} bytes.
+     */
+    private void dropFromJournal(long size) throws IOException {
+        closeJournal();
+        Path tempPath = getTempPath(journalPath);
+        try (FileChannel source = FileChannel.open(journalPath, StandardOpenOption.READ);
+                FileChannel target = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = size;
+            while (position < journalSize) {
+                position += source.transferTo(position, journalSize - position, target);
+            }
+            target.force(false);
+        }
+        Files.move(tempPath, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        journalSize -= size;
+    }
+
+    /**
+     * Writes {@code persons} as a snapshot at {@code filePath} that includes the records up to {@code sequence}.
+     * A crash leaves either the old snapshot or the new one, as with any file written by
+     * {@link JsonUtil#writeJsonFile}.
+     */
+    private void writeSnapshot(Path filePath, List<Person> persons, long sequence) throws IOException {
+        JsonUtil.writeJsonFile(filePath, isCompactJson, generator -> {
+            // the format of JsonSerializableAddressBook, with the sequence number as an extra field
+            generator.writeStartObject();
+            JsonSerializableAddressBook.writePersons(generator, persons);
+            generator.writeNumberField(JsonAddressBookReader.JOURNAL_SEQUENCE_FIELD, sequence);
+            generator.writeEndObject();
+        });
+    }
+
+    private void awaitCompaction() throws IOException {
+        while (isCompacting) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the journal to be compacted");
+            }
+        }
+    }
+
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close journal " + journalPath + ": " + StringUtil.getDetails(e));
+        }
+        journal = null;
+    }
+
+    /**
+     * Counts the positions marked in a range {@code [0, size)}, where each change and count takes time that grows with
+     * {@code log size}. This is a Fenwick tree.
+     */
+    private static class PositionCounter {
+        private final int[] tree;
+
+        PositionCounter(int size) {
+            tree = new int[size + 1];
+        }
+
+        /**
+         * Adds {@code delta} to the count at {@code position}.
+         */
+        void add(int position, int delta) {
+            for (int i = position + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        /**
+         * Returns the total count at the positions before {@code position}.
+         */
+        int countBefore(int position) {
+            int count = 0;
+            for (int i = position; i > 0; i -= i & -i) {
+                count += tree[i];
+            }
+            return count;
+        }
+    }
+
+    /**
+     * The outcome of replaying a journal: the sequence number of the last record applied, and the length of the
+     * complete records at the start of the file.
+     */
+    private static class Replay {
+        private final long sequence;
+        private final long validLength;
+        private final long fileLength;
+
+        Replay(long sequence, long validLength, long fileLength) {
+            this.sequence = sequence;
+            this.validLength = validLength;
+            this.fileLength = fileLength;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a change to the persons of an address book, as recorded in a journal.
+ * A put record places a person at a position, in place of the person with the same id if there is one; a remove
+ * record removes the person with an id.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String PUT = "put";
+    public static final String REMOVE = "remove";
+    public static final String MESSAGE_INVALID_RECORD = "Journal record %1$d is invalid!";
+
+    private final long sequence;
+    private final String operation;
+    private final Integer index;
+    private final Integer id;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("sequence") long sequence,
+            @JsonProperty("operation") String operation, @JsonProperty("index") Integer index,
+            @JsonProperty("id") Integer id, @JsonProperty("person") JsonAdaptedPerson person) {
+        this.sequence = sequence;
+        this.operation = operation;
+        this.index = index;
+        this.id = id;
+        this.person = person;
+    }
+
+    /**
+     * Returns a record that puts {@code person} at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord put(long sequence, int index, Person person) {
+        return new JsonAdaptedJournalRecord(sequence, PUT, index, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record that removes the person with {@code id}.
+     */
+    public static JsonAdaptedJournalRecord remove(long sequence, int id) {
+        return new JsonAdaptedJournalRecord(sequence, REMOVE, null, id, null);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies this change to {@code persons}.
+     *
+     * @throws IllegalValueException if this record is not a valid change, or its person violates any data
+     *     constraints.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (PUT.equals(operation) && index != null && index >= 0 && person != null) {
+            Person modelPerson = person.toModelType();
+            if (!modelPerson.hasId()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, sequence));
+            }
+            removeWithId(persons, modelPerson.getId());
+            persons.add(Math.min(index, persons.size()), modelPerson);
+        } else if (REMOVE.equals(operation) && id != null) {
+            removeWithId(persons, id);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, sequence));
+        }
+    }
+
+    private static void removeWithId(List<Person> persons, int id) {
+        persons.removeIf(person -> person.getId() == id);
+    }
+
+}
@@ -35,6 +35,7 @@ class JsonAdaptedPerson {
     private final List<JsonAdaptedModule> modules = new ArrayList<>();
     private final List<JsonAdaptedFaculty> faculties = new ArrayList<>();
     private final String favorite;
+    private final Integer id;
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
@@ -45,7 +46,7 @@ class JsonAdaptedPerson {
             @JsonProperty("tags") List<JsonAdaptedTag> tags,
             @JsonProperty("modules") List<JsonAdaptedModule> modules,
             @JsonProperty("faculties") List<JsonAdaptedFaculty> faculties,
-            @JsonProperty("favorite") String favorite) {
+            @JsonProperty("favorite") String favorite, @JsonProperty("id") Integer id) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -60,6 +61,7 @@ class JsonAdaptedPerson {
             this.faculties.addAll(faculties);
         }
         this.favorite = favorite;
+        this.id = id;
     }
 
     /**
@@ -80,6 +82,7 @@ class JsonAdaptedPerson {
                 .map(JsonAdaptedFaculty::new)
                 .collect(Collectors.toList()));
         favorite = source.getFavorite().toString();
+        id = source.hasId() ? source.getId() : null;
     }
 
     /**
@@ -88,20 +91,31 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(new Canonicalizer());
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but gives the person the tags, modules and faculties kept by
+     * {@code canonicalizer} in place of equal ones of its own, so that persons converted with the same canonicalizer
+     * share them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    Person toModelType(Canonicalizer canonicalizer) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         final List<Module> personModules = new ArrayList<>();
         final List<Faculty> personFaculties = new ArrayList<>();
 
         for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+            personTags.add(canonicalizer.canonicalize(tag.toModelType()));
         }
 
         for (JsonAdaptedModule module : modules) {
-            personModules.add(module.toModelType());
+            personModules.add(canonicalizer.canonicalize(module.toModelType()));
         }
 
         for (JsonAdaptedFaculty faculty : faculties) {
-            personFaculties.add(faculty.toModelType());
+            personFaculties.add(canonicalizer.canonicalize(faculty.toModelType()));
         }
 
         if (name == null) {
@@ -150,6 +164,12 @@ class JsonAdaptedPerson {
                 ? Favorite.DEFAULT_NOT_FAVORITE
                 : new Favorite(favorite);
 
+        // files saved before ids existed have none; the address book assigns fresh ones on load
+        if (id != null && id < Person.UNASSIGNED_ID) {
+            throw new IllegalValueException(Person.MESSAGE_INVALID_ID);
+        }
+        final int modelId = id == null ? Person.UNASSIGNED_ID : id;
+
         return new Person(
             modelName,
             modelPhone,
@@ -158,7 +178,8 @@ class JsonAdaptedPerson {
             modelTags,
             modelModules,
             modelFaculties,
-            modelFavorite);
+            modelFavorite,
+            modelId);
     }
 
 }
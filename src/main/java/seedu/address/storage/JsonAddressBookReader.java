@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads a file in the format of {@link JsonSerializableAddressBook} token by token, converting each person into the
+ * model's {@code Person} as soon as it is parsed, so that neither the text of the file nor its adapted persons are
+ * ever held in memory as a whole.
+ * The persons read share one instance of each distinct tag, module and faculty.
+ */
+class JsonAddressBookReader {
+
+    public static final String PERSONS_FIELD = "persons";
+    public static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+
+    private final Canonicalizer canonicalizer = new Canonicalizer();
+    private final List<Person> persons = new ArrayList<>();
+    private long journalSequence;
+
+    /**
+     * Reads the persons in the file at {@code filePath}. Each reader reads one file.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON of the expected format.
+     * @throws IllegalValueException if there were any data constraints violated in a person.
+     */
+    void read(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PERSONS_FIELD.equals(field) && value != JsonToken.VALUE_NULL) {
+                    expect(parser, value, JsonToken.START_ARRAY);
+                    readPersons(parser);
+                } else if (JOURNAL_SEQUENCE_FIELD.equals(field) && value != JsonToken.VALUE_NULL) {
+                    journalSequence = parser.getValueAsLong();
+                } else {
+                    // other fields are ignored, as they are when the file is read whole
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, parser.currentToken(), JsonToken.END_OBJECT);
+        }
+    }
+
+    private void readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+            JsonAdaptedPerson person = parser.readValueAs(JsonAdaptedPerson.class);
+            persons.add(person.toModelType(canonicalizer));
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken token, JsonToken expectedToken) throws JsonParseException {
+        if (token != expectedToken) {
+            throw new JsonParseException(parser, "Expected " + expectedToken + " but found " + token);
+        }
+    }
+
+    /**
+     * Returns the persons read so far, in the order they were read.
+     */
+    List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the sequence number of the last journal record included in the file read, or 0 if it has none.
+     */
+    long getJournalSequence() {
+        return journalSequence;
+    }
+}
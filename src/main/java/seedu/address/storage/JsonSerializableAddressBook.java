@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,6 +8,7 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -20,7 +22,7 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON =
-            "Persons list contains duplicate person(s).";
+            "Persons list contains duplicate person(s): %1$s";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -41,19 +43,54 @@ class JsonSerializableAddressBook {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Writes {@code persons} to {@code generator} as the persons field of this class, converting one person at a
+     * time, so that the memory a save takes does not grow with the number of persons.
+     * The generator must be inside a JSON object.
+     */
+    static void writePersons(JsonGenerator generator, List<Person> persons) throws IOException {
+        generator.writeArrayFieldStart(JsonAddressBookReader.PERSONS_FIELD);
+        for (Person person : persons) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        return toAddressBook(toModelPersons(persons));
+    }
+
+    /**
+     * Converts each of {@code persons} into the model's {@code Person} object, in order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static List<Person> toModelPersons(List<JsonAdaptedPerson> persons) throws IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return modelPersons;
+    }
+
+    /**
+     * Returns an {@code AddressBook} with {@code modelPersons}, in order.
+     *
+     * @throws IllegalValueException if {@code modelPersons} contains duplicate persons.
+     */
+    static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        List<Person> duplicates = addressBook.addPersons(modelPersons);
+        if (!duplicates.isEmpty()) {
+            String duplicateNames = duplicates.stream()
+                    .map(person -> person.getName().fullName)
+                    .collect(Collectors.joining(", "));
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON, duplicateNames));
         }
         return addressBook;
     }
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Statistics of the saves written in the background by a {@code WriteBehindStorageManager}, as at one point in time.
+ */
+public class SaveMetrics {
+
+    private final int queueDepth;
+    private final int maxQueueDepth;
+    private final long requestedCount;
+    private final long writtenCount;
+    private final long failedCount;
+    private final long totalLatencyNanos;
+    private final long maxLatencyNanos;
+
+    /**
+     * Creates the statistics of saves with the given values. Latencies are from the time a save is requested to the
+     * time it is written.
+     */
+    SaveMetrics(int queueDepth, int maxQueueDepth, long requestedCount, long writtenCount, long failedCount,
+            long totalLatencyNanos, long maxLatencyNanos) {
+        this.queueDepth = queueDepth;
+        this.maxQueueDepth = maxQueueDepth;
+        this.requestedCount = requestedCount;
+        this.writtenCount = writtenCount;
+        this.failedCount = failedCount;
+        this.totalLatencyNanos = totalLatencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+    }
+
+    /**
+     * Returns the number of files waiting to be written.
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Returns the highest number of files that have been waiting to be written at once.
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /**
+     * Returns the number of saves requested, including those replaced by a later save of the same file before they
+     * were written.
+     */
+    public long getRequestedCount() {
+        return requestedCount;
+    }
+
+    /**
+     * Returns the number of writes carried out, whether or not they succeeded.
+     */
+    public long getWrittenCount() {
+        return writtenCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Returns the mean time from a save being requested to it being written, in milliseconds, or 0 if nothing has
+     * been written.
+     */
+    public double getMeanLatencyMillis() {
+        return writtenCount == 0 ? 0 : totalLatencyNanos / 1e6 / writtenCount;
+    }
+
+    /**
+     * Returns the longest time from a save being requested to it being written, in milliseconds.
+     */
+    public double getMaxLatencyMillis() {
+        return maxLatencyNanos / 1e6;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("queueDepth", queueDepth)
+                .add("maxQueueDepth", maxQueueDepth)
+                .add("requested", requestedCount)
+                .add("written", writtenCount)
+                .add("failed", failedCount)
+                .add("meanLatencyMillis", String.format("%.1f", getMeanLatencyMillis()))
+                .add("maxLatencyMillis", String.format("%.1f", getMaxLatencyMillis()))
+                .toString();
+    }
+}
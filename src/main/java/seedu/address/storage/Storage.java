@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,16 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, CommandHi
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Waits until every save requested so far has been written.
+     * @throws IOException if there was any problem writing a file that has not been reported yet.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Sets {@code handler} to be given each save that fails after the save method has returned, as soon as it fails.
+     * Such failures are then no longer thrown by later saves, though {@link #flush()} still throws them.
+     */
+    void setSaveFailureHandler(Consumer<IOException> handler);
+
 }
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -110,4 +111,18 @@ public class StorageManager implements Storage {
         commandHistoryStorage.saveCommandHistory(commandHistory);
     }
 
+    /**
+     * Does nothing, as every save is written before it returns.
+     */
+    @Override
+    public void flush() throws IOException {
+    }
+
+    /**
+     * Does nothing, as every save is written before it returns, and throws its own failure.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+    }
+
 }
@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code StorageManager} that writes the address book, user prefs and command history on a background thread, so
+ * that saving them does not hold up the caller. Each save takes a snapshot of the data and returns at once; saves
+ * requested while earlier ones are being written are combined into one write of the latest snapshot.
+ * A background save that fails is given to the save failure handler, if one is set, as soon as it fails. Otherwise it
+ * is reported by the next save requested. Either way, {@link #flush()} reports it until the file is saved again.
+ */
+public class WriteBehindStorageManager extends StorageManager {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorageManager.class);
+
+    private static final String ADDRESS_BOOK_FILE = "addressBook";
+    private static final String USER_PREFS_FILE = "userPrefs";
+    private static final String COMMAND_HISTORY_FILE = "commandHistory";
+
+    private final WriteBehindWriter writer;
+
+    /**
+     * Creates a {@code WriteBehindStorageManager} that writes on a thread of its own.
+     */
+    public WriteBehindStorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                                     CommandHistoryStorage commandHistoryStorage) {
+        this(addressBookStorage, userPrefsStorage, commandHistoryStorage, createWriterThread());
+    }
+
+    /**
+     * Creates a {@code WriteBehindStorageManager} that writes on {@code executor}, which must run tasks one at a time.
+     */
+    WriteBehindStorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                              CommandHistoryStorage commandHistoryStorage, Executor executor) {
+        super(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        this.writer = new WriteBehindWriter(executor);
+    }
+
+    private static ExecutorService createWriterThread() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            // saves still waiting at exit are written by flush, which the app calls before it stops
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * The prefs are written in the background.
+     * @throws IOException if an earlier background save failed.
+     */
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        requireNonNull(userPrefs);
+        UserPrefs snapshot = new UserPrefs(userPrefs);
+        writer.submit(USER_PREFS_FILE, () -> super.saveUserPrefs(snapshot));
+        throwEarlierFailure();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The address book is written in the background.
+     * @throws IOException if an earlier background save failed.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        // persons are immutable, so a copy of the list is enough to keep the data as it is now
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        long version = addressBook.getVersion();
+        ReadOnlyAddressBook snapshot = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return persons;
+            }
+
+            @Override
+            public long getVersion() {
+                return version;
+            }
+        };
+        writer.submit(ADDRESS_BOOK_FILE, () -> super.saveAddressBook(snapshot));
+        throwEarlierFailure();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The command history is written in the background.
+     * @throws IOException if an earlier background save failed.
+     */
+    @Override
+    public void saveCommandHistory(List<String> commandHistory) throws IOException {
+        requireNonNull(commandHistory);
+        List<String> snapshot = List.copyOf(commandHistory);
+        writer.submit(COMMAND_HISTORY_FILE, () -> super.saveCommandHistory(snapshot));
+        throwEarlierFailure();
+    }
+
+    /**
+     * Waits until every save requested so far has been written.
+     * @throws IOException if a background save failed and has not been reported, or its file has not been saved since.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.flush();
+        } finally {
+            logger.info("Background saves: " + writer.getMetrics());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The handler is called on the thread that writes the saves.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        writer.setFailureHandler(handler);
+    }
+
+    /**
+     * Returns statistics of the saves written so far.
+     */
+    public SaveMetrics getMetrics() {
+        return writer.getMetrics();
+    }
+
+    private void throwEarlierFailure() throws IOException {
+        logger.fine(() -> "Background saves: " + writer.getMetrics());
+        IOException failure = writer.takeFailure();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
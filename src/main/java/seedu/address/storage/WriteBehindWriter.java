@@ -0,0 +1,198 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Writes saves on a background thread, in the order they are first requested. A save of a file that is still waiting
+ * to be written replaces the waiting one, so that a burst of saves of the same file is written once, with the latest
+ * data.
+ * A failed save is given to the failure handler, if one is set, as soon as it fails. Otherwise it is kept until it is
+ * taken with {@link #takeFailure()} or reported by {@link #flush()}. Either way, {@link #flush()} reports the files
+ * whose latest save failed.
+ */
+class WriteBehindWriter {
+
+    /**
+     * Writes one file.
+     */
+    @FunctionalInterface
+    interface Save {
+        void write() throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindWriter.class);
+
+    private final Executor executor;
+
+    // the fields below are guarded by this writer
+    private final Map<String, PendingSave> pendingSaves = new LinkedHashMap<>();
+    private boolean isDraining;
+    private IOException failure;
+    // the failures of the files whose latest save failed, by file
+    private final Map<String, IOException> failedFiles = new LinkedHashMap<>();
+    private Consumer<IOException> failureHandler;
+
+    private int maxQueueDepth;
+    private long requestedCount;
+    private long writtenCount;
+    private long failedCount;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+
+    /**
+     * Creates a writer that writes saves on {@code executor}, which should run tasks one at a time off the thread
+     * that requests saves.
+     */
+    WriteBehindWriter(Executor executor) {
+        this.executor = requireNonNull(executor);
+    }
+
+    /**
+     * Requests {@code save} to be written as the latest save of the file named {@code file}.
+     */
+    synchronized void submit(String file, Save save) {
+        requireNonNull(file);
+        requireNonNull(save);
+        requestedCount++;
+        PendingSave replaced = pendingSaves.get(file);
+        // the latency of a write counts from the oldest save it covers
+        long requestedNanos = replaced != null ? replaced.requestedNanos : System.nanoTime();
+        pendingSaves.put(file, new PendingSave(file, save, requestedNanos));
+        maxQueueDepth = Math.max(maxQueueDepth, pendingSaves.size());
+        if (!isDraining) {
+            isDraining = true;
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Writes the waiting saves until none are left, taking those requested in the meantime in the next round.
+     */
+    private void drain() {
+        while (true) {
+            List<PendingSave> batch;
+            synchronized (this) {
+                if (pendingSaves.isEmpty()) {
+                    isDraining = false;
+                    notifyAll();
+                    return;
+                }
+                batch = new ArrayList<>(pendingSaves.values());
+                pendingSaves.clear();
+            }
+            batch.forEach(this::write);
+        }
+    }
+
+    private void write(PendingSave pendingSave) {
+        IOException writeFailure = null;
+        try {
+            pendingSave.save.write();
+        } catch (IOException e) {
+            writeFailure = e;
+        } catch (RuntimeException e) {
+            // kept as a failure to report, as nothing else would see it on the background thread
+            writeFailure = new IOException(e.getMessage(), e);
+        }
+        if (writeFailure != null) {
+            logger.warning("Background save failed: " + StringUtil.getDetails(writeFailure));
+        }
+        long latencyNanos = System.nanoTime() - pendingSave.requestedNanos;
+        Consumer<IOException> handler;
+        synchronized (this) {
+            writtenCount++;
+            totalLatencyNanos += latencyNanos;
+            maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+            if (writeFailure == null) {
+                failedFiles.remove(pendingSave.file);
+                return;
+            }
+            failedCount++;
+            failedFiles.put(pendingSave.file, writeFailure);
+            handler = failureHandler;
+            if (handler == null) {
+                failure = writeFailure;
+            }
+        }
+        if (handler != null) {
+            handler.accept(writeFailure);
+        }
+    }
+
+    /**
+     * Sets {@code handler} to be given each save that fails from now on, on the thread that wrote it, instead of
+     * keeping the failure for {@link #takeFailure()}.
+     */
+    synchronized void setFailureHandler(Consumer<IOException> handler) {
+        failureHandler = handler;
+    }
+
+    /**
+     * Returns the last save that failed since the previous call, or null if none did.
+     */
+    synchronized IOException takeFailure() {
+        IOException lastFailure = failure;
+        failure = null;
+        return lastFailure;
+    }
+
+    /**
+     * Waits until every save requested so far has been written.
+     * @throws IOException if a save failed and the failure has not been taken, or its file has not been saved since.
+     */
+    void flush() throws IOException {
+        synchronized (this) {
+            while (isDraining) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for saves to be written");
+                }
+            }
+        }
+        IOException lastFailure;
+        synchronized (this) {
+            lastFailure = takeFailure();
+            if (lastFailure == null && !failedFiles.isEmpty()) {
+                lastFailure = failedFiles.values().iterator().next();
+            }
+        }
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+    }
+
+    synchronized SaveMetrics getMetrics() {
+        return new SaveMetrics(pendingSaves.size(), maxQueueDepth, requestedCount, writtenCount, failedCount,
+                totalLatencyNanos, maxLatencyNanos);
+    }
+
+    /**
+     * A save waiting to be written, with the time that the oldest save of its file still waiting was requested.
+     */
+    private static class PendingSave {
+        private final String file;
+        private final Save save;
+        private final long requestedNanos;
+
+        PendingSave(String file, Save save, long requestedNanos) {
+            this.file = file;
+            this.save = save;
+            this.requestedNanos = requestedNanos;
+        }
+    }
+}
@@ -61,6 +61,8 @@ public class CommandBox extends UiPart<Region> {
         this.resultDisplay = resultDisplay;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // previews find commands while they are being typed
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> logic.previewCommand(newText));
         setupKeyboardNavigation();
 
         commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
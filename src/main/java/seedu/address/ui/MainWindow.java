@@ -4,6 +4,8 @@ import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.SplitPane;
 import javafx.scene.control.TextInputControl;
@@ -75,6 +77,12 @@ public class MainWindow extends UiPart<Stage> {
         setAccelerators();
 
         helpWindow = new HelpWindow();
+
+        primaryStage.setOnCloseRequest(event -> {
+            if (!saveBeforeClosing()) {
+                event.consume();
+            }
+        });
     }
 
     public Stage getPrimaryStage() {
@@ -130,6 +138,7 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplay.setFeedbackToUser(seedu.address.model.util.MotivationalMessages.getRandomMessage());
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureListener(resultDisplay::setFeedbackToUser);
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -182,10 +191,36 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
+        if (!saveBeforeClosing()) {
+            return;
+        }
         helpWindow.hide();
         primaryStage.hide();
     }
 
+    /**
+     * Saves all the data before the application closes. If it cannot be saved, asks the user whether to close
+     * anyway, losing the changes that were not saved.
+     * @return true if the application should close.
+     */
+    private boolean saveBeforeClosing() {
+        try {
+            logic.saveAll();
+            return true;
+        } catch (CommandException e) {
+            logger.warning("Failed to save data before closing: " + e.getMessage());
+            resultDisplay.setFeedbackToUser(e.getMessage());
+
+            Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+            alert.getDialogPane().getStylesheets().add("view/DarkTheme.css");
+            alert.initOwner(primaryStage);
+            alert.setTitle("Unsaved changes");
+            alert.setHeaderText("The latest changes could not be saved. Close anyway and lose them?");
+            alert.setContentText(e.getMessage());
+            return alert.showAndWait().filter(ButtonType.OK::equals).isPresent();
+        }
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
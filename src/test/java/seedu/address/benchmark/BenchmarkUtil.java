@@ -0,0 +1,40 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Timing helpers shared by the benchmarks.
+ */
+final class BenchmarkUtil {
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    // Results of measured tasks are folded in here so that the JIT cannot drop the work as unused.
+    private static volatile long sink;
+
+    private BenchmarkUtil() {}
+
+    /**
+     * Runs {@code task} a few times to warm up, then returns the fastest of several timed runs in nanoseconds.
+     */
+    static long bestNanos(LongSupplier task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += task.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * Returns the input sizes given as program arguments, or {@code defaultSizes} if there are none.
+     */
+    static int[] parseSizes(String[] args, int... defaultSizes) {
+        return args.length == 0 ? defaultSizes : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+    }
+}
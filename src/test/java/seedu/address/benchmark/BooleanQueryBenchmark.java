@@ -0,0 +1,66 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares answering a compound query over faculties, modules and tags by testing its predicate on every person
+ * against combining the bitsets of the {@code PersonSearchIndex}.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=BooleanQueryBenchmark}, optionally followed by
+ * {@code -PbenchmarkArgs="10000 100000"} to choose the sizes.
+ */
+public class BooleanQueryBenchmark {
+    private static final String QUERY = " f/computing AND (m/CS2103T OR m/CS2101) AND NOT t/ta";
+
+    private static final String[] FACULTIES = {"Computing", "Science", "Business", "Engineering", "Law"};
+    private static final String[] MODULES = {"CS2103T", "CS2101", "CS2040S", "MA1521", "GEA1000", "ST2334"};
+    private static final String[] TAGS = {"ta", "friends", "cca", "hall", "groupmate"};
+
+    public static void main(String[] args) throws ParseException {
+        int[] sizes = BenchmarkUtil.parseSizes(args, 10_000, 100_000, 300_000);
+        FindCommand command = new FindCommandParser().parse(QUERY);
+        Predicate<Person> predicate = command.getPredicate();
+
+        System.out.println("find" + QUERY);
+        System.out.printf("%10s %10s %12s %12s %10s%n", "persons", "matches", "scan ms", "index ms", "speedup");
+        for (int size : sizes) {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(generatePersons(size));
+            List<Person> storedPersons = addressBook.getPersonList();
+            PersonSearchIndex index = addressBook.getSearchIndex();
+
+            long scan = BenchmarkUtil.bestNanos(() -> storedPersons.stream().filter(predicate).count());
+            long lookup = BenchmarkUtil.bestNanos(() -> index.resolve(predicate).cardinality());
+            System.out.printf("%10d %10d %12.2f %12.3f %9.0fx%n", size, index.resolve(predicate).cardinality(),
+                    scan / 1e6, lookup / 1e6, (double) scan / lookup);
+        }
+    }
+
+    /**
+     * Returns {@code size} persons with distinct names and phones, each with a random faculty, module and tag.
+     */
+    private static List<Person> generatePersons(int size) {
+        Random random = new Random(size);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Person " + Integer.toString(i, 36))
+                    .withPhone(String.valueOf(80_000_000 + i))
+                    .withFaculties(FACULTIES[random.nextInt(FACULTIES.length)])
+                    .withModules(MODULES[random.nextInt(MODULES.length)])
+                    .withTags(TAGS[random.nextInt(TAGS.length)])
+                    .build());
+        }
+        return persons;
+    }
+}
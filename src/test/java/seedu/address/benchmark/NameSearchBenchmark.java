@@ -0,0 +1,60 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares answering {@code find n/alex tan} by testing {@code NameContainsKeywordsPredicate} on every person against
+ * looking the keywords up in the name-word index of {@code PersonSearchIndex}.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=NameSearchBenchmark}, optionally followed by
+ * {@code -PbenchmarkArgs="10000 100000"} to choose the sizes.
+ */
+public class NameSearchBenchmark {
+    private static final String[] GIVEN_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ming",
+        "Siti", "Rajesh", "Hui Min", "Kumar", "Nurul", "Jun Jie", "Priya", "Marcus", "Aisyah"};
+    private static final String[] FAMILY_NAMES = {"Tan", "Lim", "Lee", "Ng", "Wong", "Ibrahim", "Balakrishnan",
+        "Oliveiro", "Yeoh", "Goh", "Chua", "Rahman", "Pillai", "Teo", "Ong", "Koh"};
+
+    public static void main(String[] args) {
+        int[] sizes = BenchmarkUtil.parseSizes(args, 10_000, 100_000, 1_000_000);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("alex", "tan"));
+
+        System.out.printf("%10s %10s %12s %12s %10s%n", "persons", "matches", "scan ms", "index ms", "speedup");
+        for (int size : sizes) {
+            List<Person> persons = generatePersons(size);
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            List<Person> storedPersons = addressBook.getPersonList();
+            PersonSearchIndex index = addressBook.getSearchIndex();
+
+            long scan = BenchmarkUtil.bestNanos(() -> storedPersons.stream().filter(predicate).count());
+            long lookup = BenchmarkUtil.bestNanos(() -> predicate.resolve(index).cardinality());
+            System.out.printf("%10d %10d %12.2f %12.3f %9.0fx%n", size, predicate.resolve(index).cardinality(),
+                    scan / 1e6, lookup / 1e6, (double) scan / lookup);
+        }
+    }
+
+    /**
+     * Returns {@code size} persons with distinct names and phones, drawn from common given and family names.
+     */
+    private static List<Person> generatePersons(int size) {
+        Random random = new Random(size);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)] + " "
+                    + FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)] + " " + Integer.toString(i, 36);
+            persons.add(new PersonBuilder()
+                    .withName(name)
+                    .withPhone(String.valueOf(80_000_000 + i))
+                    .build());
+        }
+        return persons;
+    }
+}
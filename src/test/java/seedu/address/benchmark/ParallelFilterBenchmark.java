@@ -0,0 +1,73 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares testing a predicate that the search index cannot answer on every person one at a time against testing it
+ * in parallel with {@link CollectionUtil#filter}, to find the list size above which the parallel filter is faster.
+ * That size is what the {@code parallelFilterThreshold} user preference should be set to.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=ParallelFilterBenchmark}, optionally followed by
+ * {@code -PbenchmarkArgs="1000 10000"} to choose the sizes, in increasing order.
+ */
+public class ParallelFilterBenchmark {
+    // Speedup below which the parallel filter does not count as faster, as the timings are noisy.
+    private static final double MIN_SPEEDUP = 1.1;
+
+    private static final String[] STREETS = {"Clementi Ave 2", "Jurong West St 65", "Tampines Street 81",
+        "Ang Mo Kio Ave 3", "Bukit Batok East Ave 6", "Serangoon North Ave 1", "Woodlands Drive 14", "Kent Ridge Road"};
+
+    public static void main(String[] args) {
+        int[] sizes = BenchmarkUtil.parseSizes(args, 500, 1_000, 2_000, 5_000, 10_000, 50_000, 100_000, 500_000);
+        // addresses are not indexed, so this is tested on every person
+        Predicate<Person> predicate = person -> StringUtil.containsWordIgnoreCase(person.getAddress().value, "ridge");
+
+        System.out.printf("parallelism %d%n", ForkJoinPool.getCommonPoolParallelism());
+        System.out.printf("%10s %10s %14s %14s %10s%n", "persons", "matches", "sequential ms", "parallel ms",
+                "speedup");
+        // the smallest size from which the parallel filter stays clearly faster at every larger size
+        int crossover = -1;
+        for (int size : sizes) {
+            List<Person> persons = generatePersons(size);
+            long sequential = BenchmarkUtil.bestNanos(() ->
+                    CollectionUtil.filter(persons, predicate, Integer.MAX_VALUE).size());
+            long parallel = BenchmarkUtil.bestNanos(() -> CollectionUtil.filter(persons, predicate, 0).size());
+            System.out.printf("%10d %10d %14.3f %14.3f %9.2fx%n", size,
+                    CollectionUtil.filter(persons, predicate, 0).size(), sequential / 1e6, parallel / 1e6,
+                    (double) sequential / parallel);
+            if (parallel * MIN_SPEEDUP > sequential) {
+                crossover = -1;
+            } else if (crossover == -1) {
+                crossover = size;
+            }
+        }
+        System.out.println(crossover == -1
+                ? "parallel did not stay faster up to the largest size"
+                : "parallel stays faster from " + crossover + " persons");
+    }
+
+    /**
+     * Returns {@code size} persons with distinct names and phones, living on a few different streets.
+     */
+    private static List<Person> generatePersons(int size) {
+        Random random = new Random(size);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Person " + Integer.toString(i, 36))
+                    .withPhone(String.valueOf(80_000_000 + i))
+                    .withAddress("Blk " + random.nextInt(1000) + " " + STREETS[random.nextInt(STREETS.length)]
+                            + ", #" + random.nextInt(20) + "-" + random.nextInt(300))
+                    .build());
+        }
+        return persons;
+    }
+}
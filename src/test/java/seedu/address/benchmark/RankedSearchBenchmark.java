@@ -0,0 +1,68 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares answering {@code search tan computing} by scoring every person and sorting all the matches against
+ * scoring only the persons looked up in {@code PersonSearchIndex} and keeping the best in a bounded heap.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=RankedSearchBenchmark}, optionally followed by
+ * {@code -PbenchmarkArgs="10000 100000"} to choose the sizes.
+ */
+public class RankedSearchBenchmark {
+    private static final int LIMIT = 50;
+    private static final String[] GIVEN_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ming",
+        "Siti", "Rajesh", "Hui Min", "Kumar", "Nurul", "Jun Jie", "Priya", "Marcus", "Aisyah"};
+    private static final String[] FAMILY_NAMES = {"Tan", "Lim", "Lee", "Ng", "Wong", "Ibrahim", "Balakrishnan",
+        "Oliveiro", "Yeoh", "Goh", "Chua", "Rahman", "Pillai", "Teo", "Ong", "Tang"};
+    private static final String[] FACULTIES = {"Computing", "Science", "Engineering", "Business", "Law"};
+    private static final String[] TAGS = {"ta", "tutor", "friends", "cca", "hall"};
+
+    public static void main(String[] args) {
+        int[] sizes = BenchmarkUtil.parseSizes(args, 10_000, 100_000, 300_000);
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicate(List.of("tan", "computing"));
+
+        System.out.printf("%10s %10s %12s %12s %10s%n", "persons", "matches", "sort ms", "top-k ms", "speedup");
+        for (int size : sizes) {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(generatePersons(size));
+            List<Person> storedPersons = addressBook.getPersonList();
+            PersonSearchIndex index = addressBook.getSearchIndex();
+
+            long sort = BenchmarkUtil.bestNanos(() -> storedPersons.stream().filter(predicate)
+                    .sorted(predicate.getRanking().get()).limit(LIMIT).collect(Collectors.toList()).size());
+            long topK = BenchmarkUtil.bestNanos(() -> index.findTop(predicate, LIMIT).size());
+            System.out.printf("%10d %10d %12.2f %12.3f %9.0fx%n", size, predicate.resolve(index).cardinality(),
+                    sort / 1e6, topK / 1e6, (double) sort / topK);
+        }
+    }
+
+    /**
+     * Returns {@code size} persons with distinct names, phones and emails, drawn from common names, faculties and tags.
+     */
+    private static List<Person> generatePersons(int size) {
+        Random random = new Random(size);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String familyName = FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)];
+            String name = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)] + " " + familyName + " "
+                    + Integer.toString(i, 36);
+            persons.add(new PersonBuilder()
+                    .withName(name)
+                    .withPhone(String.valueOf(80_000_000 + i))
+                    .withEmail(familyName.toLowerCase() + i + "@u.nus.edu")
+                    .withFaculties(FACULTIES[random.nextInt(FACULTIES.length)])
+                    .withTags(TAGS[random.nextInt(TAGS.length)])
+                    .build());
+        }
+        return persons;
+    }
+}
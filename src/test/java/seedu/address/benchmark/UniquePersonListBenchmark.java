@@ -0,0 +1,45 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how {@code UniquePersonList#setPersons} scales with the number of persons.
+ * Duplicate validation is a single hashed pass, so the time per person should stay roughly flat as the list grows.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=UniquePersonListBenchmark}.
+ */
+public class UniquePersonListBenchmark {
+
+    public static void main(String[] args) {
+        int[] sizes = BenchmarkUtil.parseSizes(args, 1_000, 10_000, 50_000, 100_000, 200_000);
+        System.out.printf("%10s %14s %14s%n", "persons", "setPersons ms", "ns/person");
+        for (int size : sizes) {
+            List<Person> persons = generatePersons(size);
+            long best = BenchmarkUtil.bestNanos(() -> {
+                UniquePersonList list = new UniquePersonList();
+                list.setPersons(persons);
+                return list.asUnmodifiableObservableList().size();
+            });
+            System.out.printf("%10d %14.2f %14.1f%n", size, best / 1e6, (double) best / size);
+        }
+    }
+
+    /**
+     * Returns {@code size} persons with pairwise distinct names and phones.
+     */
+    static List<Person> generatePersons(int size) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.valueOf(80_000_000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .build());
+        }
+        return persons;
+    }
+}
@@ -1,14 +1,19 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +87,34 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void filter_belowParallelThreshold_keepsOrder() {
+        List<Integer> numbers = List.of(5, 2, 8, 1, 6);
+        assertEquals(List.of(2, 8, 6), CollectionUtil.filter(numbers, n -> n % 2 == 0, 100));
+        assertEquals(Collections.emptyList(), CollectionUtil.filter(Collections.<Integer>emptyList(), n -> true, 100));
+    }
+
+    @Test
+    public void filter_atParallelThreshold_matchesSequentialFilter() {
+        List<Integer> numbers = new ArrayList<>();
+        Random random = new Random(2103);
+        for (int i = 0; i < 20_000; i++) {
+            numbers.add(random.nextInt());
+        }
+        Predicate<Integer> predicate = n -> n % 3 == 0;
+
+        List<Integer> expected = numbers.stream().filter(predicate).collect(Collectors.toList());
+        assertEquals(expected, CollectionUtil.filter(numbers, predicate, numbers.size()));
+        assertEquals(expected, CollectionUtil.filter(numbers, predicate, 0));
+        assertEquals(Collections.emptyList(), CollectionUtil.filter(Collections.<Integer>emptyList(), n -> true, 0));
+    }
+
+    @Test
+    public void filter_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CollectionUtil.filter(null, n -> true, 0));
+        assertThrows(NullPointerException.class, () -> CollectionUtil.filter(List.of(1), null, 0));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
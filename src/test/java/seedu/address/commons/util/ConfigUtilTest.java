@@ -65,6 +65,9 @@ public class ConfigUtilTest {
         Config config = new Config();
         config.setLogLevel(Level.INFO);
         config.setUserPrefsFilePath(Paths.get("preferences.json"));
+        config.setWriteBehind(false);
+        config.setJournal(false);
+        config.setCompactJson(true);
         return config;
     }
 
@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -121,6 +124,109 @@ public class StringUtilTest {
 
         // Matches multiple words in sentence
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
+
+        // Words separated by other whitespace
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbbb\nccc", "BBB"));
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa\tbbb\nccc", "bb"));
+    }
+
+    @Test
+    public void containsWordIgnoreCase_wordWithInnerWhitespace_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.containsWordIgnoreCase("aaa bbb", "aaa\tbbb"));
+    }
+
+    //---------------- Tests for editDistanceWithin --------------------------------------
+
+    @Test
+    public void editDistanceWithin_negativeMaxDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.editDistanceWithin("a", "b", -1));
+    }
+
+    @Test
+    public void editDistanceWithin_withinMaxDistance_returnsDistance() {
+        assertEquals(0, StringUtil.editDistanceWithin("", "", 0));
+        assertEquals(0, StringUtil.editDistanceWithin("tan", "tan", 2));
+        assertEquals(1, StringUtil.editDistanceWithin("tan", "tang", 2)); // insertion
+        assertEquals(1, StringUtil.editDistanceWithin("mohd", "moh", 1)); // deletion
+        assertEquals(1, StringUtil.editDistanceWithin("siti", "sitti", 1));
+        assertEquals(2, StringUtil.editDistanceWithin("mohamad", "muhammad", 3)); // substitution and insertion
+        assertEquals(2, StringUtil.editDistanceWithin("ab", "ba", 2));
+        assertEquals(3, StringUtil.editDistanceWithin("", "abc", 3));
+    }
+
+    @Test
+    public void editDistanceWithin_beyondMaxDistance_returnsMaxDistancePlusOne() {
+        assertEquals(1, StringUtil.editDistanceWithin("tan", "tin", 0));
+        assertEquals(2, StringUtil.editDistanceWithin("mohd", "muhammad", 1)); // lengths too far apart
+        assertEquals(3, StringUtil.editDistanceWithin("weiming", "weimxyz", 2));
+        assertEquals(2, StringUtil.editDistanceWithin("abcd", "dcba", 1));
+    }
+
+    @Test
+    public void editDistanceWithin_randomStrings_agreesWithFullComputation() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 2000; i++) {
+            String a = randomString(random);
+            String b = randomString(random);
+            int maxDistance = random.nextInt(4);
+            int distance = fullEditDistance(a, b);
+            assertEquals(Math.min(distance, maxDistance + 1), StringUtil.editDistanceWithin(a, b, maxDistance),
+                    a + " vs " + b);
+        }
+    }
+
+    private static String randomString(Random random) {
+        char[] chars = new char[random.nextInt(8)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(3));
+        }
+        return new String(chars);
+    }
+
+    private static int fullEditDistance(String a, String b) {
+        int[][] distances = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            for (int j = 0; j <= b.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                } else {
+                    int substitution = distances[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                    distances[i][j] = Math.min(substitution,
+                            Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+                }
+            }
+        }
+        return distances[a.length()][b.length()];
+    }
+
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_everyCharPair_agreesWithEqualsIgnoreCase() {
+        // exhaustive over a range that includes Latin-1, Greek and the Kelvin and dotted/dotless i special cases
+        for (char a = 0; a < 0x500; a++) {
+            for (char b : new char[] {a, Character.toUpperCase(a), Character.toLowerCase(a), '\u212A', '\u0130',
+                '\u0131', 'i', 'k', 's', '\u017F'}) {
+                String first = String.valueOf(a);
+                String second = String.valueOf(b);
+                assertEquals(first.equalsIgnoreCase(second),
+                        StringUtil.foldCase(first).equals(StringUtil.foldCase(second)), first + " vs " + second);
+            }
+        }
+    }
+
+    //---------------- Tests for splitWords --------------------------------------
+
+    @Test
+    public void splitWords() {
+        assertArrayEquals(new String[0], StringUtil.splitWords("  "));
+        assertArrayEquals(new String[] {"School", "of", "Computing"}, StringUtil.splitWords(" School  of\tComputing "));
     }
 
     //---------------- Tests for getDetails --------------------------------------
@@ -0,0 +1,157 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.search.AllOfPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class LiveFilterTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private static final Predicate<Person> MEIER = new NameContainsKeywordsPredicate(List.of("Meier"));
+    private static final Predicate<Person> OWES_MONEY = new TagContainsKeywordsPredicate(List.of("owesMoney"));
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    // stands in for the UI thread: results are only shown when the test runs them
+    private final BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+    private final LiveFilter liveFilter = new LiveFilter(model, uiTasks::add, 0);
+
+    @Test
+    public void filter_showsMatchingPersons() throws Exception {
+        liveFilter.filter(MEIER);
+        runNextUiTask();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_addedCondition_narrowsEarlierResult() throws Exception {
+        liveFilter.filter(MEIER);
+        runNextUiTask();
+
+        liveFilter.filter(new AllOfPredicate(List.of(MEIER, OWES_MONEY)));
+        runNextUiTask();
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+
+        // dropping the condition again evaluates against the earlier result
+        liveFilter.filter(MEIER);
+        runNextUiTask();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_supersededFilter_notShown() throws Exception {
+        liveFilter.filter(OWES_MONEY);
+        liveFilter.filter(MEIER);
+
+        List<List<Person>> shownLists = new ArrayList<>();
+        Runnable task;
+        while ((task = uiTasks.poll(200, TimeUnit.MILLISECONDS)) != null) {
+            task.run();
+            shownLists.add(new ArrayList<>(model.getFilteredPersonList()));
+        }
+        assertFalse(shownLists.isEmpty());
+        shownLists.forEach(shown -> assertEquals(List.of(BENSON, DANIEL), shown));
+    }
+
+    @Test
+    public void cancel_pendingFilterNotShown() throws Exception {
+        List<Person> allPersons = new ArrayList<>(model.getFilteredPersonList());
+        liveFilter.filter(MEIER);
+        liveFilter.cancel();
+
+        Runnable task;
+        while ((task = uiTasks.poll(200, TimeUnit.MILLISECONDS)) != null) {
+            task.run();
+        }
+        assertEquals(allPersons, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void cancel_afterFilterShown_restoresEarlierFilter() throws Exception {
+        model.updateFilteredPersonList(OWES_MONEY);
+        List<Person> owingPersons = new ArrayList<>(model.getFilteredPersonList());
+
+        liveFilter.filter(MEIER);
+        runNextUiTask();
+        liveFilter.filter(new AllOfPredicate(List.of(MEIER, OWES_MONEY)));
+        runNextUiTask();
+        liveFilter.cancel();
+        assertEquals(owingPersons, model.getFilteredPersonList());
+
+        // the filter is only restored once
+        model.updateFilteredPersonList(MEIER);
+        liveFilter.cancel();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_withLimit_showsFirstMatchingPersons() throws Exception {
+        liveFilter.filter(MEIER, 1);
+        runNextUiTask();
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+
+        // a limited result does not narrow a later evaluation
+        liveFilter.filter(MEIER);
+        runNextUiTask();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void keep_afterFilterShown_leavesResultShown() throws Exception {
+        liveFilter.filter(MEIER);
+        runNextUiTask();
+        assertTrue(liveFilter.isShowing(MEIER, FindCommand.NO_LIMIT));
+        assertFalse(liveFilter.isShowing(MEIER, 1));
+
+        liveFilter.keep();
+        assertFalse(liveFilter.isShowing(MEIER, FindCommand.NO_LIMIT));
+        liveFilter.cancel();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void filter_personEditedAfterShown_testedAgainstPredicate() throws Exception {
+        liveFilter.filter(MEIER);
+        runNextUiTask();
+
+        Person elleMeier = new PersonBuilder(ELLE).withName("Elle Meier").build();
+        model.setPerson(ELLE, elleMeier);
+        assertEquals(List.of(BENSON, DANIEL, elleMeier), model.getFilteredPersonList());
+
+        // the edited person is part of the next evaluation
+        liveFilter.filter(MEIER);
+        runNextUiTask();
+        assertEquals(List.of(BENSON, DANIEL, elleMeier), model.getFilteredPersonList());
+    }
+
+    private void runNextUiTask() throws InterruptedException {
+        Runnable task = uiTasks.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        assertNotNull(task);
+        task.run();
+    }
+}
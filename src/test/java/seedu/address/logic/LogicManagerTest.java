@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -8,24 +10,43 @@ import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AliasCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
@@ -42,6 +63,10 @@ public class LogicManagerTest {
 
     private Model model = new ModelManager();
     private Logic logic;
+    // the data that a storage made by createRecordingStorage was asked to save, in order
+    private final List<String> saves = new ArrayList<>();
+    // the handler that a storage made by createRecordingStorage was given for saves failing in the background
+    private Consumer<IOException> saveFailureHandler;
 
     @BeforeEach
     public void setUp() {
@@ -82,11 +107,225 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void constructor_savedViewsInPrefs_viewsRestored() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.addSavedView("friends", "t/friends");
+        userPrefs.addSavedView("broken", "friends");
+        model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        setUp();
+
+        logic.execute(ViewCommand.COMMAND_WORD + " friends");
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), logic.getFilteredPersonList());
+
+        // views whose find arguments are no longer valid are skipped
+        assertFalse(model.hasSavedView("broken"));
+    }
+
+    @Test
+    public void previewCommand_editedIntoOtherCommand_restoresEarlierFilter() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        // stands in for the UI thread: previews are only shown when the test runs them
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        logic = new LogicManager(model, createRecordingStorage(null), uiTasks::add);
+        logic.execute(FindCommand.COMMAND_WORD + " t/friends");
+        List<Person> friends = new ArrayList<>(logic.getFilteredPersonList());
+
+        logic.previewCommand(FindCommand.COMMAND_WORD + " n/Meier");
+        Runnable showPreview = uiTasks.poll(5, TimeUnit.SECONDS);
+        assertNotNull(showPreview);
+        showPreview.run();
+        assertEquals(Arrays.asList(BENSON, DANIEL), logic.getFilteredPersonList());
+
+        // a command typed after the preview acts on the persons listed before it
+        logic.previewCommand("delete 1");
+        assertEquals(friends, logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_previewedFind_previewKept() throws Exception {
+        List<Predicate<Person>> filters = new ArrayList<>();
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public void updateFilteredPersonList(Predicate<Person> predicate) {
+                filters.add(predicate);
+                super.updateFilteredPersonList(predicate);
+            }
+        };
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        logic = new LogicManager(model, createRecordingStorage(null), uiTasks::add);
+
+        logic.previewCommand(FindCommand.COMMAND_WORD + " n/Meier");
+        Runnable showPreview = uiTasks.poll(5, TimeUnit.SECONDS);
+        assertNotNull(showPreview);
+        showPreview.run();
+        assertEquals(1, filters.size());
+
+        // the persons previewed are listed without restoring the earlier filter or filtering again
+        CommandResult result = logic.execute(FindCommand.COMMAND_WORD + " n/Meier");
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(BENSON, DANIEL), logic.getFilteredPersonList());
+        assertEquals(1, filters.size());
+    }
+
+    @Test
+    public void previewCommand_findWithLimit_showsFirstPersonsFound() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        logic = new LogicManager(model, createRecordingStorage(null), uiTasks::add);
+
+        logic.previewCommand(FindCommand.COMMAND_WORD + " limit/1 n/Meier");
+        Runnable showPreview = uiTasks.poll(5, TimeUnit.SECONDS);
+        assertNotNull(showPreview);
+        showPreview.run();
+        assertEquals(Arrays.asList(BENSON), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_exitWithSaveFailing_throwsCommandException() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage) {
+            @Override
+            public void flush() throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        logic = new LogicManager(model, storage);
+
+        // the app would stop before a later command could report the failure
+        assertCommandException(ExitCommand.COMMAND_WORD,
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+    }
+
+    @Test
+    public void execute_unchangedData_notSaved() throws Exception {
+        logic = new LogicManager(model, createRecordingStorage(null));
+
+        // the address book is saved at the first command, as it may not have come from storage
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(Arrays.asList("addressBook", "commandHistory"), saves);
+
+        // a repeated command is not added to the history again, so nothing changed
+        saves.clear();
+        long addressBookVersion = model.getAddressBook().getVersion();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(Arrays.asList(), saves);
+
+        logic.execute(FindCommand.COMMAND_WORD + " n/Alice");
+        assertEquals(Arrays.asList("commandHistory"), saves);
+        assertEquals(addressBookVersion, model.getAddressBook().getVersion());
+
+        saves.clear();
+        logic.execute(AliasCommand.COMMAND_WORD + " la list");
+        assertEquals(Arrays.asList("commandHistory", "userPrefs"), saves);
+
+        saves.clear();
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(Arrays.asList("addressBook", "commandHistory"), saves);
+    }
+
+    @Test
+    public void execute_importOfDuplicatesOnly_addressBookNotSaved() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        logic = new LogicManager(model, createRecordingStorage(null));
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        Path csvFile = temporaryFolder.resolve("contacts.csv");
+        Files.writeString(csvFile, String.join(System.lineSeparator(),
+                "Name,Phone Number,Email,Address,Tags,Modules,Faculties,Favorites",
+                "Alice Pauline,94351253,alice@example.com,123 Jurong West Ave 6,,,,"));
+
+        // every contact is already in the address book, so only the command history changed
+        saves.clear();
+        logic.execute(ImportCommand.COMMAND_WORD + " " + csvFile);
+        assertEquals(Arrays.asList("commandHistory"), saves);
+    }
+
+    @Test
+    public void execute_afterSaveFailed_allDataSavedAgain() throws Exception {
+        logic = new LogicManager(model, createRecordingStorage(DUMMY_IO_EXCEPTION));
+        assertCommandException(ListCommand.COMMAND_WORD,
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+
+        // the failure may have been reported for an earlier save, so nothing is taken as saved
+        saves.clear();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(Arrays.asList("addressBook", "commandHistory", "userPrefs"), saves);
+    }
+
+    @Test
+    public void setSaveFailureListener_backgroundSaveFails_reportedAtOnce() throws Exception {
+        logic = new LogicManager(model, createRecordingStorage(null));
+        List<String> messages = new ArrayList<>();
+        logic.setSaveFailureListener(messages::add);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        saveFailureHandler.accept(DUMMY_IO_EXCEPTION);
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                messages);
+
+        // the failed save may be of any of the data, so all of it is saved again
+        saves.clear();
+        logic.saveAll();
+        assertEquals(Arrays.asList("addressBook", "commandHistory", "userPrefs"), saves);
+    }
+
+    @Test
+    public void saveAll_saveFailing_throwsCommandException() {
+        logic = new LogicManager(model, createRecordingStorage(DUMMY_AD_EXCEPTION));
+        assertThrows(CommandException.class, String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT,
+                DUMMY_AD_EXCEPTION.getMessage()), () -> logic.saveAll());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    /**
+     * Returns a storage that records in {@code saves} the data it is asked to save, without writing any, and throws
+     * {@code firstFailure} from the first save if it is not null.
+     */
+    private StorageManager createRecordingStorage(IOException firstFailure) {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        return new StorageManager(addressBookStorage, userPrefsStorage) {
+            private IOException failure = firstFailure;
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                record("addressBook");
+            }
+
+            @Override
+            public void saveCommandHistory(List<String> commandHistory) throws IOException {
+                record("commandHistory");
+            }
+
+            @Override
+            public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+                record("userPrefs");
+            }
+
+            @Override
+            public void setSaveFailureHandler(Consumer<IOException> handler) {
+                saveFailureHandler = handler;
+            }
+
+            private void record(String data) throws IOException {
+                saves.add(data);
+                if (failure != null) {
+                    IOException thrown = failure;
+                    failure = null;
+                    throw thrown;
+                }
+            }
+        };
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -6,8 +6,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -17,12 +19,15 @@ import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.FacultyContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.AllOfPredicate;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -56,6 +61,12 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // explained -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, true)));
+
+        // limited -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, false, 10)));
     }
 
     @Test
@@ -111,11 +122,80 @@ public class FindCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_addressKeywords_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        AddressContainsKeywordsPredicate predicate = new AddressContainsKeywordsPredicate(List.of("STREET"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, DANIEL, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_addressAndNameKeywords_personFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        Predicate<Person> predicate = new AllOfPredicate(List.of(
+                new NameContainsKeywordsPredicate(List.of("Kurz", "Elle")),
+                new AddressContainsKeywordsPredicate(List.of("ll", "str"))));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_limitReached_lowerBoundShown() {
+        String expectedMessage = String.format(FindCommand.MESSAGE_PERSONS_LISTED_LIMITED, 2);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(
+            Arrays.asList("Kurz", "Elle", "Kunz"));
+        FindCommand command = new FindCommand(predicate, false, 2);
+        expectedModel.updateFilteredPersonListToFirst(predicate, 2);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_limitNotReached_exactCountShown() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(
+            Arrays.asList("Kurz", "Elle", "Kunz"));
+        FindCommand command = new FindCommand(predicate, false, 4);
+        expectedModel.updateFilteredPersonListToFirst(predicate, 4);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_showsQueryPlan() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(
+            Arrays.asList("Kurz", "Elle", "Kunz"));
+        FindCommand command = new FindCommand(predicate, true);
+        expectedModel.updateFilteredPersonList(predicate);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3) + "\n"
+                + Messages.format(expectedModel.getQueryPlan(predicate));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explainWithLimit_showsLimitedSearch() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(
+            Arrays.asList("Kurz", "Elle", "Kunz"));
+        FindCommand command = new FindCommand(predicate, true, 2);
+        expectedModel.updateFilteredPersonListToFirst(predicate, 2);
+        String expectedMessage = String.format(FindCommand.MESSAGE_PERSONS_LISTED_LIMITED, 2) + "\n"
+                + Messages.formatLimitedSearch(predicate, model.getAddressBook().getPersonList().size(), 2);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", isExplain=false, limit=0}";
         assertEquals(expected, findCommand.toString());
     }
 }
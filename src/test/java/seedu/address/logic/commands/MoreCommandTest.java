@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code MoreCommand}.
+ */
+public class MoreCommandTest {
+    private final TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate(List.of("friends"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_limitedSearchWithPersonsLeft_nextPersonsListed() {
+        model.updateFilteredPersonListToFirst(friends, 1);
+        expectedModel.updateFilteredPersonListToFirst(friends, 1);
+
+        expectedModel.showMorePersons();
+        assertCommandSuccess(new MoreCommand(), model, String.format(FindCommand.MESSAGE_PERSONS_LISTED_LIMITED, 2),
+                expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
+
+        // the last friend is found before the persons after it are tested, so there may still be more
+        expectedModel.showMorePersons();
+        assertCommandSuccess(new MoreCommand(), model, String.format(FindCommand.MESSAGE_PERSONS_LISTED_LIMITED, 3),
+                expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+
+        expectedModel.showMorePersons();
+        assertCommandSuccess(new MoreCommand(), model, String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3),
+                expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noLimitedSearch_throwsCommandException() {
+        assertCommandFailure(new MoreCommand(), model, MoreCommand.MESSAGE_NO_MORE_PERSONS);
+
+        // a search that has tested every person
+        model.updateFilteredPersonListToFirst(friends, 10);
+        assertCommandFailure(new MoreCommand(), model, MoreCommand.MESSAGE_NO_MORE_PERSONS);
+
+        // a search replaced by another filter
+        model.updateFilteredPersonListToFirst(friends, 1);
+        model.updateFilteredPersonList(friends);
+        assertCommandFailure(new MoreCommand(), model, MoreCommand.MESSAGE_NO_MORE_PERSONS);
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SaveViewCommand}.
+ */
+public class SaveViewCommandTest {
+    private final TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate(List.of("friends"));
+    private final NameContainsKeywordsPredicate alice = new NameContainsKeywordsPredicate(List.of("Alice"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SaveViewCommand(null, "t/friends", friends));
+        assertThrows(NullPointerException.class, () -> new SaveViewCommand("friends", null, friends));
+        assertThrows(NullPointerException.class, () -> new SaveViewCommand("friends", "t/friends", null));
+    }
+
+    @Test
+    public void execute_newView_viewSavedAndShown() {
+        String expectedMessage = String.format(SaveViewCommand.MESSAGE_SUCCESS, "friends") + "\n"
+                + String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        expectedModel.addSavedView("friends", "t/friends", friends);
+        expectedModel.updateFilteredPersonListToSavedView("friends");
+        assertCommandSuccess(new SaveViewCommand("friends", "t/friends", friends), model, expectedMessage,
+                expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_existingView_viewReplaced() {
+        model.addSavedView("friends", "t/friends", friends);
+        String expectedMessage = String.format(SaveViewCommand.MESSAGE_VIEW_REPLACED, "friends") + "\n"
+                + String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        expectedModel.addSavedView("friends", "n/Alice", alice);
+        expectedModel.updateFilteredPersonListToSavedView("friends");
+        assertCommandSuccess(new SaveViewCommand("friends", "n/Alice", alice), model, expectedMessage,
+                expectedModel);
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        SaveViewCommand saveFriendsCommand = new SaveViewCommand("friends", "t/friends", friends);
+
+        // same object -> returns true
+        assertTrue(saveFriendsCommand.equals(saveFriendsCommand));
+
+        // same values -> returns true
+        assertTrue(saveFriendsCommand.equals(new SaveViewCommand("friends", "t/friends", friends)));
+
+        // different types -> returns false
+        assertFalse(saveFriendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(saveFriendsCommand.equals(null));
+
+        // different name -> returns false
+        assertFalse(saveFriendsCommand.equals(new SaveViewCommand("pals", "t/friends", friends)));
+
+        // different query -> returns false
+        assertFalse(saveFriendsCommand.equals(new SaveViewCommand("friends", "n/Alice", alice)));
+    }
+}
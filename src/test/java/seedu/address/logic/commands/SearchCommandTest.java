@@ -0,0 +1,134 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        PersonMatchesKeywordsPredicate firstPredicate =
+                new PersonMatchesKeywordsPredicate(Collections.singletonList("first"));
+        PersonMatchesKeywordsPredicate secondPredicate =
+                new PersonMatchesKeywordsPredicate(Collections.singletonList("second"));
+
+        SearchCommand searchFirstCommand = new SearchCommand(firstPredicate);
+        SearchCommand searchSecondCommand = new SearchCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCommand(firstPredicate)));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatchingKeywords_noPersonFound() {
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SUCCESS, 0);
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicate(List.of("zzz"));
+        expectedModel.updateFilteredPersonListToTop(predicate, SearchCommand.MAX_RESULTS);
+        assertCommandSuccess(new SearchCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_multipleKeywords_bestMatchFirst() {
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SUCCESS, 2);
+        // both are named Meier, and only Benson's email starts with johnd
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicate(Arrays.asList("johnd", "meier"));
+        expectedModel.updateFilteredPersonListToTop(predicate, SearchCommand.MAX_RESULTS);
+        assertCommandSuccess(new SearchCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+
+        // Carl's name matches better than the start of Daniel's email
+        predicate = new PersonMatchesKeywordsPredicate(Arrays.asList("corn", "kurz"));
+        new SearchCommand(predicate).execute(model);
+        assertEquals(Arrays.asList(CARL, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_moreMatchesThanMaxResults_showsBestMatches() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < SearchCommand.MAX_RESULTS + 10; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Tang " + i).withPhone(String.valueOf(80000000 + i))
+                    .build());
+        }
+        addressBook.addPerson(new PersonBuilder().withName("Tan Ah Kow").withPhone("90000000").build());
+        Model manyMatchesModel = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = new SearchCommand(new PersonMatchesKeywordsPredicate(List.of("tan")))
+                .execute(manyMatchesModel);
+        assertEquals(String.format(SearchCommand.MESSAGE_SUCCESS_LIMITED, SearchCommand.MAX_RESULTS),
+                result.getFeedbackToUser());
+        assertEquals(SearchCommand.MAX_RESULTS, manyMatchesModel.getFilteredPersonList().size());
+        assertEquals("Tan Ah Kow", manyMatchesModel.getFilteredPersonList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void execute_exactlyMaxResultsMatches_showsAllMatches() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < SearchCommand.MAX_RESULTS; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Tang " + i).withPhone(String.valueOf(80000000 + i))
+                    .build());
+        }
+        Model allMatchModel = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = new SearchCommand(new PersonMatchesKeywordsPredicate(List.of("tan")))
+                .execute(allMatchModel);
+        assertEquals(String.format(SearchCommand.MESSAGE_SUCCESS, SearchCommand.MAX_RESULTS),
+                result.getFeedbackToUser());
+        assertEquals(SearchCommand.MAX_RESULTS, allMatchModel.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_matchEditedAfterSearch_keptAtRank() {
+        new SearchCommand(new PersonMatchesKeywordsPredicate(Arrays.asList("johnd", "meier"))).execute(model);
+        Person benson = model.getFilteredPersonList().get(0);
+
+        Person editedBenson = new PersonBuilder(benson).withPhone("93210283").build();
+        model.setPerson(benson, editedBenson);
+        assertEquals(Arrays.asList(editedBenson, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicate(List.of("keyword"));
+        SearchCommand searchCommand = new SearchCommand(predicate);
+        String expected = SearchCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, searchCommand.toString());
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ViewCommand}.
+ */
+public class ViewCommandTest {
+    private final TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate(List.of("friends"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_savedView_showsView() {
+        model.addSavedView("friends", "t/friends", friends);
+        model.deletePerson(model.getFilteredPersonList().get(0));
+        expectedModel.addSavedView("friends", "t/friends", friends);
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(0));
+        expectedModel.updateFilteredPersonListToSavedView("friends");
+
+        String expectedMessage = String.format(ViewCommand.MESSAGE_SUCCESS, "friends") + "\n"
+                + String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        assertCommandSuccess(new ViewCommand("friends"), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownView_throwsCommandException() {
+        assertCommandFailure(new ViewCommand("friends"), model,
+                String.format(ViewCommand.MESSAGE_UNKNOWN_VIEW, "friends"));
+    }
+
+    @Test
+    public void equals() {
+        ViewCommand viewFriendsCommand = new ViewCommand("friends");
+
+        // same object -> returns true
+        assertTrue(viewFriendsCommand.equals(viewFriendsCommand));
+
+        // same values -> returns true
+        assertTrue(viewFriendsCommand.equals(new ViewCommand("friends")));
+
+        // different types -> returns false
+        assertFalse(viewFriendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(viewFriendsCommand.equals(null));
+
+        // different name -> returns false
+        assertFalse(viewFriendsCommand.equals(new ViewCommand("pals")));
+    }
+}
@@ -25,10 +25,16 @@ import seedu.address.logic.commands.FavCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MoreCommand;
+import seedu.address.logic.commands.SaveViewCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.UnfavCommand;
+import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -100,6 +106,14 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        SearchCommand command = (SearchCommand) parser.parseCommand(
+                SearchCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new SearchCommand(new PersonMatchesKeywordsPredicate(keywords)), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -128,6 +142,27 @@ public class AddressBookParserTest {
         assertEquals(new UnfavCommand(INDEX_FIRST_PERSON), command);
     }
 
+    @Test
+    public void parseCommand_saveView() throws Exception {
+        SaveViewCommand command = (SaveViewCommand) parser.parseCommand(
+                SaveViewCommand.COMMAND_WORD + " friends t/friends");
+        assertEquals(new SaveViewCommand("friends", "t/friends",
+                new TagContainsKeywordsPredicate(List.of("friends"))), command);
+    }
+
+    @Test
+    public void parseCommand_view() throws Exception {
+        ViewCommand command = (ViewCommand) parser.parseCommand(ViewCommand.COMMAND_WORD + " friends");
+        assertEquals(new ViewCommand("friends"), command);
+    }
+
+    @Test
+    public void parseCommand_more() throws Exception {
+        assertTrue(parser.parseCommand(MoreCommand.COMMAND_WORD) instanceof MoreCommand);
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                MoreCommand.MESSAGE_USAGE), () -> parser.parseCommand(MoreCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
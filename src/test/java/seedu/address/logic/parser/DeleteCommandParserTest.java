@@ -17,6 +17,8 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.search.AnyOfPredicate;
+import seedu.address.model.search.NotPredicate;
 
 public class DeleteCommandParserTest {
 
@@ -30,6 +32,17 @@ public class DeleteCommandParserTest {
         assertParseSuccess(parser, "1", new DeleteCommand(INDEX_FIRST_PERSON));
     }
 
+    @Test
+    public void parse_parenthesesInKeywords_returnsDeleteCommand() {
+        NameContainsKeywordsPredicate namePredicate =
+                new NameContainsKeywordsPredicate(Arrays.asList("Tan", "Jr", "(II)"));
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Tan Jr (II)", new DeleteCommand(List.of(namePredicate)));
+
+        TagContainsKeywordsPredicate tagPredicate = new TagContainsKeywordsPredicate(Arrays.asList("friend"));
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Tan Jr (II) OR " + PREFIX_TAG + "friend",
+                new DeleteCommand(List.of(new AnyOfPredicate(List.of(namePredicate, tagPredicate)))));
+    }
+
     @Test
     public void parse_invalidIndex_throwsParseException() {
         // Test parsing an invalid index (non-integer)
@@ -82,6 +95,19 @@ public class DeleteCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_NAME + "Alice " + PREFIX_TAG + "friend", expectedCommand);
     }
 
+    @Test
+    public void parse_booleanQuery_returnsDeleteCommand() {
+        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice"));
+        TagContainsKeywordsPredicate tagPredicate = new TagContainsKeywordsPredicate(Arrays.asList("friend"));
+        DeleteCommand expectedCommand = new DeleteCommand(List.of(
+                new AnyOfPredicate(List.of(namePredicate, new NotPredicate(tagPredicate)))));
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Alice OR NOT " + PREFIX_TAG + "friend", expectedCommand);
+
+        // fuzzy name search is not allowed for deletion
+        assertParseFailure(parser, " " + CliSyntax.PREFIX_NAME_FUZZY + "Alise OR " + PREFIX_TAG + "friend",
+                messageUsage);
+    }
+
     @Test
     public void parse_invalidCriteria_throwsParseException() {
         // Test cases where a prefix is provided but the keyword is empty
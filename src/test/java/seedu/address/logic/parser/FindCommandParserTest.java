@@ -3,9 +3,14 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FACULTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -16,13 +21,21 @@ import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.EmailMatchesKeywordsPredicate;
 import seedu.address.model.person.FacultyContainsKeywordsPredicate;
 import seedu.address.model.person.ModuleContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameResemblesKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneStartsWithKeywordsPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.search.AllOfPredicate;
+import seedu.address.model.search.AnyOfPredicate;
+import seedu.address.model.search.NotPredicate;
 import seedu.address.testutil.PersonBuilder;
 
 public class FindCommandParserTest {
@@ -43,6 +56,11 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_NAME + "Alice Bob", expectedFindCommandName);
         assertParseSuccess(parser, " " + PREFIX_NAME + " \n Alice \n \t Bob  \t", expectedFindCommandName);
 
+        // find by name with typos
+        FindCommand expectedFindCommandFuzzyName =
+                new FindCommand(new NameResemblesKeywordsPredicate(Arrays.asList("Alise", "Bob")));
+        assertParseSuccess(parser, " " + PREFIX_NAME_FUZZY + "Alise Bob", expectedFindCommandFuzzyName);
+
         // find by tag
         FindCommand expectedFindCommandTag =
                 new FindCommand(new TagContainsKeywordsPredicate(Arrays.asList("friend", "cca")));
@@ -62,8 +80,38 @@ public class FindCommandParserTest {
                 new FindCommand(new ModuleContainsKeywordsPredicate(moduleKeywords));
         assertParseSuccess(parser, " " + PREFIX_MODULE + "CS2103T CS2100", expectedFindCommandModule);
 
+        // find by module wildcard and range
+        assertParseSuccess(parser, " " + PREFIX_MODULE + "CS21* CS2000..CS2999",
+                new FindCommand(new ModuleContainsKeywordsPredicate(List.of("CS21*", "CS2000..CS2999"))));
+
         // find by module with multiple whitespaces
         assertParseSuccess(parser, " " + PREFIX_MODULE + " \n CS2103T \n \t CS2100  \t", expectedFindCommandModule);
+
+        // find by part of address
+        FindCommand expectedFindCommandAddress =
+                new FindCommand(new AddressContainsKeywordsPredicate(Arrays.asList("kent", "ridge")));
+        assertParseSuccess(parser, " " + PREFIX_ADDRESS + "kent ridge", expectedFindCommandAddress);
+        assertParseSuccess(parser, " " + PREFIX_ADDRESS + " \n kent \t ridge ", expectedFindCommandAddress);
+    }
+
+    @Test
+    public void parse_phoneAndEmail_returnsFindCommand() {
+        assertParseSuccess(parser, " " + PREFIX_PHONE + "9123 8765",
+                new FindCommand(new PhoneStartsWithKeywordsPredicate(List.of("9123", "8765"))));
+        assertParseSuccess(parser, " " + PREFIX_EMAIL + "@comp.nus.edu.sg",
+                new FindCommand(new EmailMatchesKeywordsPredicate(List.of("@comp.nus.edu.sg"))));
+        assertParseSuccess(parser, " " + PREFIX_EMAIL + "@u.nus.edu OR " + PREFIX_PHONE + "9123",
+                new FindCommand(new AnyOfPredicate(List.of(
+                        new EmailMatchesKeywordsPredicate(List.of("@u.nus.edu")),
+                        new PhoneStartsWithKeywordsPredicate(List.of("9123"))))));
+    }
+
+    @Test
+    public void parse_addressWithOtherPrefix_returnsAllOfPredicate() {
+        FindCommand expectedFindCommand = new FindCommand(new AllOfPredicate(List.of(
+                new TagContainsKeywordsPredicate(List.of("friends")),
+                new AddressContainsKeywordsPredicate(List.of("kent", "ridge")))));
+        assertParseSuccess(parser, " " + PREFIX_TAG + "friends " + PREFIX_ADDRESS + "kent ridge", expectedFindCommand);
     }
 
     @Test
@@ -107,6 +155,92 @@ public class FindCommandParserTest {
         assertFalse(predicate.test(bobInComputingWithModule));
     }
 
+    @Test
+    public void parse_booleanQuery_returnsFindCommand() {
+        Predicate<Person> cs2103t = new ModuleContainsKeywordsPredicate(List.of("CS2103T"));
+        Predicate<Person> cs2101 = new ModuleContainsKeywordsPredicate(List.of("CS2101"));
+        Predicate<Person> ta = new TagContainsKeywordsPredicate(List.of("ta"));
+        FindCommand expectedFindCommand = new FindCommand(new AllOfPredicate(List.of(
+                new AnyOfPredicate(List.of(cs2103t, cs2101)), new NotPredicate(ta))));
+        assertParseSuccess(parser, " (" + PREFIX_MODULE + "CS2103T OR " + PREFIX_MODULE + "CS2101) AND NOT "
+                + PREFIX_TAG + "ta", expectedFindCommand);
+
+        // the same prefix can be used in more than one term
+        expectedFindCommand = new FindCommand(new AnyOfPredicate(List.of(
+                new NameResemblesKeywordsPredicate(List.of("Alise")),
+                new NameContainsKeywordsPredicate(List.of("Bob")))));
+        assertParseSuccess(parser, " " + PREFIX_NAME_FUZZY + "Alise OR " + PREFIX_NAME + "Bob", expectedFindCommand);
+
+        assertParseFailure(parser, " (" + PREFIX_MODULE + "CS2103T OR " + PREFIX_MODULE + "CS2101",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_parenthesesInKeywords_returnsPlainFindCommand() {
+        assertParseSuccess(parser, " " + PREFIX_ADDRESS + "Blk 5 (East Wing)", new FindCommand(
+                new AddressContainsKeywordsPredicate(List.of("Blk", "5", "(East", "Wing)"))));
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Tan Jr (II)", new FindCommand(
+                new NameContainsKeywordsPredicate(List.of("Tan", "Jr", "(II)"))));
+        assertParseSuccess(parser, " " + PREFIX_TAG + "friends " + PREFIX_ADDRESS + "Blk 5 (East Wing)",
+                new FindCommand(new AllOfPredicate(List.of(new TagContainsKeywordsPredicate(List.of("friends")),
+                        new AddressContainsKeywordsPredicate(List.of("Blk", "5", "(East", "Wing)"))))));
+
+        // the parentheses stay keywords inside a boolean query
+        assertParseSuccess(parser, " " + PREFIX_ADDRESS + "Blk 5 (East Wing) OR " + PREFIX_TAG + "friends",
+                new FindCommand(new AnyOfPredicate(List.of(
+                        new AddressContainsKeywordsPredicate(List.of("Blk", "5", "(East", "Wing)")),
+                        new TagContainsKeywordsPredicate(List.of("friends"))))));
+    }
+
+    @Test
+    public void parse_explainFlag_returnsExplainedFindCommand() {
+        Predicate<Person> cs2103t = new ModuleContainsKeywordsPredicate(List.of("CS2103T"));
+        Predicate<Person> ta = new TagContainsKeywordsPredicate(List.of("ta"));
+        assertParseSuccess(parser, " " + FindCommand.EXPLAIN_FLAG + " " + PREFIX_MODULE + "CS2103T",
+                new FindCommand(cs2103t, true));
+        assertParseSuccess(parser, " " + FindCommand.EXPLAIN_FLAG + " " + PREFIX_MODULE + "CS2103T AND NOT "
+                + PREFIX_TAG + "ta", new FindCommand(new AllOfPredicate(List.of(cs2103t, new NotPredicate(ta))), true));
+
+        // flag without criteria
+        assertParseFailure(parser, " " + FindCommand.EXPLAIN_FLAG,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // misspelt flag
+        assertParseFailure(parser, " " + FindCommand.EXPLAIN_FLAG + "s " + PREFIX_MODULE + "CS2103T",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_limit_returnsLimitedFindCommand() {
+        Predicate<Person> tan = new NameContainsKeywordsPredicate(List.of("tan"));
+        Predicate<Person> ta = new TagContainsKeywordsPredicate(List.of("ta"));
+        assertParseSuccess(parser, " " + PREFIX_NAME + "tan " + PREFIX_LIMIT + "20", new FindCommand(tan, false, 20));
+
+        // limit before and between criteria
+        assertParseSuccess(parser, " " + PREFIX_LIMIT + "20 " + PREFIX_NAME + "tan", new FindCommand(tan, false, 20));
+        assertParseSuccess(parser, " " + PREFIX_NAME + "tan " + PREFIX_LIMIT + "5 " + PREFIX_TAG + "ta",
+                new FindCommand(new AllOfPredicate(List.of(tan, ta)), false, 5));
+
+        // with a query and the explain flag
+        assertParseSuccess(parser, " " + FindCommand.EXPLAIN_FLAG + " " + PREFIX_NAME + "tan OR " + PREFIX_TAG + "ta "
+                + PREFIX_LIMIT + "5", new FindCommand(new AnyOfPredicate(List.of(tan, ta)), true, 5));
+    }
+
+    @Test
+    public void parse_invalidLimit_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_NAME + "tan " + PREFIX_LIMIT + "0",
+                FindCommandParser.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " " + PREFIX_NAME + "tan " + PREFIX_LIMIT + "-3",
+                FindCommandParser.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " " + PREFIX_NAME + "tan " + PREFIX_LIMIT, FindCommandParser.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " " + PREFIX_NAME + "tan " + PREFIX_LIMIT + "5 " + PREFIX_LIMIT + "6",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_LIMIT));
+
+        // limit without criteria
+        assertParseFailure(parser, " " + PREFIX_LIMIT + "5",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_invalidValue_throwsParseException() {
         // no prefix
@@ -116,6 +250,10 @@ public class FindCommandParserTest {
         assertParseFailure(parser, " " + PREFIX_NAME,
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
 
+        // invalid value after prefix - empty fuzzy name
+        assertParseFailure(parser, " " + PREFIX_NAME_FUZZY,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
         // invalid value after prefix - empty tag
         assertParseFailure(parser, " " + PREFIX_TAG,
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
@@ -0,0 +1,104 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FACULTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.FacultyContainsKeywordsPredicate;
+import seedu.address.model.person.ModuleContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.search.AllOfPredicate;
+import seedu.address.model.search.AnyOfPredicate;
+import seedu.address.model.search.NotPredicate;
+
+public class QueryParserTest {
+
+    private static final String USAGE = "usage";
+    private static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_TAG, PREFIX_FACULTY, PREFIX_MODULE};
+
+    private static final Predicate<Person> CS2103T = new ModuleContainsKeywordsPredicate(List.of("CS2103T"));
+    private static final Predicate<Person> CS2101 = new ModuleContainsKeywordsPredicate(List.of("CS2101"));
+    private static final Predicate<Person> TA = new TagContainsKeywordsPredicate(List.of("ta"));
+
+    @Test
+    public void isQuery() {
+        assertTrue(QueryParser.isQuery(" m/CS2103T OR m/CS2101", PREFIXES));
+        assertTrue(QueryParser.isQuery(" NOT t/ta", PREFIXES));
+        assertTrue(QueryParser.isQuery(" (m/CS2103T)", PREFIXES));
+        assertFalse(QueryParser.isQuery(" n/Alice t/friends", PREFIXES));
+
+        // operators must be in upper case
+        assertFalse(QueryParser.isQuery(" n/Tan or Lee", PREFIXES));
+
+        // parentheses and operators that do not stand between terms are keywords
+        assertFalse(QueryParser.isQuery(" n/Tan Jr (II)", PREFIXES));
+        assertFalse(QueryParser.isQuery(" n/Tan (Jr) t/friends", PREFIXES));
+        assertFalse(QueryParser.isQuery(" n/Tan OR Lee", PREFIXES));
+        assertFalse(QueryParser.isQuery(" n/Tan NOT", PREFIXES));
+    }
+
+    @Test
+    public void parse_parenthesesAndOperatorsInKeywords_keptInKeywords() throws ParseException {
+        assertEquals(new NameContainsKeywordsPredicate(List.of("Tan", "Jr", "(II)")), parse(" n/Tan Jr (II)"));
+        assertEquals(new NameContainsKeywordsPredicate(List.of("Tan", "Jr(II)")), parse(" n/Tan Jr(II)"));
+        assertEquals(new ModuleContainsKeywordsPredicate(List.of("CS2103T", "OR")), parse("m/CS2103T OR"));
+        assertEquals(new ModuleContainsKeywordsPredicate(List.of("CS2103T)")), parse("m/CS2103T)"));
+        assertEquals(new ModuleContainsKeywordsPredicate(List.of("CS2103T", "AND", "(alice)")),
+                parse("m/CS2103T AND (alice)"));
+
+        // a group closes at the parenthesis that is not closing one in the keywords
+        assertEquals(new AnyOfPredicate(List.of(new NameContainsKeywordsPredicate(List.of("Tan", "(Jr", "II)")),
+                TA)), parse("(n/Tan (Jr II)) OR t/ta"));
+        assertEquals(new AllOfPredicate(List.of(CS2103T,
+                new NameContainsKeywordsPredicate(List.of("(alice)")))), parse("m/CS2103T AND (n/(alice))"));
+    }
+
+    @Test
+    public void parse_operators_combinesTerms() throws ParseException {
+        assertEquals(new AllOfPredicate(List.of(new AnyOfPredicate(List.of(CS2103T, CS2101)), new NotPredicate(TA))),
+                parse(" (m/CS2103T OR m/CS2101) AND NOT t/ta"));
+
+        // AND binds tighter than OR
+        assertEquals(new AnyOfPredicate(List.of(CS2103T, new AllOfPredicate(List.of(CS2101, TA)))),
+                parse(" m/CS2103T OR m/CS2101 AND t/ta"));
+
+        // terms without an operator between them are combined with AND
+        assertEquals(new AllOfPredicate(List.of(new NotPredicate(TA), CS2101)), parse(" NOT t/ta m/CS2101"));
+        assertEquals(new NotPredicate(new NotPredicate(TA)), parse("NOT NOT t/ta"));
+    }
+
+    @Test
+    public void parse_termKeywords_endAtOperatorParenthesisOrPrefix() throws ParseException {
+        assertEquals(new AnyOfPredicate(List.of(new NameContainsKeywordsPredicate(List.of("Alex", "Tan")),
+                new FacultyContainsKeywordsPredicate(List.of("Social", "Sciences")))),
+                parse("(n/Alex Tan)OR(f/ Social Sciences)"));
+        assertEquals(new AllOfPredicate(List.of(new NameContainsKeywordsPredicate(List.of("Alex")),
+                new NotPredicate(new TagContainsKeywordsPredicate(List.of("friends", "cca"))))),
+                parse("n/Alex NOT t/friends cca"));
+    }
+
+    @Test
+    public void parse_malformedQuery_throwsParseException() {
+        for (String query : List.of("", "AND", "OR m/CS2103T", "(m/CS2103T", "(m/CS2103T))", "()", "NOT",
+                "m/ AND t/ta", "alice AND t/ta", "n~/Alise OR t/ta", "NOT (alice)")) {
+            assertThrows(ParseException.class, USAGE, () -> parse(query));
+        }
+    }
+
+    private static Predicate<Person> parse(String query) throws ParseException {
+        return QueryParser.parse(query, USAGE, PREFIXES);
+    }
+}
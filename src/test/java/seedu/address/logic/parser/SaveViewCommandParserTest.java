@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.SaveViewCommand;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+
+public class SaveViewCommandParserTest {
+
+    private SaveViewCommandParser parser = new SaveViewCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSaveViewCommand() {
+        SaveViewCommand expectedCommand = new SaveViewCommand("my_friends-2", "t/friends",
+                new TagContainsKeywordsPredicate(List.of("friends")));
+        assertParseSuccess(parser, " my_friends-2 t/friends", expectedCommand);
+
+        // multiple whitespaces between name and query
+        assertParseSuccess(parser, " \n my_friends-2 \t t/friends  ", expectedCommand);
+    }
+
+    @Test
+    public void parse_missingQuery_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveViewCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " ", expectedMessage);
+        assertParseFailure(parser, " friends", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidName_throwsParseException() {
+        assertParseFailure(parser, " my/friends t/friends", SaveViewCommandParser.MESSAGE_INVALID_NAME);
+        assertParseFailure(parser, " t/friends n/Alice", SaveViewCommandParser.MESSAGE_INVALID_NAME);
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, " friends Alice",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_queryWithFindOptions_throwsParseException() {
+        assertParseFailure(parser, " friends limit/5 t/friends",
+                SaveViewCommandParser.MESSAGE_QUERY_OPTION_NOT_ALLOWED);
+        assertParseFailure(parser, " friends --explain t/friends",
+                SaveViewCommandParser.MESSAGE_QUERY_OPTION_NOT_ALLOWED);
+    }
+}
@@ -9,18 +9,23 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_MODULE_CS2103T;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -91,6 +96,74 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void findPersons_unindexedPredicateTestedInParallel_keepsListOrder() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        List<Person> expected = typicalAddressBook.getPersonList().stream()
+                .filter(person -> person.getPhone().value.startsWith("9"))
+                .collect(Collectors.toList());
+        assertEquals(expected, typicalAddressBook.findPersons(person -> person.getPhone().value.startsWith("9"), 1));
+    }
+
+    @Test
+    public void addPersons_newPersons_indexed() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Person hall = new PersonBuilder().withName("Hall Mate").withPhone("81234567").withTags("hall").build();
+        typicalAddressBook.addPersons(List.of(hall, ALICE));
+
+        List<Person> found = typicalAddressBook.findPersons(new TagContainsKeywordsPredicate(List.of("hall")));
+        assertEquals(List.of(hall), found);
+        assertTrue(typicalAddressBook.getSearchIndex().isIndexed(found.get(0)));
+    }
+
+    @Test
+    public void undoBatch_changesInBatch_searchIndexRestored() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate(List.of("friends"));
+        Set<Person> friendsBefore = new HashSet<>(typicalAddressBook.findPersons(friends));
+
+        typicalAddressBook.beginBatch();
+        typicalAddressBook.addPerson(new PersonBuilder().withName("Hall Mate").withPhone("81234567")
+                .withTags("hall").build());
+        typicalAddressBook.removePerson(ALICE);
+        typicalAddressBook.setPerson(BENSON, new PersonBuilder(BENSON).withTags("hall").build());
+        typicalAddressBook.undoBatch();
+        typicalAddressBook.endBatch();
+
+        assertEquals(getTypicalAddressBook(), typicalAddressBook);
+        assertEquals(friendsBefore, new HashSet<>(typicalAddressBook.findPersons(friends)));
+        assertEquals(List.of(), typicalAddressBook.findPersons(new TagContainsKeywordsPredicate(List.of("hall"))));
+    }
+
+    @Test
+    public void addPersons_duplicatesOnly_versionUnchanged() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        long version = typicalAddressBook.getVersion();
+        typicalAddressBook.addPersons(List.of(ALICE, BENSON));
+        assertEquals(version, typicalAddressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_modifications_versionGrows() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        assertTrue(addressBook.getVersion() > version);
+
+        // reading leaves the version as it is
+        version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -111,6 +184,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
@@ -227,4 +227,19 @@ public class CommandHistoryTest {
         // Try to go further down
         assertFalse(history.getNextCommand().isPresent());
     }
+
+    @Test
+    public void getVersion_commandsAdded_versionGrowsWithHistory() {
+        CommandHistory history = new CommandHistory();
+        long version = history.getVersion();
+
+        history.addCommand("list");
+        assertTrue(history.getVersion() > version);
+
+        // commands that are not added leave the version as it is
+        version = history.getVersion();
+        history.addCommand("list");
+        history.addCommand("   ");
+        assertEquals(version, history.getVersion());
+    }
 }
@@ -0,0 +1,119 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class LimitedSearchTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final List<Person> tested = new ArrayList<>();
+    private LimitedSearch search;
+
+    /**
+     * Lists persons 1 to 6, and searches for those with an even id two at a time.
+     */
+    @BeforeEach
+    public void setUp() {
+        for (int i = 1; i <= 6; i++) {
+            persons.add(person(i));
+        }
+        search = new LimitedSearch(person -> {
+            tested.add(person);
+            return person.getId() % 2 == 0;
+        }, 2);
+        persons.addListener(search::updateCursor);
+    }
+
+    @Test
+    public void constructor_nonPositiveBatchSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LimitedSearch(person -> true, 0));
+    }
+
+    @Test
+    public void findMore_batchFound_stopsTesting() {
+        search.findMore(persons);
+        assertEquals(List.of(1, 2, 3, 4), ids(tested));
+        assertEquals(List.of(2, 4), foundIds());
+        assertFalse(search.isExhausted(persons));
+
+        search.findMore(persons);
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), ids(tested));
+        assertEquals(List.of(2, 4, 6), foundIds());
+        assertTrue(search.isExhausted(persons));
+    }
+
+    @Test
+    public void updateCursor_personsChangedBeforeCursor_resumesAfterLastPersonTested() {
+        search.findMore(persons);
+        persons.add(0, person(8));
+        persons.remove(1);
+        persons.set(0, person(10));
+        tested.clear();
+
+        // persons 8 and 10 are before the cursor, so they are not tested
+        search.findMore(persons);
+        assertEquals(List.of(5, 6), ids(tested));
+        assertEquals(List.of(2, 4, 6), foundIds());
+    }
+
+    @Test
+    public void updateCursor_personMovedPastCursor_foundOnce() {
+        search.findMore(persons);
+        Person second = persons.remove(1);
+        persons.add(second);
+        tested.clear();
+
+        search.findMore(persons);
+        assertEquals(List.of(5, 6, 2), ids(tested));
+        assertEquals(List.of(2, 4, 6), foundIds());
+        assertTrue(search.isExhausted(persons));
+    }
+
+    @Test
+    public void updateCursor_listReplaced_testsNewPersons() {
+        search.findMore(persons);
+        persons.setAll(person(7), person(8));
+        tested.clear();
+
+        search.findMore(persons);
+        assertEquals(List.of(7, 8), ids(tested));
+        assertTrue(search.isFound(person(8)));
+    }
+
+    /**
+     * Returns the ids of the persons found, leaving out the tests that checking them takes.
+     */
+    private List<Integer> foundIds() {
+        int testCount = tested.size();
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            if (search.isFound(person(i))) {
+                ids.add(i);
+            }
+        }
+        tested.subList(testCount, tested.size()).clear();
+        return ids;
+    }
+
+    private static List<Integer> ids(List<Person> persons) {
+        return persons.stream().map(Person::getId).collect(Collectors.toList());
+    }
+
+    private static Person person(int id) {
+        return new PersonBuilder().withName("Person " + id).build().withId(id);
+    }
+}
@@ -7,16 +7,32 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameResemblesKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +104,169 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void runInTransaction_successfulBatch_publishesSingleChange() {
+        modelManager.addPerson(ALICE);
+        int[] changeCount = {0};
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) c -> changeCount[0]++);
+
+        String result = modelManager.runInTransaction(model -> {
+            model.addPerson(BENSON);
+            model.deletePerson(ALICE);
+            assertTrue(model.hasPerson(BENSON));
+            assertFalse(model.hasPerson(ALICE));
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void runInTransaction_successfulBatch_changeCoversOnlyAffectedPersons() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        modelManager.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) c -> {
+            while (c.next()) {
+                removed.addAll(c.getRemoved());
+                added.addAll(c.getAddedSubList());
+            }
+        });
+
+        modelManager.runInTransaction(model -> {
+            model.deletePerson(BENSON);
+            model.deletePerson(DANIEL);
+            return null;
+        });
+
+        assertEquals(Arrays.asList(BENSON, DANIEL), removed);
+        assertEquals(Collections.emptyList(), added);
+    }
+
+    @Test
+    public void runInTransaction_batchThrowsAfterManyChanges_restoresAddressBook() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        long version = modelManager.getAddressBook().getVersion();
+
+        assertThrows(IllegalStateException.class, () -> modelManager.runInTransaction(model -> {
+            model.deletePerson(CARL);
+            model.setPerson(DANIEL, new PersonBuilder(DANIEL).withFavorite(true).build());
+            model.addPerson(HOON);
+            model.deletePerson(ALICE);
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(modelManager.getAddressBook()));
+        assertEquals(getTypicalAddressBook().getPersonList(), modelManager.getFilteredPersonList());
+        assertEquals(version, modelManager.getAddressBook().getVersion());
+        // the address book can still be changed after a transaction is rolled back
+        modelManager.addPerson(HOON);
+        assertTrue(modelManager.hasPerson(HOON));
+    }
+
+    @Test
+    public void runInTransaction_batchThrows_rollsBack() {
+        modelManager.addPerson(ALICE);
+        assertThrows(IllegalStateException.class, () -> modelManager.runInTransaction(model -> {
+            model.addPerson(BENSON);
+            model.deletePerson(ALICE);
+            throw new IllegalStateException();
+        }));
+
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_rankedPredicate_ranksPersons() {
+        Person mohd = new PersonBuilder().withName("Mohd Ali").withPhone("91111111").build();
+        Person mohamad = new PersonBuilder().withName("Mohamad Ali").withPhone("92222222").build();
+        Person mohammad = new PersonBuilder().withName("Mohammad Ali").withPhone("93333333").build();
+        modelManager.addPerson(mohd);
+        modelManager.addPerson(mohamad);
+        modelManager.addPerson(mohammad);
+
+        modelManager.updateFilteredPersonList(new NameResemblesKeywordsPredicate(Arrays.asList("Mohammad")));
+        assertEquals(Arrays.asList(mohammad, mohamad), modelManager.getFilteredPersonList());
+
+        // unranked predicates show persons in address book order
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Ali")));
+        assertEquals(Arrays.asList(mohd, mohamad, mohammad), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListToSavedView_personsChanged_showsUpdatedView() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        int[] testCount = {0};
+        TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate(List.of("friends"));
+        modelManager.addSavedView("friends", "t/friends", person -> {
+            testCount[0]++;
+            return friends.test(person);
+        });
+        assertTrue(modelManager.hasSavedView("friends"));
+        assertEquals(Map.of("friends", "t/friends"), modelManager.getUserPrefs().getSavedViews());
+
+        // only the persons that change are tested against the query
+        testCount[0] = 0;
+        Person carlFriend = new PersonBuilder(CARL).withTags("friends").build();
+        modelManager.setPerson(CARL, carlFriend);
+        Person bensonStranger = new PersonBuilder(BENSON).withTags().build();
+        modelManager.setPerson(BENSON, bensonStranger);
+        modelManager.deletePerson(ALICE);
+        Person hoon = new PersonBuilder().withName("Hoon Meier").withPhone("84824240").withTags("friends").build();
+        modelManager.addPerson(hoon);
+        assertEquals(3, testCount[0]);
+
+        modelManager.updateFilteredPersonListToSavedView("friends");
+        assertEquals(Arrays.asList(carlFriend, DANIEL, hoon), modelManager.getFilteredPersonList());
+        assertEquals(3, testCount[0]);
+    }
+
+    @Test
+    public void updateFilteredPersonListToSavedView_unknownView_throwsIllegalArgumentException() {
+        assertFalse(modelManager.hasSavedView("friends"));
+        assertThrows(IllegalArgumentException.class, () -> modelManager.updateFilteredPersonListToSavedView("friends"));
+    }
+
+    @Test
+    public void updateFilteredPersonListToFirst_limitReached_stopsTesting() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Set<Person> tested = new HashSet<>();
+        TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate(List.of("friends"));
+        Predicate<Person> predicate = person -> {
+            tested.add(person);
+            return friends.test(person);
+        };
+
+        modelManager.updateFilteredPersonListToFirst(predicate, 1);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(Set.of(ALICE), tested);
+        assertTrue(modelManager.canShowMorePersons());
+
+        // resumes after the last person tested, even when persons before it are removed
+        modelManager.showMorePersons();
+        modelManager.deletePerson(ALICE);
+        modelManager.showMorePersons();
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+        assertEquals(Set.of(ALICE, BENSON, CARL, DANIEL), tested);
+
+        modelManager.showMorePersons();
+        assertFalse(modelManager.canShowMorePersons());
+        assertThrows(IllegalStateException.class, () -> modelManager.showMorePersons());
+    }
+
+    @Test
+    public void canShowMorePersons_otherFilterShown_returnsFalse() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonListToFirst(PREDICATE_SHOW_ALL_PERSONS, 1);
+        assertTrue(modelManager.canShowMorePersons());
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertFalse(modelManager.canShowMorePersons());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
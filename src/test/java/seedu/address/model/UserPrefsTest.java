@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +20,34 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+
+    @Test
+    public void setParallelFilterThreshold_nonPositiveThreshold_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, UserPrefs.MESSAGE_INVALID_PARALLEL_FILTER_THRESHOLD, ()
+            -> userPrefs.setParallelFilterThreshold(0));
+    }
+
+    @Test
+    public void setSavedViews_nullSavedViews_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setSavedViews(null));
+    }
+
+    @Test
+    public void getVersion_modifications_versionGrows() {
+        UserPrefs userPrefs = new UserPrefs();
+        long version = userPrefs.getVersion();
+
+        userPrefs.addAlias("la", "list");
+        assertTrue(userPrefs.getVersion() > version);
+
+        // removing an alias that does not exist changes nothing
+        version = userPrefs.getVersion();
+        userPrefs.removeAlias("ls");
+        assertEquals(version, userPrefs.getVersion());
+
+        userPrefs.removeAlias("la");
+        assertTrue(userPrefs.getVersion() > version);
+    }
 }
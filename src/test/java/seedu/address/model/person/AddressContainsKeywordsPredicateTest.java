@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressContainsKeywordsPredicateTest {
+
+    private final Person person = new PersonBuilder().withAddress("21 Lower Kent Ridge Road, #05-12").build();
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        AddressContainsKeywordsPredicate firstPredicate =
+                new AddressContainsKeywordsPredicate(firstPredicateKeywordList);
+        AddressContainsKeywordsPredicate secondPredicate =
+                new AddressContainsKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new AddressContainsKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_addressContainsKeywords_returnsTrue() {
+        // whole words
+        assertTrue(new AddressContainsKeywordsPredicate(List.of("Kent", "Ridge")).test(person));
+
+        // parts of words, in another case
+        assertTrue(new AddressContainsKeywordsPredicate(List.of("ENT", "RID")).test(person));
+        assertTrue(new AddressContainsKeywordsPredicate(List.of("#05-1")).test(person));
+
+        // shorter than a trigram
+        assertTrue(new AddressContainsKeywordsPredicate(List.of("21")).test(person));
+    }
+
+    @Test
+    public void test_addressDoesNotContainKeywords_returnsFalse() {
+        // zero keywords
+        assertFalse(new AddressContainsKeywordsPredicate(Collections.emptyList()).test(person));
+
+        // keywords out of order
+        assertFalse(new AddressContainsKeywordsPredicate(List.of("Ridge", "Kent")).test(person));
+
+        // keywords not adjacent in the address
+        assertFalse(new AddressContainsKeywordsPredicate(List.of("Lower", "Ridge")).test(person));
+
+        // keywords match other fields only
+        Person amy = new PersonBuilder().withName("Amy Clementi").withAddress("Blk 1 Jurong West").build();
+        assertFalse(new AddressContainsKeywordsPredicate(List.of("Clementi")).test(amy));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        AddressContainsKeywordsPredicate predicate = new AddressContainsKeywordsPredicate(keywords);
+
+        String expected = AddressContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class EmailMatchesKeywordsPredicateTest {
+
+    private final Person person = new PersonBuilder().withEmail("Alice.Tan@comp.nus.edu.sg").build();
+
+    @Test
+    public void equals() {
+        EmailMatchesKeywordsPredicate firstPredicate = new EmailMatchesKeywordsPredicate(List.of("@nus.edu.sg"));
+        EmailMatchesKeywordsPredicate secondPredicate =
+                new EmailMatchesKeywordsPredicate(List.of("@nus.edu.sg", "@u.nus.edu"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new EmailMatchesKeywordsPredicate(List.of("@nus.edu.sg"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_emailMatchesKeywords_returnsTrue() {
+        // the domain itself, with or without @
+        assertTrue(new EmailMatchesKeywordsPredicate(List.of("@comp.nus.edu.sg")).test(person));
+        assertTrue(new EmailMatchesKeywordsPredicate(List.of("COMP.NUS.EDU.SG")).test(person));
+
+        // a parent domain
+        assertTrue(new EmailMatchesKeywordsPredicate(List.of("@nus.edu.sg")).test(person));
+        assertTrue(new EmailMatchesKeywordsPredicate(List.of("@sg")).test(person));
+
+        // the whole email, in another case
+        assertTrue(new EmailMatchesKeywordsPredicate(List.of("alice.tan@COMP.nus.edu.sg")).test(person));
+
+        // only one keyword needs to match
+        assertTrue(new EmailMatchesKeywordsPredicate(List.of("@u.nus.edu", "@nus.edu.sg")).test(person));
+    }
+
+    @Test
+    public void test_emailDoesNotMatchKeywords_returnsFalse() {
+        // zero keywords
+        assertFalse(new EmailMatchesKeywordsPredicate(Collections.emptyList()).test(person));
+
+        // no domain
+        assertFalse(new EmailMatchesKeywordsPredicate(List.of("@")).test(person));
+
+        // part of a label
+        assertFalse(new EmailMatchesKeywordsPredicate(List.of("@us.edu.sg")).test(person));
+
+        // a domain that does not end the email
+        assertFalse(new EmailMatchesKeywordsPredicate(List.of("@nus.edu")).test(person));
+
+        // part of the user name, or another user at the same domain
+        assertFalse(new EmailMatchesKeywordsPredicate(List.of("alice")).test(person));
+        assertFalse(new EmailMatchesKeywordsPredicate(List.of("alice@comp.nus.edu.sg")).test(person));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("@nus.edu.sg", "alice@u.nus.edu");
+        EmailMatchesKeywordsPredicate predicate = new EmailMatchesKeywordsPredicate(keywords);
+
+        String expected = EmailMatchesKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -76,4 +76,35 @@ public class ModuleContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
                 .withEmail("alice@email.com").withAddress("Main Street").withModules("CS2103T").build()));
     }
+
+    @Test
+    public void test_moduleMatchesWildcard_returnsTrue() {
+        ModuleContainsKeywordsPredicate predicate = new ModuleContainsKeywordsPredicate(List.of("cs21*"));
+        assertTrue(predicate.test(new PersonBuilder().withModules("MA1521", "CS2103T").build()));
+        assertTrue(predicate.test(new PersonBuilder().withModules("CS2100").build()));
+        assertFalse(predicate.test(new PersonBuilder().withModules("CS2040", "CS1231").build()));
+
+        // the wildcard only ends a keyword
+        predicate = new ModuleContainsKeywordsPredicate(List.of("CS*03T"));
+        assertFalse(predicate.test(new PersonBuilder().withModules("CS2103T").build()));
+    }
+
+    @Test
+    public void test_moduleInRange_returnsTrue() {
+        ModuleContainsKeywordsPredicate predicate = new ModuleContainsKeywordsPredicate(List.of("CS2000..CS2999"));
+        assertTrue(predicate.test(new PersonBuilder().withModules("CS2000").build()));
+        assertTrue(predicate.test(new PersonBuilder().withModules("CS2103T").build()));
+        assertTrue(predicate.test(new PersonBuilder().withModules("CS2999T").build()));
+        assertFalse(predicate.test(new PersonBuilder().withModules("CS1999", "CS3000").build()));
+
+        // open ends
+        assertTrue(new ModuleContainsKeywordsPredicate(List.of("MA2000..")).test(
+                new PersonBuilder().withModules("ST2334").build()));
+        assertTrue(new ModuleContainsKeywordsPredicate(List.of("..CS1")).test(
+                new PersonBuilder().withModules("CS1010").build()));
+
+        // reversed ends
+        assertFalse(new ModuleContainsKeywordsPredicate(List.of("CS2999..CS2000")).test(
+                new PersonBuilder().withModules("CS2103T").build()));
+    }
 }
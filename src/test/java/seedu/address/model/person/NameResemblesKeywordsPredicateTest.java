@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameResemblesKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        NameResemblesKeywordsPredicate firstPredicate = new NameResemblesKeywordsPredicate(firstPredicateKeywordList);
+        NameResemblesKeywordsPredicate secondPredicate =
+                new NameResemblesKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameResemblesKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+
+        // exact-match predicate with the same keywords -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(firstPredicateKeywordList)));
+    }
+
+    @Test
+    public void test_nameResemblesKeywords_returnsTrue() {
+        // exact word
+        NameResemblesKeywordsPredicate predicate = new NameResemblesKeywordsPredicate(List.of("alice"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Pauline").build()));
+
+        // one typo in a short word
+        predicate = new NameResemblesKeywordsPredicate(List.of("Alise"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Pauline").build()));
+
+        // two typos in a long word
+        predicate = new NameResemblesKeywordsPredicate(List.of("Muhamad"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Mohammad Ali").build()));
+
+        // words split differently
+        predicate = new NameResemblesKeywordsPredicate(List.of("Tan", "Wei", "Ming"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Weiming").build()));
+        predicate = new NameResemblesKeywordsPredicate(List.of("Weiming"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Tan Wei Ming").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotResembleKeywords_returnsFalse() {
+        // too many typos for the keyword length
+        NameResemblesKeywordsPredicate predicate = new NameResemblesKeywordsPredicate(List.of("Alyse"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // short keywords must match exactly
+        predicate = new NameResemblesKeywordsPredicate(List.of("Al"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Ali").build()));
+
+        // only adjacent words are joined
+        predicate = new NameResemblesKeywordsPredicate(List.of("TanMing"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Tan Wei Ming").build()));
+    }
+
+    @Test
+    public void distanceTo_returnsSmallestDistance() {
+        NameResemblesKeywordsPredicate predicate = new NameResemblesKeywordsPredicate(List.of("Mohamad", "Ali"));
+        assertEquals(0, predicate.distanceTo(new PersonBuilder().withName("Mohammad Ali").build()));
+        assertEquals(1, predicate.distanceTo(new PersonBuilder().withName("Mohammad Aly").build()));
+        assertEquals(Integer.MAX_VALUE, predicate.distanceTo(new PersonBuilder().withName("Benson").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NameResemblesKeywordsPredicate predicate = new NameResemblesKeywordsPredicate(keywords);
+
+        String expected = NameResemblesKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.person.PersonMatchesKeywordsPredicate.EMAIL_WEIGHT;
+import static seedu.address.model.person.PersonMatchesKeywordsPredicate.FACULTY_WEIGHT;
+import static seedu.address.model.person.PersonMatchesKeywordsPredicate.MODULE_WEIGHT;
+import static seedu.address.model.person.PersonMatchesKeywordsPredicate.NAME_WEIGHT;
+import static seedu.address.model.person.PersonMatchesKeywordsPredicate.TAG_WEIGHT;
+import static seedu.address.model.person.PersonMatchesKeywordsPredicate.WHOLE_WORD_FACTOR;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonMatchesKeywordsPredicateTest {
+
+    private final Person person = new PersonBuilder().withName("Tan Wei Ming").withEmail("weiming@u.nus.edu")
+            .withTags("tutor").withModules("CS2103T").withFaculties("Computing").build();
+
+    @Test
+    public void equals() {
+        PersonMatchesKeywordsPredicate firstPredicate = new PersonMatchesKeywordsPredicate(List.of("first"));
+        PersonMatchesKeywordsPredicate secondPredicate =
+                new PersonMatchesKeywordsPredicate(List.of("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PersonMatchesKeywordsPredicate(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void score_wholeWordScoresMoreThanStartOfWord() {
+        assertEquals(NAME_WEIGHT * WHOLE_WORD_FACTOR, score("tan"));
+        assertEquals(NAME_WEIGHT, score("ta"));
+        assertEquals(TAG_WEIGHT * WHOLE_WORD_FACTOR, score("TUTOR"));
+        assertEquals(MODULE_WEIGHT, score("cs21"));
+        assertEquals(FACULTY_WEIGHT * WHOLE_WORD_FACTOR, score("computing"));
+        assertEquals(EMAIL_WEIGHT * WHOLE_WORD_FACTOR, score("nus"));
+    }
+
+    @Test
+    public void score_keywordInSeveralFields_scoresBestField() {
+        // "wei" is a name word and starts the email user name
+        assertEquals(NAME_WEIGHT * WHOLE_WORD_FACTOR, score("wei"));
+
+        // "weiming" is a whole email word but does not start a name word
+        assertEquals(EMAIL_WEIGHT * WHOLE_WORD_FACTOR, score("weiming"));
+    }
+
+    @Test
+    public void score_multipleKeywords_addsScores() {
+        assertEquals(NAME_WEIGHT * WHOLE_WORD_FACTOR + MODULE_WEIGHT * WHOLE_WORD_FACTOR, score("tan", "cs2103t"));
+
+        // keywords that match nothing do not count
+        assertEquals(NAME_WEIGHT * WHOLE_WORD_FACTOR, score("tan", "bob"));
+    }
+
+    @Test
+    public void test_keywordStartsAWord_returnsTrue() {
+        assertTrue(new PersonMatchesKeywordsPredicate(List.of("Min")).test(person));
+        assertTrue(new PersonMatchesKeywordsPredicate(List.of("bob", "edu")).test(person));
+    }
+
+    @Test
+    public void test_noKeywordStartsAWord_returnsFalse() {
+        // zero keywords
+        assertFalse(new PersonMatchesKeywordsPredicate(Collections.emptyList()).test(person));
+
+        // keyword in the middle of a word
+        assertFalse(new PersonMatchesKeywordsPredicate(List.of("ing")).test(person));
+
+        // blank keyword
+        assertFalse(new PersonMatchesKeywordsPredicate(List.of(" ")).test(person));
+    }
+
+    @Test
+    public void getRanking_higherScoreFirst() {
+        Person tanAh = new PersonBuilder().withName("Tan Ah Kow").build();
+        Person tang = new PersonBuilder().withName("Tang Mei").build();
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicate(List.of("tan"));
+        assertTrue(predicate.getRanking().get().compare(tanAh, tang) < 0);
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicate(keywords);
+
+        String expected = PersonMatchesKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+
+    private int score(String... keywords) {
+        return new PersonMatchesKeywordsPredicate(List.of(keywords)).score(person);
+    }
+}
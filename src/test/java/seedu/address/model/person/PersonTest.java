@@ -101,6 +101,9 @@ public class PersonTest {
         // different type -> returns false
         assertFalse(ALICE.equals(5));
 
+        // different id -> returns true
+        assertTrue(ALICE.withId(1).equals(ALICE.withId(2)));
+
         // different person -> returns false
         assertFalse(ALICE.equals(BOB));
 
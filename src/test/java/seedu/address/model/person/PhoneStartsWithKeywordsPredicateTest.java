@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneStartsWithKeywordsPredicateTest {
+
+    private final Person person = new PersonBuilder().withPhone("91234567").build();
+
+    @Test
+    public void equals() {
+        PhoneStartsWithKeywordsPredicate firstPredicate = new PhoneStartsWithKeywordsPredicate(List.of("9123"));
+        PhoneStartsWithKeywordsPredicate secondPredicate = new PhoneStartsWithKeywordsPredicate(List.of("9123", "8"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PhoneStartsWithKeywordsPredicate(List.of("9123"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_phoneStartsWithKeywords_returnsTrue() {
+        assertTrue(new PhoneStartsWithKeywordsPredicate(List.of("9123")).test(person));
+        assertTrue(new PhoneStartsWithKeywordsPredicate(List.of("91234567")).test(person));
+
+        // only one keyword needs to match
+        assertTrue(new PhoneStartsWithKeywordsPredicate(List.of("8", "9")).test(person));
+    }
+
+    @Test
+    public void test_phoneDoesNotStartWithKeywords_returnsFalse() {
+        // zero keywords
+        assertFalse(new PhoneStartsWithKeywordsPredicate(Collections.emptyList()).test(person));
+
+        // empty keyword
+        assertFalse(new PhoneStartsWithKeywordsPredicate(List.of(" ")).test(person));
+
+        // keyword in the middle of the phone number
+        assertFalse(new PhoneStartsWithKeywordsPredicate(List.of("4567")).test(person));
+
+        // keyword longer than the phone number
+        assertFalse(new PhoneStartsWithKeywordsPredicate(List.of("912345678")).test(person));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("9123", "8");
+        PhoneStartsWithKeywordsPredicate predicate = new PhoneStartsWithKeywordsPredicate(keywords);
+
+        String expected = PhoneStartsWithKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
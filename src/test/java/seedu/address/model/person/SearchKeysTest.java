@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchKeysTest {
+
+    private final Person person = new PersonBuilder().withName("Alice  Pauline TAN")
+            .withTags("Friends", "owesMoney")
+            .withModules("CS2103T", "GEA1000")
+            .withFaculties("School of Computing")
+            .withEmail("alice.tan@u.NUS.edu")
+            .withAddress("Blk 7,  KENT\tRidge ")
+            .withPhone("91234567")
+            .build();
+
+    @Test
+    public void getters_foldCaseOfEachKey() {
+        SearchKeys keys = person.getSearchKeys();
+        assertEquals(Set.of("alice", "pauline", "tan"), keys.getNameWords());
+        assertEquals(Set.of("alice", "pauline", "tan", "alicepauline", "paulinetan"), keys.getNameTerms());
+        assertEquals(Set.of("friends", "owesmoney"), keys.getTagNames());
+        assertEquals(Set.of("cs2103t", "gea1000"), keys.getModuleWords());
+        assertEquals(Set.of("school", "of", "computing"), keys.getFacultyWords());
+        assertEquals(Set.of("alice", "tan", "u", "nus", "edu"), keys.getEmailWords());
+        assertEquals("blk 7, kent ridge", keys.getAddress());
+        assertEquals("alice.tan@u.nus.edu", keys.getEmail());
+        assertEquals("u.nus.edu", keys.getEmailDomain());
+        assertEquals("91234567", keys.getPhone());
+    }
+
+    @Test
+    public void getters_modifySet_throwsUnsupportedOperationException() {
+        SearchKeys keys = person.getSearchKeys();
+        assertThrows(UnsupportedOperationException.class, () -> keys.getNameWords().add("bob"));
+        assertThrows(UnsupportedOperationException.class, () -> keys.getTagNames().clear());
+    }
+
+    @Test
+    public void getSearchKeys_computedOnce() {
+        assertSame(person.getSearchKeys(), person.getSearchKeys());
+
+        // copies with another id share the keys
+        assertSame(person.getSearchKeys(), person.withId(5).getSearchKeys());
+    }
+
+    @Test
+    public void foldText() {
+        assertEquals("kent ridge", SearchKeys.foldText(" KENT \n Ridge "));
+        assertEquals("", SearchKeys.foldText("  "));
+    }
+
+    @Test
+    public void foldKeywords() {
+        assertArrayEquals(new String[] {"alice", "bob"},
+                SearchKeys.foldKeywords(Arrays.asList(" ALICE ", "bob", "Alice"), true));
+        assertArrayEquals(new String[] {" alice ", "alice"},
+                SearchKeys.foldKeywords(Arrays.asList(" ALICE ", "Alice"), false));
+    }
+
+    @Test
+    public void foldTerms_addsAdjacentPairs() {
+        assertArrayEquals(new String[] {"wei", "ming", "weiming"}, SearchKeys.foldTerms(Arrays.asList("Wei", "MING")));
+        assertArrayEquals(new String[] {"tan"}, SearchKeys.foldTerms(Arrays.asList("Tan")));
+    }
+
+    @Test
+    public void containsAny() {
+        Set<String> keys = person.getSearchKeys().getNameWords();
+        assertTrue(SearchKeys.containsAny(keys, new String[] {"bob", "tan"}));
+        assertFalse(SearchKeys.containsAny(keys, new String[] {"bob"}));
+        assertFalse(SearchKeys.containsAny(keys, new String[0]));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_FACULTY_COMPUTING;
@@ -11,12 +12,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -112,6 +116,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonSharesNameWithTargetAndPhoneWithAnother_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person aliceWithBobPhone = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, aliceWithBobPhone));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -137,6 +149,238 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void add_personsWithoutId_assignsDistinctIds() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        List<Person> stored = uniquePersonList.asUnmodifiableObservableList();
+        assertTrue(stored.get(0).hasId());
+        assertTrue(stored.get(1).hasId());
+        assertNotEquals(stored.get(0).getId(), stored.get(1).getId());
+    }
+
+    @Test
+    public void add_personWithIdInUse_assignsFreshId() {
+        uniquePersonList.add(ALICE.withId(5));
+        uniquePersonList.add(BOB.withId(5));
+        List<Person> stored = uniquePersonList.asUnmodifiableObservableList();
+        assertEquals(5, stored.get(0).getId());
+        assertEquals(6, stored.get(1).getId());
+    }
+
+    @Test
+    public void setPerson_editedPersonWithoutId_keepsIdOfTarget() {
+        uniquePersonList.add(ALICE);
+        Person storedAlice = uniquePersonList.asUnmodifiableObservableList().get(0);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(storedAlice, editedAlice);
+        assertEquals(storedAlice.getId(), uniquePersonList.asUnmodifiableObservableList().get(0).getId());
+    }
+
+    @Test
+    public void remove_storedPersons_updatesPositionsOfLaterPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, new PersonBuilder().withName("Carl")
+                .withPhone("99999999").build()));
+        List<Person> stored = new ArrayList<>(uniquePersonList.asUnmodifiableObservableList());
+        uniquePersonList.remove(stored.get(0));
+        uniquePersonList.remove(stored.get(2));
+        uniquePersonList.setPerson(stored.get(1), stored.get(1).withId(Person.UNASSIGNED_ID));
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_listWithRepeatedIds_keepsFirstAndReassignsRest() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE.withId(3), BOB.withId(3)));
+        List<Person> stored = uniquePersonList.asUnmodifiableObservableList();
+        assertEquals(3, stored.get(0).getId());
+        assertEquals(4, stored.get(1).getId());
+    }
+
+    @Test
+    public void add_favoritePerson_placedFirst() {
+        Person favoriteBob = new PersonBuilder(BOB).withFavorite(true).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(favoriteBob);
+        assertEquals(Arrays.asList(favoriteBob, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_favoriteToggled_movesPersonWithSingleChange() {
+        Person carl = new PersonBuilder().withName("Carl").withPhone("99999999").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, carl));
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c ->
+                changeCount[0]++);
+
+        Person favoriteCarl = new PersonBuilder(carl).withFavorite(true).build();
+        uniquePersonList.setPerson(carl, favoriteCarl);
+        assertEquals(Arrays.asList(favoriteCarl, ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+
+        uniquePersonList.setPerson(favoriteCarl, carl);
+        assertEquals(Arrays.asList(ALICE, BOB, carl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, changeCount[0]);
+    }
+
+    @Test
+    public void setPerson_favoriteToggled_newestFavoriteFirstAndNewestUnfavoritedLast() {
+        Person favoriteAlice = new PersonBuilder(ALICE).withFavorite(true).build();
+        Person favoriteBob = new PersonBuilder(BOB).withFavorite(true).build();
+        Person carl = new PersonBuilder().withName("Carl").withPhone("99999999").build();
+        uniquePersonList.setPersons(Arrays.asList(favoriteAlice, carl, BOB));
+
+        uniquePersonList.setPerson(BOB, favoriteBob);
+        assertEquals(Arrays.asList(favoriteBob, favoriteAlice, carl), uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.setPerson(favoriteBob, BOB);
+        uniquePersonList.remove(favoriteAlice);
+        assertEquals(Arrays.asList(carl, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_mixedFavorites_favoritesFirstInOriginalOrder() {
+        Person favoriteBob = new PersonBuilder(BOB).withFavorite(true).build();
+        Person favoriteCarl = new PersonBuilder().withName("Carl").withPhone("99999999").withFavorite(true).build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, favoriteBob, favoriteCarl));
+        assertEquals(Arrays.asList(favoriteBob, favoriteCarl, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void endBatch_changesInBatch_singleChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c ->
+                changeCount[0]++);
+
+        Person carl = new PersonBuilder().withName("Carl").withPhone("99999999").build();
+        uniquePersonList.beginBatch();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(carl);
+        assertEquals(0, changeCount[0]);
+        uniquePersonList.endBatch();
+
+        assertEquals(Arrays.asList(BOB, carl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void undoBatch_changesInBatch_restoresListAndIds() {
+        Person carl = new PersonBuilder().withName("Carl").withPhone("99999999").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, carl));
+        List<Person> original = new ArrayList<>(uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(carl, new PersonBuilder(carl).withFavorite(true).build());
+        uniquePersonList.add(new PersonBuilder().withName("Dan").withPhone("88888888").build());
+        uniquePersonList.setPerson(BOB, new PersonBuilder(BOB).withPhone("77777777").build());
+        uniquePersonList.undoBatch();
+        uniquePersonList.endBatch();
+
+        assertEquals(original, uniquePersonList.asUnmodifiableObservableList());
+        for (int i = 0; i < original.size(); i++) {
+            assertEquals(original.get(i).getId(), uniquePersonList.asUnmodifiableObservableList().get(i).getId());
+        }
+        // the identity and position indexes are restored along with the list
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(new PersonBuilder().withName("Dan").withPhone("88888888").build()));
+        uniquePersonList.remove(original.get(2));
+        assertEquals(original.subList(0, 2), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void beginBatch_batchAlreadyOpen_throwsIllegalStateException() {
+        uniquePersonList.beginBatch();
+        assertThrows(IllegalStateException.class, uniquePersonList::beginBatch);
+    }
+
+    @Test
+    public void addAll_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.addAll(null));
+    }
+
+    @Test
+    public void addAll_duplicatesInListAndInArgument_skipsAndReportsAllDuplicates() {
+        uniquePersonList.add(ALICE);
+        Person carl = new PersonBuilder().withName("Carl").withPhone("99999999").build();
+        Person bobWithCarlPhone = new PersonBuilder(BOB).withPhone("99999999").build();
+        Person aliceCopy = new PersonBuilder(ALICE).withPhone("11111111").build();
+
+        List<Person> duplicates = uniquePersonList.addAll(Arrays.asList(carl, aliceCopy, bobWithCarlPhone, BOB));
+        assertEquals(Arrays.asList(aliceCopy, bobWithCarlPhone), duplicates);
+        assertEquals(Arrays.asList(ALICE, carl, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_newPersons_singleChangeWithNewFavoritesFirst() {
+        Person favoriteCarl = new PersonBuilder().withName("Carl").withPhone("99999999").withFavorite(true).build();
+        uniquePersonList.add(ALICE);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c ->
+                changeCount[0]++);
+
+        uniquePersonList.addAll(Arrays.asList(BOB, favoriteCarl));
+        assertEquals(Arrays.asList(favoriteCarl, ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void addAll_newPersons_changeCoversOnlyNewPersons() {
+        Person favoriteCarl = new PersonBuilder().withName("Carl").withPhone("99999999").withFavorite(true).build();
+        uniquePersonList.add(ALICE);
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c -> {
+            while (c.next()) {
+                removed.addAll(c.getRemoved());
+                added.addAll(c.getAddedSubList());
+            }
+        });
+
+        List<Person> addedPersons = new ArrayList<>();
+        uniquePersonList.addAll(Arrays.asList(BOB, favoriteCarl), addedPersons::add);
+        assertEquals(Collections.emptyList(), removed);
+        assertEquals(Arrays.asList(favoriteCarl, BOB), added);
+        assertEquals(Arrays.asList(favoriteCarl, BOB), addedPersons);
+        // the positions of the persons after the new favorite are kept up to date
+        uniquePersonList.remove(uniquePersonList.asUnmodifiableObservableList().get(1));
+        assertEquals(Arrays.asList(favoriteCarl, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_personsWithSameId_assignsDistinctIds() {
+        uniquePersonList.addAll(Arrays.asList(ALICE.withId(4), BOB.withId(4)));
+        List<Person> stored = uniquePersonList.asUnmodifiableObservableList();
+        assertEquals(4, stored.get(0).getId());
+        assertNotEquals(4, stored.get(1).getId());
+        uniquePersonList.add(new PersonBuilder().withName("Carl").withPhone("99999999").build());
+        assertEquals(3, stored.stream().map(Person::getId).distinct().count());
+    }
+
+    @Test
+    public void undoBatch_afterAddAll_restoresList() {
+        Person favoriteCarl = new PersonBuilder().withName("Carl").withPhone("99999999").withFavorite(true).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.beginBatch();
+        uniquePersonList.addAll(Arrays.asList(BOB, favoriteCarl));
+        uniquePersonList.undoBatch();
+        uniquePersonList.endBatch();
+
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+        uniquePersonList.add(favoriteCarl);
+        assertEquals(Arrays.asList(favoriteCarl, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_personWithIdInUse_keepsIdOfStoredPerson() {
+        uniquePersonList.add(ALICE.withId(1));
+        uniquePersonList.addAll(Collections.singletonList(BOB.withId(1)));
+        List<Person> stored = uniquePersonList.asUnmodifiableObservableList();
+        assertEquals(1, stored.get(0).getId());
+        assertNotEquals(1, stored.get(1).getId());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -172,6 +416,65 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSamePhone_reportsConflictingPair() {
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        List<Person> persons = Arrays.asList(ALICE, new PersonBuilder().withName("Carl").withPhone("99999999")
+                .build(), bobWithAlicePhone);
+        DuplicatePersonException exception = org.junit.jupiter.api.Assertions.assertThrows(
+                DuplicatePersonException.class, () -> uniquePersonList.setPersons(persons));
+        assertEquals(ALICE, exception.getFirstPerson());
+        assertEquals(bobWithAlicePhone, exception.getSecondPerson());
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesListUnchanged() {
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(Arrays.asList(ALICE, ALICE)));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterRandomMutations_matchesLinearScan() {
+        Random random = new Random(2103);
+        List<Person> candidates = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            // small name and phone pools so that partial identity clashes are common
+            candidates.add(new PersonBuilder()
+                    .withName("Person " + random.nextInt(20))
+                    .withPhone("9000" + random.nextInt(20))
+                    .build());
+        }
+
+        for (int step = 0; step < 500; step++) {
+            Person candidate = candidates.get(random.nextInt(candidates.size()));
+            List<Person> current = uniquePersonList.asUnmodifiableObservableList();
+            int operation = random.nextInt(3);
+            if (operation == 0 && !uniquePersonList.contains(candidate)) {
+                uniquePersonList.add(candidate);
+            } else if (operation == 1 && !current.isEmpty()) {
+                uniquePersonList.remove(current.get(random.nextInt(current.size())));
+            } else if (operation == 2 && !current.isEmpty()) {
+                Person target = current.get(random.nextInt(current.size()));
+                try {
+                    uniquePersonList.setPerson(target, candidate);
+                } catch (DuplicatePersonException e) {
+                    assertTrue(current.stream().anyMatch(other -> other != target && other.isSamePerson(candidate)));
+                }
+            }
+
+            for (Person probe : candidates) {
+                boolean expected = uniquePersonList.asUnmodifiableObservableList().stream()
+                        .anyMatch(probe::isSamePerson);
+                assertEquals(expected, uniquePersonList.contains(probe));
+            }
+        }
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
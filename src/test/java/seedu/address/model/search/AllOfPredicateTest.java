@@ -0,0 +1,79 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class AllOfPredicateTest {
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice").withPhone("11111111")
+            .withTags("friends").build().withId(1);
+    private static final Person BENSON = new PersonBuilder().withName("Benson").withPhone("22222222")
+            .withTags("friends", "cca").build().withId(2);
+    private static final Person CARL = new PersonBuilder().withName("Carl").withPhone("33333333")
+            .withTags("cca").build().withId(3);
+
+    @Test
+    public void of_singlePredicate_returnsPredicate() {
+        Predicate<Person> predicate = new TagContainsKeywordsPredicate(List.of("friends"));
+        assertSame(predicate, AllOfPredicate.of(List.of(predicate)));
+    }
+
+    @Test
+    public void test_personMatchingSomeParts_returnsFalse() {
+        AllOfPredicate predicate = new AllOfPredicate(List.of(new NameContainsKeywordsPredicate(List.of("Alice")),
+                new TagContainsKeywordsPredicate(List.of("cca"))));
+        assertFalse(predicate.test(ALICE));
+        assertTrue(new AllOfPredicate(List.of()).test(ALICE));
+    }
+
+    @Test
+    public void resolve_indexedAndUnindexedParts_matchesTest() {
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.setPersons(List.of(ALICE, BENSON, CARL));
+
+        AllOfPredicate tagsOnly = new AllOfPredicate(List.of(new TagContainsKeywordsPredicate(List.of("friends")),
+                new TagContainsKeywordsPredicate(List.of("cca"))));
+        assertEquals(Set.of(2), ids(index, tagsOnly.resolve(index)));
+
+        AllOfPredicate withName = new AllOfPredicate(List.of(new TagContainsKeywordsPredicate(List.of("cca")),
+                new NameContainsKeywordsPredicate(List.of("carl"))));
+        assertEquals(Set.of(3), ids(index, withName.resolve(index)));
+
+        Predicate<Person> unindexed = person -> person.getName().fullName.startsWith("B");
+        AllOfPredicate withUnindexed = new AllOfPredicate(List.of(unindexed,
+                new TagContainsKeywordsPredicate(List.of("cca"))));
+        assertEquals(Set.of(2), ids(index, withUnindexed.resolve(index)));
+        assertEquals(Set.of(2), ids(index, new AllOfPredicate(List.of(unindexed)).resolve(index)));
+    }
+
+    @Test
+    public void equals() {
+        AllOfPredicate predicate = new AllOfPredicate(List.of(new TagContainsKeywordsPredicate(List.of("cca"))));
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new AllOfPredicate(List.of(new TagContainsKeywordsPredicate(List.of("cca"))))));
+        assertFalse(predicate.equals(null));
+        assertFalse(predicate.equals(new AllOfPredicate(List.of())));
+    }
+
+    /**
+     * Returns the ids of the persons at {@code ordinals} in {@code index}.
+     */
+    private static Set<Integer> ids(PersonSearchIndex index, BitSet ordinals) {
+        return index.getPersons(ordinals).stream().map(Person::getId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class AnyOfPredicateTest {
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice").withPhone("11111111")
+            .withTags("friends").build().withId(1);
+    private static final Person BENSON = new PersonBuilder().withName("Benson").withPhone("22222222")
+            .withTags("friends", "cca").build().withId(2);
+    private static final Person CARL = new PersonBuilder().withName("Carl").withPhone("33333333")
+            .withTags("cca").build().withId(3);
+
+    @Test
+    public void of_singlePredicate_returnsPredicate() {
+        Predicate<Person> predicate = new TagContainsKeywordsPredicate(List.of("friends"));
+        assertSame(predicate, AnyOfPredicate.of(List.of(predicate)));
+    }
+
+    @Test
+    public void test_personMatchingSomeParts_returnsTrue() {
+        AnyOfPredicate predicate = new AnyOfPredicate(List.of(new NameContainsKeywordsPredicate(List.of("Alice")),
+                new TagContainsKeywordsPredicate(List.of("cca"))));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(CARL));
+        assertFalse(new AnyOfPredicate(List.of()).test(ALICE));
+    }
+
+    @Test
+    public void resolve_indexedAndUnindexedParts_matchesTest() {
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.setPersons(List.of(ALICE, BENSON, CARL));
+
+        AnyOfPredicate namesOnly = new AnyOfPredicate(List.of(new NameContainsKeywordsPredicate(List.of("alice")),
+                new NameContainsKeywordsPredicate(List.of("carl"))));
+        assertEquals(List.of(ALICE, CARL), index.getPersons(namesOnly.resolve(index)));
+
+        Predicate<Person> unindexed = person -> person.getName().fullName.startsWith("B");
+        AnyOfPredicate withUnindexed = new AnyOfPredicate(List.of(unindexed,
+                new NameContainsKeywordsPredicate(List.of("carl"))));
+        assertEquals(List.of(BENSON, CARL), index.getPersons(withUnindexed.resolve(index)));
+        assertEquals(List.of(), index.getPersons(new AnyOfPredicate(List.of()).resolve(index)));
+    }
+
+    @Test
+    public void equals() {
+        AnyOfPredicate predicate = new AnyOfPredicate(List.of(new TagContainsKeywordsPredicate(List.of("cca"))));
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new AnyOfPredicate(List.of(new TagContainsKeywordsPredicate(List.of("cca"))))));
+        assertFalse(predicate.equals(null));
+        assertFalse(predicate.equals(new AllOfPredicate(List.of(new TagContainsKeywordsPredicate(List.of("cca"))))));
+    }
+}
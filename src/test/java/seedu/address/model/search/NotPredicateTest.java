@@ -0,0 +1,50 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class NotPredicateTest {
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice").withPhone("11111111")
+            .withTags("friends").build().withId(1);
+    private static final Person BENSON = new PersonBuilder().withName("Benson").withPhone("22222222")
+            .withTags("friends", "cca").build().withId(2);
+
+    @Test
+    public void test() {
+        NotPredicate predicate = new NotPredicate(new TagContainsKeywordsPredicate(List.of("cca")));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void resolve_matchesTest() {
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.setPersons(List.of(ALICE, BENSON));
+
+        NotPredicate indexed = new NotPredicate(new TagContainsKeywordsPredicate(List.of("cca")));
+        assertEquals(List.of(ALICE), index.getPersons(indexed.resolve(index)));
+
+        Predicate<Person> unindexed = person -> person.getName().fullName.startsWith("A");
+        assertEquals(List.of(BENSON), index.getPersons(new NotPredicate(unindexed).resolve(index)));
+    }
+
+    @Test
+    public void equals() {
+        NotPredicate predicate = new NotPredicate(new TagContainsKeywordsPredicate(List.of("cca")));
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new NotPredicate(new TagContainsKeywordsPredicate(List.of("cca")))));
+        assertFalse(predicate.equals(null));
+        assertFalse(predicate.equals(new NotPredicate(new TagContainsKeywordsPredicate(List.of("friends")))));
+    }
+}
@@ -0,0 +1,492 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.EmailMatchesKeywordsPredicate;
+import seedu.address.model.person.FacultyContainsKeywordsPredicate;
+import seedu.address.model.person.ModuleContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameResemblesKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
+import seedu.address.model.person.PhoneStartsWithKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private static final Person AMY = new PersonBuilder().withName("Amy").withPhone("11111111")
+            .withTags("friends").withModules("CS2103T").withFaculties("Computing").build().withId(1);
+    private static final Person BOB = new PersonBuilder().withName("Bob").withPhone("22222222")
+            .withTags("Friends", "cca").withModules("CS2101").withFaculties("Arts and Social Sciences").build()
+            .withId(2);
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @Test
+    public void getOrdinalsWithTag_ignoresCase() {
+        index.add(AMY);
+        index.add(BOB);
+        assertEquals(Set.of(1, 2), ids(index.getOrdinalsWithTag("FRIENDS")));
+        assertEquals(Set.of(2), ids(index.getOrdinalsWithTag("cCa")));
+        assertEquals(Collections.emptySet(), ids(index.getOrdinalsWithTag("friend")));
+    }
+
+    @Test
+    public void countWith_countsPersonsWithKey() {
+        index.add(AMY);
+        index.add(BOB);
+        assertEquals(2, index.size());
+        assertEquals(2, index.countWithTag("FRIENDS"));
+        assertEquals(1, index.countWithModuleWord("cs2101"));
+        assertEquals(1, index.countWithFacultyWord("Social"));
+        assertEquals(1, index.countWithNameWord("amy"));
+        assertEquals(0, index.countWithNameWord("am"));
+
+        index.remove(BOB);
+        assertEquals(1, index.size());
+        assertEquals(1, index.countWithTag("friends"));
+        assertEquals(0, index.countWithModuleWord("CS2101"));
+    }
+
+    @Test
+    public void getOrdinalsWithFacultyWord_matchesWholeWords() {
+        index.add(AMY);
+        index.add(BOB);
+        assertEquals(Set.of(2), ids(index.getOrdinalsWithFacultyWord("social")));
+        assertEquals(Collections.emptySet(), ids(index.getOrdinalsWithFacultyWord("Soc")));
+    }
+
+    @Test
+    public void getOrdinalsWithNameTermWithin_matchesTermsWithTypos() {
+        Person weiMing = new PersonBuilder().withName("Tan Wei Ming").build().withId(3);
+        index.add(AMY);
+        index.add(weiMing);
+        assertEquals(Set.of(1), ids(index.getOrdinalsWithNameTermWithin("AMY", 0)));
+        assertEquals(Set.of(1), ids(index.getOrdinalsWithNameTermWithin("amie", 2)));
+        assertEquals(Collections.emptySet(), ids(index.getOrdinalsWithNameTermWithin("amie", 1)));
+
+        // adjacent words are also indexed joined together
+        assertEquals(Set.of(3), ids(index.getOrdinalsWithNameTermWithin("weiming", 0)));
+        assertEquals(Set.of(3), ids(index.getOrdinalsWithNameTermWithin("wieming", 2)));
+
+        index.remove(weiMing);
+        assertEquals(Collections.emptySet(), ids(index.getOrdinalsWithNameTermWithin("weiming", 2)));
+    }
+
+    @Test
+    public void add_personWithIndexedId_replacesPreviousPerson() {
+        index.add(AMY);
+        Person editedAmy = new PersonBuilder(AMY).withTags("cca").build().withId(AMY.getId());
+        index.add(editedAmy);
+        assertEquals(Collections.emptySet(), ids(index.getOrdinalsWithTag("friends")));
+        assertEquals(Set.of(1), ids(index.getOrdinalsWithTag("cca")));
+        assertTrue(index.isIndexed(editedAmy));
+        assertFalse(index.isIndexed(AMY));
+    }
+
+    @Test
+    public void remove_indexedPerson_removesPostings() {
+        index.add(AMY);
+        index.add(BOB);
+        index.remove(AMY);
+        assertEquals(Set.of(2), ids(index.getOrdinalsWithTag("friends")));
+        assertEquals(Collections.emptySet(), ids(index.getOrdinalsWithModuleWord("CS2103T")));
+    }
+
+    @Test
+    public void setPersons_dropsPersonsNotGiven() {
+        index.add(AMY);
+        index.setPersons(List.of(BOB));
+        assertEquals(List.of(BOB), index.getPersons(index.getAllOrdinals()));
+    }
+
+    @Test
+    public void add_afterRemove_reusesFreedOrdinal() {
+        Person carl = new PersonBuilder().withName("Carl").build().withId(3);
+        index.setPersons(List.of(AMY, BOB));
+        index.remove(AMY);
+        index.add(carl);
+        assertEquals(List.of(carl, BOB), index.getPersons(index.getAllOrdinals()));
+        assertEquals(carl, index.getPersonAt(0));
+    }
+
+    @Test
+    public void filterFor_indexChanges_filterFollowsIndex() {
+        index.add(AMY);
+        Predicate<Person> filter = index.filterFor(new TagContainsKeywordsPredicate(List.of("cca")));
+        assertFalse(filter.test(AMY));
+
+        Person editedAmy = new PersonBuilder(AMY).withTags("cca").build().withId(AMY.getId());
+        // not yet indexed, so the predicate itself is used
+        assertTrue(filter.test(editedAmy));
+        index.add(editedAmy);
+        assertTrue(filter.test(editedAmy));
+    }
+
+    @Test
+    public void filterFor_unindexedPredicateAtParallelThreshold_filterFollowsIndex() {
+        index.add(AMY);
+        index.add(BOB);
+        Predicate<Person> filter = index.filterFor(person -> person.getPhone().value.startsWith("2"), 2);
+        assertFalse(filter.test(AMY));
+        assertTrue(filter.test(BOB));
+
+        Person editedAmy = new PersonBuilder(AMY).withPhone("23456789").build().withId(AMY.getId());
+        index.add(editedAmy);
+        assertTrue(filter.test(editedAmy));
+        assertTrue(filter.test(BOB));
+    }
+
+    @Test
+    public void filterFor_unindexedPredicateAfterIndexChanges_onlyPersonTestedIsTestedAgain() {
+        index.add(AMY);
+        index.add(BOB);
+        // the persons are first tested in parallel
+        List<Person> tested = Collections.synchronizedList(new ArrayList<>());
+        Predicate<Person> filter = index.filterFor(person -> {
+            tested.add(person);
+            return person.getPhone().value.startsWith("2");
+        }, 2);
+        assertEquals(2, tested.size());
+
+        Person editedAmy = new PersonBuilder(AMY).withPhone("23456789").build().withId(AMY.getId());
+        index.add(editedAmy);
+        tested.clear();
+        assertTrue(filter.test(editedAmy));
+        assertEquals(List.of(editedAmy), tested);
+    }
+
+    @Test
+    public void resolve_randomPersonsAndKeywords_matchesTest() {
+        Random random = new Random(2103);
+        String[] tags = {"friends", "FRIENDS", "cca", "Cca", "hall", "colleague"};
+        String[] modules = {"CS2103T", "CS2101", "MA1521", "GESS1101", "CS2040DE"};
+        String[] faculties = {"Computing", "Science", "Arts and Social Sciences", "Business", "Law"};
+        String[] names = {"Alex", "alex", "Tan", "TAN", "Ah-Kow", "Lee", "Siti", "Bin"};
+        String[] keywords = {"friends", "Friends", "CCA", "hall", "cs2103t", "CS2101", "ma1521", "computing",
+            "SCIENCE", "sciences", "social", "and", "law", "Arts", "alex", "tan", "ah-kow", "LEE", "bin",
+            "alx", "Ahkow", "sitti", "bintan", "le", "p1"};
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String name = "P" + i + " " + String.join(" ", pick(random, names));
+            persons.add(new PersonBuilder().withName(name).withPhone(String.valueOf(80000000 + i))
+                    .withTags(pick(random, tags)).withModules(pick(random, modules))
+                    .withFaculties(pick(random, faculties)).build().withId(i + 1));
+        }
+        index.setPersons(persons);
+
+        for (int i = 0; i < 200; i++) {
+            List<String> queryKeywords = Arrays.asList(pick(random, keywords));
+            for (IndexedPredicate predicate : List.of(new NameContainsKeywordsPredicate(queryKeywords),
+                    new NameResemblesKeywordsPredicate(queryKeywords),
+                    new TagContainsKeywordsPredicate(queryKeywords),
+                    new ModuleContainsKeywordsPredicate(queryKeywords),
+                    new FacultyContainsKeywordsPredicate(queryKeywords),
+                    new PersonMatchesKeywordsPredicate(queryKeywords))) {
+                Set<Integer> expected = persons.stream().filter(predicate).map(Person::getId)
+                        .collect(Collectors.toSet());
+                assertEquals(expected, ids(predicate.resolve(index)), predicate.toString());
+            }
+        }
+    }
+
+    @Test
+    public void getOrdinalsWithKeyPrefix_matchesStartOfAnyKey() {
+        index.add(AMY);
+        index.add(BOB);
+        assertEquals(Set.of(1, 2), ids(index.getOrdinalsWithKeyPrefix("FRIEND")));
+        assertEquals(Set.of(1, 2), ids(index.getOrdinalsWithKeyPrefix("cs210")));
+        assertEquals(Set.of(2), ids(index.getOrdinalsWithKeyPrefix("soc")));
+        assertEquals(Set.of(2), ids(index.getOrdinalsWithKeyPrefix("bo")));
+        assertEquals(Collections.emptySet(), ids(index.getOrdinalsWithKeyPrefix("riends")));
+    }
+
+    @Test
+    public void countWithKeyPrefix_countsPostingsOfKeysWithPrefix() {
+        index.add(AMY);
+        index.add(BOB);
+        // both persons are tagged friend, and only Bob has a key starting with bo
+        assertEquals(2, index.countWithKeyPrefix("FRIEND"));
+        assertEquals(1, index.countWithKeyPrefix("bo"));
+        assertEquals(0, index.countWithKeyPrefix("riends"));
+    }
+
+    @Test
+    public void getOrdinalsWithAddressContaining_matchesSubstrings() {
+        Person kentRidge = new PersonBuilder().withName("Kent").withPhone("33333333")
+                .withAddress("21 Lower Kent Ridge Rd").build().withId(3);
+        Person kentVale = new PersonBuilder().withName("Vale").withPhone("44444444")
+                .withAddress("Kent Vale, #05-12").build().withId(4);
+        index.add(kentRidge);
+        index.add(kentVale);
+        assertEquals(Set.of(3, 4), ids(index.getOrdinalsWithAddressContaining("KENT")));
+        assertEquals(Set.of(3), ids(index.getOrdinalsWithAddressContaining("kent  ridge")));
+        assertEquals(Set.of(4), ids(index.getOrdinalsWithAddressContaining("#05-1")));
+        assertEquals(Set.of(4), ids(index.getOrdinalsWithAddressContaining("e,")));
+        assertEquals(Collections.emptySet(), ids(index.getOrdinalsWithAddressContaining("ridge kent")));
+        assertTrue(index.countAddressCandidates("kent ridge") >= 1);
+
+        index.add(new PersonBuilder(kentRidge).withAddress("Clementi Ave 3").build().withId(3));
+        assertEquals(Set.of(4), ids(index.getOrdinalsWithAddressContaining("kent")));
+        assertEquals(Set.of(3), ids(index.getOrdinalsWithAddressContaining("ave 3")));
+    }
+
+    @Test
+    public void getOrdinalsWithAddressContaining_randomAddresses_matchesTest() {
+        Random random = new Random(2030);
+        String[] parts = {"Kent", "Ridge", "Rd", "Clementi", "Ave", "3", "#05-12", "Blk", "21", "Lower", "Vale"};
+        String[] queries = {"kent", "kent ridge", "ridge rd", "ave 3", "#05", "5-1", "lk", "r", "e", "ti av",
+            "lower kent", "vale", "zz"};
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String address = "Q" + i + " " + String.join(" ", pick(random, parts)) + " " + String.join(" ",
+                    pick(random, parts));
+            persons.add(new PersonBuilder().withName("P" + i).withPhone(String.valueOf(80000000 + i))
+                    .withAddress(address).build().withId(i + 1));
+        }
+        index.setPersons(persons);
+
+        for (String query : queries) {
+            IndexedPredicate predicate = new AddressContainsKeywordsPredicate(Arrays.asList(query.split(" ")));
+            Set<Integer> expected = persons.stream().filter(predicate).map(Person::getId).collect(Collectors.toSet());
+            assertEquals(expected, ids(predicate.resolve(index)), query);
+            assertTrue(predicate.estimateMatches(index) >= expected.size(), query);
+        }
+    }
+
+    @Test
+    public void getOrdinalsWithPhonePrefixAndEmail_matchesStartOfPhoneAndDomain() {
+        Person alice = new PersonBuilder().withName("Alice").withPhone("91234567")
+                .withEmail("alice@comp.NUS.edu.sg").build().withId(3);
+        Person carl = new PersonBuilder().withName("Carl").withPhone("91299999")
+                .withEmail("carl@nus.edu.sg").build().withId(4);
+        Person dan = new PersonBuilder().withName("Dan").withPhone("8123")
+                .withEmail("dan@notnus.edu.sg").build().withId(5);
+        index.setPersons(List.of(alice, carl, dan));
+
+        assertEquals(Set.of(3, 4), ids(index.getOrdinalsWithPhonePrefix("912")));
+        assertEquals(Set.of(3), ids(index.getOrdinalsWithPhonePrefix("9123")));
+        assertEquals(Set.of(3, 4, 5), ids(index.getOrdinalsWithPhonePrefix("")));
+        assertEquals(Collections.emptySet(), ids(index.getOrdinalsWithPhonePrefix("123")));
+        assertEquals(2, index.countWithPhonePrefix("91"));
+
+        // whole labels only, so notnus.edu.sg is not a subdomain of nus.edu.sg
+        assertEquals(Set.of(3, 4), ids(index.getOrdinalsWithEmailDomain("NUS.edu.sg")));
+        assertEquals(Set.of(3), ids(index.getOrdinalsWithEmailDomain("comp.nus.edu.sg")));
+        assertEquals(Set.of(3, 4, 5), ids(index.getOrdinalsWithEmailDomain("sg")));
+        assertEquals(Collections.emptySet(), ids(index.getOrdinalsWithEmailDomain("us.edu.sg")));
+        assertEquals(Collections.emptySet(), ids(index.getOrdinalsWithEmailDomain("edu")));
+        assertEquals(2, index.countWithEmailDomain("nus.edu.sg"));
+
+        assertEquals(Set.of(4), ids(index.getOrdinalsWithEmail("Carl@nus.edu.sg")));
+        assertEquals(Collections.emptySet(), ids(index.getOrdinalsWithEmail("car@nus.edu.sg")));
+
+        index.add(new PersonBuilder(carl).withPhone("81111111").withEmail("carl@u.nus.edu").build().withId(4));
+        assertEquals(Set.of(3), ids(index.getOrdinalsWithPhonePrefix("912")));
+        assertEquals(Set.of(4, 5), ids(index.getOrdinalsWithPhonePrefix("81")));
+        assertEquals(Set.of(3), ids(index.getOrdinalsWithEmailDomain("nus.edu.sg")));
+        assertEquals(Set.of(4), ids(index.getOrdinalsWithEmailDomain("nus.edu")));
+
+        index.remove(alice);
+        assertEquals(Collections.emptySet(), ids(index.getOrdinalsWithPhonePrefix("9")));
+        assertEquals(Collections.emptySet(), ids(index.getOrdinalsWithEmailDomain("nus.edu.sg")));
+    }
+
+    @Test
+    public void resolve_randomPhonesAndEmails_matchesTest() {
+        Random random = new Random(2040);
+        String[] users = {"alice", "al", "bob", "e0123"};
+        String[] domains = {"u.nus.edu", "comp.nus.edu.sg", "nus.edu.sg", "gmail.com", "mail.com", "nus.edu"};
+        String[] queries = {"9", "91", "912", "8", "80", "1", "@nus.edu.sg", "nus.edu", "@com", "mail.com", "@sg",
+            "alice@u.nus.edu", "al@nus.edu", "AL@gmail.com", "@", "edu.sg", "@u.nus.edu"};
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            persons.add(randomContact(random, i + 1, users, domains));
+        }
+        for (int round = 0; round < 5; round++) {
+            index.setPersons(persons);
+            for (String query : queries) {
+                List<String> keywords = List.of(query);
+                for (IndexedPredicate predicate : List.of(new PhoneStartsWithKeywordsPredicate(keywords),
+                        new EmailMatchesKeywordsPredicate(keywords))) {
+                    Set<Integer> expected = persons.stream().filter(predicate).map(Person::getId)
+                            .collect(Collectors.toSet());
+                    assertEquals(expected, ids(predicate.resolve(index)), query);
+                    assertTrue(predicate.estimateMatches(index) >= expected.size(), query);
+                }
+            }
+            // change the contacts of some persons and drop others, so that the tries are split and merged again
+            for (int i = 0; i < persons.size(); i++) {
+                if (random.nextInt(4) == 0) {
+                    persons.set(i, randomContact(random, persons.get(i).getId(), users, domains));
+                }
+            }
+            persons.removeIf(person -> random.nextInt(10) == 0);
+        }
+    }
+
+    @Test
+    public void resolve_moduleWildcardsAndRanges_matchesTest() {
+        Random random = new Random(2050);
+        String[] modules = {"CS1010", "CS1101S", "CS2030", "CS2040", "CS2040S", "CS2100", "CS2103T", "CS2999T",
+            "CS3230", "CSA1000", "MA1521", "MA2001", "ST2334"};
+        String[] queries = {"CS21*", "cs2*", "CS*", "C*", "*", "CS2103T*", "CS2000..CS2999", "cs2040..cs2100",
+            "CS2040S..CS2040S", "..CS2", "MA2000..", "CS3000..CS2000", "..", "CS2103T", "CSA*", "XY*"};
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            persons.add(new PersonBuilder().withName("P" + i).withPhone(String.valueOf(80000000 + i))
+                    .withModules(pick(random, modules)).build().withId(i + 1));
+        }
+        for (int round = 0; round < 3; round++) {
+            index.setPersons(persons);
+            for (String query : queries) {
+                IndexedPredicate predicate = new ModuleContainsKeywordsPredicate(List.of(query));
+                Set<Integer> expected = persons.stream().filter(predicate).map(Person::getId)
+                        .collect(Collectors.toSet());
+                assertEquals(expected, ids(predicate.resolve(index)), query);
+                assertTrue(predicate.estimateMatches(index) >= expected.size(), query);
+            }
+            for (int i = 0; i < persons.size(); i += 3) {
+                persons.set(i, new PersonBuilder(persons.get(i)).withModules(pick(random, modules)).build()
+                        .withId(persons.get(i).getId()));
+            }
+        }
+    }
+
+    private static Person randomContact(Random random, int id, String[] users, String[] domains) {
+        String phone = (random.nextBoolean() ? "9" : "8") + random.nextInt(3) + random.nextInt(1000);
+        String email = users[random.nextInt(users.length)] + "@" + domains[random.nextInt(domains.length)];
+        return new PersonBuilder().withName("P" + id).withPhone(phone).withEmail(email).build().withId(id);
+    }
+
+    @Test
+    public void findTop_keepsBestScoresInOrder() {
+        Person tanAh = new PersonBuilder().withName("Tan Ah Kow").withPhone("33333333").build().withId(3);
+        Person tang = new PersonBuilder().withName("Tang Mei").withPhone("44444444").build().withId(4);
+        Person tanBee = new PersonBuilder().withName("Tan Bee").withPhone("55555555").build().withId(5);
+        index.setPersons(List.of(AMY, tang, tanAh, BOB, tanBee));
+        ScoredPredicate predicate = new PersonMatchesKeywordsPredicate(List.of("tan"));
+
+        // whole words before the start of a word, then persons with equal scores in the order they were indexed
+        assertEquals(List.of(tanAh, tanBee, tang), index.findTop(predicate, 5));
+        assertEquals(List.of(tanAh, tanBee), index.findTop(predicate, 2));
+        assertEquals(List.of(), index.findTop(predicate, 0));
+    }
+
+    @Test
+    public void findTop_randomPersonsAndKeywords_matchesSortedScores() {
+        Random random = new Random(2100);
+        String[] names = {"Alex", "Alexis", "Tan", "Tang", "Lee", "Leong", "Siti"};
+        String[] tags = {"ta", "tutor", "alumni", "lab"};
+        String[] keywords = {"alex", "tan", "ta", "le", "lee", "tutor", "si", "al", "lab"};
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String name = "Q" + i + " " + String.join(" ", pick(random, names));
+            persons.add(new PersonBuilder().withName(name).withPhone(String.valueOf(80000000 + i))
+                    .withTags(pick(random, tags)).build().withId(i + 1));
+        }
+        index.setPersons(persons);
+
+        for (int i = 0; i < 100; i++) {
+            ScoredPredicate predicate = new PersonMatchesKeywordsPredicate(Arrays.asList(pick(random, keywords)));
+            int limit = 1 + random.nextInt(40);
+            // List.sort is stable, so persons with equal scores stay in the order they were indexed
+            List<Person> expected = persons.stream().filter(predicate)
+                    .sorted(predicate.getRanking().get())
+                    .limit(limit)
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.findTop(predicate, limit), predicate.toString());
+        }
+    }
+
+    @Test
+    public void resolve_randomBooleanQueries_matchesTest() {
+        Random random = new Random(2101);
+        String[] tags = {"friends", "cca", "hall", "ta"};
+        String[] modules = {"CS2103T", "CS2101", "MA1521"};
+        String[] faculties = {"Computing", "Science", "Business"};
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            persons.add(new PersonBuilder().withName("P" + i).withPhone(String.valueOf(80000000 + i))
+                    .withTags(pick(random, tags)).withModules(pick(random, modules))
+                    .withFaculties(pick(random, faculties)).build().withId(i + 1));
+        }
+        index.setPersons(persons);
+        // leave gaps in the ordinals
+        for (int i = 0; i < persons.size(); i += 7) {
+            index.remove(persons.get(i));
+        }
+        List<Person> indexedPersons = index.getPersons(index.getAllOrdinals());
+
+        for (int i = 0; i < 200; i++) {
+            Predicate<Person> predicate = randomQuery(random, 3, tags, modules, faculties);
+            List<Person> expected = indexedPersons.stream().filter(predicate).collect(Collectors.toList());
+            assertEquals(expected, index.getPersons(index.resolve(predicate)), predicate.toString());
+        }
+    }
+
+    /**
+     * Returns a random boolean query nested up to {@code depth} levels, with some terms that are not indexed.
+     */
+    private static Predicate<Person> randomQuery(Random random, int depth, String[] tags, String[] modules,
+            String[] faculties) {
+        int kind = depth == 0 ? random.nextInt(4) : random.nextInt(7);
+        switch (kind) {
+        case 0:
+            return new TagContainsKeywordsPredicate(List.of(tags[random.nextInt(tags.length)]));
+        case 1:
+            return new ModuleContainsKeywordsPredicate(List.of(modules[random.nextInt(modules.length)]));
+        case 2:
+            return new FacultyContainsKeywordsPredicate(List.of(faculties[random.nextInt(faculties.length)]));
+        case 3:
+            int digit = random.nextInt(10);
+            return person -> person.getPhone().value.endsWith(String.valueOf(digit));
+        case 4:
+            return new NotPredicate(randomQuery(random, depth - 1, tags, modules, faculties));
+        default:
+            List<Predicate<Person>> parts = new ArrayList<>();
+            for (int i = random.nextInt(3); i >= 0; i--) {
+                parts.add(randomQuery(random, depth - 1, tags, modules, faculties));
+            }
+            return kind == 5 ? new AllOfPredicate(parts) : new AnyOfPredicate(parts);
+        }
+    }
+
+    /**
+     * Returns the ids of the persons at {@code ordinals} in the index.
+     */
+    private Set<Integer> ids(BitSet ordinals) {
+        return index.getPersons(ordinals).stream().map(Person::getId).collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns up to two distinct random values from {@code values}.
+     */
+    private static String[] pick(Random random, String[] values) {
+        List<String> picked = new ArrayList<>(Arrays.asList(values));
+        Collections.shuffle(picked, random);
+        return picked.subList(0, random.nextInt(3)).toArray(new String[0]);
+    }
+}
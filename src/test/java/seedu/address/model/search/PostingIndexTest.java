@@ -0,0 +1,50 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PostingIndexTest {
+
+    private final PostingIndex postings = new PostingIndex();
+
+    @Test
+    public void get_keyNotAdded_returnsEmptySet() {
+        assertTrue(postings.get("tan").isEmpty());
+        assertFalse(postings.contains("tan"));
+    }
+
+    @Test
+    public void addAndRemove_commonAndRareKeys_matchesExpected() {
+        // "common" is held by most ordinals and "rare" by few, and both change between them over time
+        Random random = new Random(2103);
+        BitSet common = new BitSet();
+        BitSet rare = new BitSet();
+        for (int round = 0; round < 20; round++) {
+            boolean isCommonRound = round % 2 == 0;
+            for (int i = 0; i < 2000; i++) {
+                int ordinal = random.nextInt(1000);
+                update(postings, "common", common, ordinal, random.nextInt(10) < (isCommonRound ? 8 : 1));
+                update(postings, "rare", rare, ordinal * 7, random.nextInt(100) < (isCommonRound ? 1 : 60));
+            }
+            assertEquals(common, postings.get("common"));
+            assertEquals(rare, postings.get("rare"));
+            assertEquals(!common.isEmpty(), postings.contains("common"));
+        }
+    }
+
+    private static void update(PostingIndex postings, String key, BitSet expected, int ordinal, boolean isAdd) {
+        if (isAdd) {
+            postings.add(key, ordinal);
+            expected.set(ordinal);
+        } else {
+            postings.remove(key, ordinal);
+            expected.clear(ordinal);
+        }
+    }
+}
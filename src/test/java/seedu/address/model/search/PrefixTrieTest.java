@@ -0,0 +1,85 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Test
+    public void getWithPrefix_keysEndingInsideAndBetweenEdges_returnsKeysWithPrefix() {
+        trie.add("91234567", 0);
+        trie.add("912", 1);
+        trie.add("91299999", 2);
+        trie.add("8123", 3);
+
+        assertEquals(ordinals(0, 1, 2), trie.getWithPrefix("91"));
+        assertEquals(ordinals(0, 1, 2), trie.getWithPrefix("912"));
+        assertEquals(ordinals(0), trie.getWithPrefix("9123"));
+        assertEquals(ordinals(0, 1, 2, 3), trie.getWithPrefix(""));
+        assertTrue(trie.getWithPrefix("9124").isEmpty());
+        assertTrue(trie.getWithPrefix("912345678").isEmpty());
+        assertEquals(3, trie.countWithPrefix("912"));
+        assertEquals(0, trie.countWithPrefix("7"));
+
+        trie.remove("912", 1);
+        trie.remove("91234567", 0);
+        assertEquals(ordinals(2), trie.getWithPrefix("9"));
+        assertEquals(ordinals(2), trie.getWithPrefix("91299"));
+
+        // removing a key that was never added changes nothing
+        trie.remove("91299", 2);
+        assertEquals(ordinals(2), trie.getWithPrefix("9"));
+    }
+
+    @Test
+    public void addAndRemove_randomKeys_matchesExpected() {
+        Random random = new Random(2106);
+        Map<Integer, String> keys = new HashMap<>();
+        for (int round = 0; round < 2000; round++) {
+            int ordinal = random.nextInt(200);
+            String previous = keys.remove(ordinal);
+            if (previous != null) {
+                trie.remove(previous, ordinal);
+            }
+            if (random.nextInt(3) > 0) {
+                String key = Integer.toString(random.nextInt(5000), 7);
+                trie.add(key, ordinal);
+                keys.put(ordinal, key);
+            }
+            if (round % 100 == 0) {
+                for (int prefix = 0; prefix < 350; prefix++) {
+                    assertPrefix(keys, Integer.toString(prefix, 7));
+                }
+                assertPrefix(keys, "");
+            }
+        }
+    }
+
+    private void assertPrefix(Map<Integer, String> keys, String prefix) {
+        BitSet expected = new BitSet();
+        keys.forEach((ordinal, key) -> {
+            if (key.startsWith(prefix)) {
+                expected.set(ordinal);
+            }
+        });
+        assertEquals(expected, trie.getWithPrefix(prefix), prefix);
+        assertEquals(expected.cardinality(), trie.countWithPrefix(prefix), prefix);
+    }
+
+    private static BitSet ordinals(int... values) {
+        BitSet ordinals = new BitSet();
+        for (int value : values) {
+            ordinals.set(value);
+        }
+        return ordinals;
+    }
+}
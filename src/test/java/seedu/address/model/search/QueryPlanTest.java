@@ -0,0 +1,110 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.ModuleContainsKeywordsPredicate;
+import seedu.address.model.person.NameResemblesKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryPlanTest {
+
+    private static final int PERSON_COUNT = 20;
+
+    private final Predicate<Person> friends = new TagContainsKeywordsPredicate(List.of("friends"));
+    private final Predicate<Person> cs2103t = new ModuleContainsKeywordsPredicate(List.of("CS2103T"));
+    private final Predicate<Person> cs2101 = new ModuleContainsKeywordsPredicate(List.of("CS2101"));
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    /**
+     * Indexes persons who are all friends, of whom every second takes CS2101 and only the first takes CS2103T.
+     */
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            PersonBuilder builder = new PersonBuilder().withName("Person " + i).withTags("friends");
+            if (i == 0) {
+                builder.withModules("CS2103T", "CS2101");
+            } else if (i % 2 == 0) {
+                builder.withModules("CS2101");
+            }
+            index.add(builder.build().withId(i + 1));
+        }
+    }
+
+    @Test
+    public void of_singlePredicate_looksUpPredicate() {
+        QueryPlan plan = QueryPlan.of(friends, index);
+        assertEquals(PERSON_COUNT, plan.getPersonCount());
+        assertEquals(1, plan.getSteps().size());
+        assertStep(plan.getSteps().get(0), friends, QueryPlan.Method.LOOKUP, PERSON_COUNT);
+    }
+
+    @Test
+    public void of_allOfPredicate_mostSelectivePartFirst() {
+        QueryPlan plan = QueryPlan.of(new AllOfPredicate(List.of(friends, cs2101, cs2103t)), index);
+        List<QueryPlan.Step> steps = plan.getSteps();
+        assertEquals(3, steps.size());
+        assertStep(steps.get(0), cs2103t, QueryPlan.Method.LOOKUP, 1);
+
+        // once few persons are left, testing them is cheaper than reading a long posting list
+        assertEquals(QueryPlan.Method.TEST, steps.get(1).getMethod());
+        assertSame(cs2101, steps.get(1).getPredicate());
+        assertStep(steps.get(2), friends, QueryPlan.Method.TEST, 1);
+
+        assertEquals(steps.stream().mapToLong(QueryPlan.Step::getEstimatedCost).sum(), plan.getEstimatedCost());
+    }
+
+    @Test
+    public void of_allOfPredicate_looksUpPartsWhileManyPersonsLeft() {
+        QueryPlan plan = QueryPlan.of(new AllOfPredicate(List.of(friends, cs2101)), index);
+        List<QueryPlan.Step> steps = plan.getSteps();
+        assertStep(steps.get(0), cs2101, QueryPlan.Method.LOOKUP, 10);
+        assertStep(steps.get(1), friends, QueryPlan.Method.LOOKUP, 10);
+    }
+
+    @Test
+    public void of_unindexedPart_testedLast() {
+        Predicate<Person> isFirst = person -> person.getId() == 1;
+        QueryPlan plan = QueryPlan.of(new AllOfPredicate(List.of(isFirst, friends)), index);
+        List<QueryPlan.Step> steps = plan.getSteps();
+        assertStep(steps.get(0), friends, QueryPlan.Method.LOOKUP, PERSON_COUNT);
+        assertStep(steps.get(1), isFirst, QueryPlan.Method.TEST, PERSON_COUNT);
+        assertEquals(PERSON_COUNT * QueryPlan.TEST_COST, steps.get(1).getEstimatedCost());
+    }
+
+    @Test
+    public void of_fuzzyPart_costsMoreThanKeywordPart() {
+        Predicate<Person> resemblesPerson = new NameResemblesKeywordsPredicate(List.of("Persn"));
+        QueryPlan plan = QueryPlan.of(new AllOfPredicate(List.of(resemblesPerson, friends)), index);
+        List<QueryPlan.Step> steps = plan.getSteps();
+
+        // both are estimated to match everyone, so the cheaper lookup goes first
+        assertSame(friends, steps.get(0).getPredicate());
+        assertSame(resemblesPerson, steps.get(1).getPredicate());
+    }
+
+    @Test
+    public void of_emptyIndex_estimatesNoMatches() {
+        QueryPlan plan = QueryPlan.of(new AllOfPredicate(List.of(friends, cs2101)), new PersonSearchIndex());
+        assertEquals(0, plan.getPersonCount());
+        assertEquals(0, plan.getEstimatedCost());
+        plan.getSteps().forEach(step -> assertEquals(0, step.getEstimatedMatches()));
+    }
+
+    private static void assertStep(QueryPlan.Step step, Predicate<Person> expectedPredicate,
+            QueryPlan.Method expectedMethod, long expectedMatches) {
+        assertSame(expectedPredicate, step.getPredicate());
+        assertEquals(expectedMethod, step.getMethod());
+        assertEquals(expectedMatches, step.getEstimatedMatches());
+    }
+}
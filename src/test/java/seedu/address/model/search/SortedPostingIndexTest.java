@@ -0,0 +1,52 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+public class SortedPostingIndexTest {
+
+    private final SortedPostingIndex postings = new SortedPostingIndex();
+
+    @Test
+    public void addInRangeTo_includesEndsAndKeysStartingWithUpperEnd() {
+        postings.add("cs1010", 0);
+        postings.add("cs2030", 1);
+        postings.add("cs2103t", 2);
+        postings.add("cs2999t", 3);
+        postings.add("cs3230", 4);
+        postings.add("cs2103t", 5);
+
+        assertEquals(ordinals(1, 2, 3, 5), inRange("cs2000", "cs2999"));
+        assertEquals(ordinals(2, 5), inRange("cs21", "cs21"));
+        assertEquals(ordinals(1), inRange("cs2030", "cs2030"));
+        assertEquals(ordinals(0, 1, 2, 3, 4, 5), inRange("", ""));
+        assertEquals(ordinals(3, 4), inRange("cs2999", ""));
+        assertTrue(inRange("cs3000", "cs2000").isEmpty());
+        assertEquals(4, postings.countInRange("cs2000", "cs2999"));
+
+        // a key leaves the range once no person has it
+        postings.remove("cs2103t", 2);
+        assertEquals(ordinals(5), inRange("cs21", "cs21"));
+        postings.remove("cs2103t", 5);
+        assertTrue(inRange("cs21", "cs21").isEmpty());
+        assertEquals(0, postings.countInRange("cs21", "cs21"));
+    }
+
+    private BitSet inRange(String from, String to) {
+        BitSet ordinals = new BitSet();
+        postings.addInRangeTo(from, to, ordinals);
+        return ordinals;
+    }
+
+    private static BitSet ordinals(int... values) {
+        BitSet ordinals = new BitSet();
+        for (int value : values) {
+            ordinals.set(value);
+        }
+        return ordinals;
+    }
+}
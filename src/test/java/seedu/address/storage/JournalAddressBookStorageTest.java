@@ -0,0 +1,272 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    // large enough that no compaction starts unless a test lowers it
+    private static final long LARGE_THRESHOLD = Long.MAX_VALUE;
+
+    @TempDir
+    public Path testFolder;
+
+    // the background compactions, which each test runs when it chooses
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private Path filePath;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("addressbook.json");
+        addressBook = getTypicalAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(LARGE_THRESHOLD).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_fileWithoutJournal_success() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_notReadFirst_snapshotWritten() throws Exception {
+        JournalAddressBookStorage storage = createStorage(LARGE_THRESHOLD);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changes_oneRecordEach() throws Exception {
+        JournalAddressBookStorage storage = createStartedStorage(LARGE_THRESHOLD);
+        String snapshot = Files.readString(filePath);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, getJournalLines().size());
+
+        Person alice = addressBook.getPersonList().get(0);
+        addressBook.setPerson(alice, new PersonBuilder(alice).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, getJournalLines().size());
+
+        addressBook.removePerson(addressBook.getPersonList().get(1));
+        storage.saveAddressBook(addressBook);
+        assertEquals(3, getJournalLines().size());
+
+        // the snapshot is left as it was, and the journal brings it up to date
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_personMoved_oneRecord() throws Exception {
+        JournalAddressBookStorage storage = createStartedStorage(LARGE_THRESHOLD);
+
+        // a favourite is moved to the top
+        Person person = addressBook.getPersonList().get(3);
+        Person favorite = new PersonBuilder(person).withFavorite(true).build();
+        addressBook.setPerson(person, favorite);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, getJournalLines().size());
+        assertEquals(addressBook, readAddressBook());
+
+        // and to the bottom once it is no longer one
+        addressBook.setPerson(favorite, person);
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, getJournalLines().size());
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_manyChangesAtOnce_replayedToSameList() throws Exception {
+        JournalAddressBookStorage storage = createStartedStorage(LARGE_THRESHOLD);
+
+        // reversed, with one person removed, one edited and one added
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        Collections.reverse(persons);
+        persons.remove(2);
+        persons.set(1, new PersonBuilder(persons.get(1)).withPhone("99999999").build());
+        persons.add(3, HOON);
+        addressBook.setPersons(persons);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, readAddressBook());
+        assertEquals(addressBook.getPersonList(), readAddressBook().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_nothingAppended() throws Exception {
+        JournalAddressBookStorage storage = createStartedStorage(LARGE_THRESHOLD);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_tornLastRecord_recordIgnoredAndRemoved() throws Exception {
+        JournalAddressBookStorage storage = createStartedStorage(LARGE_THRESHOLD);
+        AddressBook expected = new AddressBook(addressBook);
+        expected.addPerson(HOON);
+        storage.saveAddressBook(expected);
+        long validSize = Files.size(storage.getJournalFilePath());
+
+        // a crash cut the next record short
+        String record = JournalAddressBookStorage.encodeRecord(JsonAdaptedJournalRecord.remove(99, 1));
+        Files.writeString(storage.getJournalFilePath(), record.substring(0, record.length() / 2),
+                StandardOpenOption.APPEND);
+
+        assertEquals(expected, readAddressBook());
+        assertEquals(validSize, Files.size(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedLastRecord_recordIgnored() throws Exception {
+        JournalAddressBookStorage storage = createStartedStorage(LARGE_THRESHOLD);
+        String record = JournalAddressBookStorage.encodeRecord(
+                JsonAdaptedJournalRecord.remove(1, addressBook.getPersonList().get(0).getId()));
+        Files.writeString(storage.getJournalFilePath(), record.replace("remove", "r3move"));
+
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        JournalAddressBookStorage storage = createStartedStorage(LARGE_THRESHOLD);
+        String record = JournalAddressBookStorage.encodeRecord(
+                new JsonAdaptedJournalRecord(99, "rename", null, 1, null));
+        Files.writeString(storage.getJournalFilePath(), record);
+
+        assertThrows(DataLoadingException.class, () -> createStorage(LARGE_THRESHOLD).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactedInBackground() throws Exception {
+        JournalAddressBookStorage storage = createStartedStorage(1);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, tasks.size());
+
+        // saved while the compaction waits to run, so kept in the journal
+        AddressBook expected = new AddressBook(addressBook);
+        expected.removePerson(BENSON);
+        storage.saveAddressBook(expected);
+        assertEquals(1, tasks.size());
+
+        runTasks();
+        assertEquals(1, getJournalLines().size());
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(expected, readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_compactedButJournalNotCut_recordsNotReplayedTwice() throws Exception {
+        JournalAddressBookStorage storage = createStartedStorage(LARGE_THRESHOLD);
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        persons.add(3, persons.remove(0));
+        addressBook.setPersons(persons);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(persons.get(1));
+        storage.saveAddressBook(addressBook);
+        byte[] journal = Files.readAllBytes(storage.getJournalFilePath());
+
+        // compacted when read, as at the start of the app, which then stopped before the journal was cut
+        createStorage(1).readAddressBook();
+        assertEquals(1, tasks.size());
+        runTasks();
+        assertEquals(0, Files.size(storage.getJournalFilePath()));
+        Files.write(storage.getJournalFilePath(), journal);
+
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_snapshotWritten() throws Exception {
+        JournalAddressBookStorage storage = createStartedStorage(LARGE_THRESHOLD);
+        Path otherPath = testFolder.resolve("other.json");
+        storage.saveAddressBook(addressBook, otherPath);
+
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook(otherPath).get()));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void decodeRecord_encodedRecord_sameRecord() throws Exception {
+        String line = JournalAddressBookStorage.encodeRecord(JsonAdaptedJournalRecord.put(7, 2, ALICE.withId(5)));
+        assertTrue(line.endsWith("\n"));
+        assertEquals(1, line.split("\n").length);
+
+        JsonAdaptedJournalRecord record = JournalAddressBookStorage.decodeRecord(line.trim()).get();
+        assertEquals(7, record.getSequence());
+        List<Person> persons = new ArrayList<>(List.of(BENSON.withId(1)));
+        record.applyTo(persons);
+        assertEquals(List.of(BENSON, ALICE), persons);
+    }
+
+    @Test
+    public void decodeRecord_invalidLine_empty() throws Exception {
+        String line = JournalAddressBookStorage.encodeRecord(JsonAdaptedJournalRecord.remove(7, 2)).trim();
+        assertFalse(JournalAddressBookStorage.decodeRecord("").isPresent());
+        assertFalse(JournalAddressBookStorage.decodeRecord(line.substring(0, line.length() - 1)).isPresent());
+        assertFalse(JournalAddressBookStorage.decodeRecord("zz" + line.substring(2)).isPresent());
+    }
+
+    private JournalAddressBookStorage createStorage(long compactionThreshold) {
+        return new JournalAddressBookStorage(filePath, false, compactionThreshold, tasks::add);
+    }
+
+    /**
+     * Returns a storage that has read the address book, as at the start of the app, with the typical persons saved.
+     */
+    private JournalAddressBookStorage createStartedStorage(long compactionThreshold) throws Exception {
+        createStorage(compactionThreshold).saveAddressBook(addressBook);
+        JournalAddressBookStorage storage = createStorage(compactionThreshold);
+        addressBook = new AddressBook(storage.readAddressBook().get());
+        return storage;
+    }
+
+    private AddressBook readAddressBook() throws Exception {
+        return new AddressBook(createStorage(LARGE_THRESHOLD).readAddressBook().get());
+    }
+
+    private List<String> getJournalLines() throws IOException {
+        return Files.readAllLines(filePath.resolveSibling("addressbook.json.journal"), UTF_8);
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+}
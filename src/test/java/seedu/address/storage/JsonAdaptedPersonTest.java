@@ -15,6 +15,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 
 public class JsonAdaptedPersonTest {
@@ -40,6 +41,7 @@ public class JsonAdaptedPersonTest {
             .map(JsonAdaptedFaculty::new)
             .collect(Collectors.toList());
     private static final String VALID_FAVORITE = BENSON.getFavorite().toString();
+    private static final int VALID_ID = 7;
 
     @Test
     public void toModelType_validPersonDetails_returnsPerson() throws Exception {
@@ -47,6 +49,26 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_personWithId_keepsId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON.withId(VALID_ID));
+        assertEquals(VALID_ID, person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_nullId_returnsPersonWithoutId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_TAGS, VALID_MODULES, VALID_FACULTIES, VALID_FAVORITE, null);
+        assertEquals(Person.UNASSIGNED_ID, person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_negativeId_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_TAGS, VALID_MODULES, VALID_FACULTIES, VALID_FAVORITE, -1);
+        assertThrows(IllegalValueException.class, Person.MESSAGE_INVALID_ID, person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(
@@ -57,7 +79,8 @@ public class JsonAdaptedPersonTest {
             VALID_TAGS,
             VALID_MODULES,
             VALID_FACULTIES,
-            VALID_FAVORITE);
+            VALID_FAVORITE,
+            VALID_ID);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -72,7 +95,8 @@ public class JsonAdaptedPersonTest {
             VALID_TAGS,
             VALID_MODULES,
             VALID_FACULTIES,
-            VALID_FAVORITE);
+            VALID_FAVORITE,
+            VALID_ID);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -87,7 +111,8 @@ public class JsonAdaptedPersonTest {
             VALID_TAGS,
             VALID_MODULES,
             VALID_FACULTIES,
-            VALID_FAVORITE);
+            VALID_FAVORITE,
+            VALID_ID);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -102,7 +127,8 @@ public class JsonAdaptedPersonTest {
             VALID_TAGS,
             VALID_MODULES,
             VALID_FACULTIES,
-            VALID_FAVORITE);
+            VALID_FAVORITE,
+            VALID_ID);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -117,7 +143,8 @@ public class JsonAdaptedPersonTest {
             VALID_TAGS,
             VALID_MODULES,
             VALID_FACULTIES,
-            VALID_FAVORITE);
+            VALID_FAVORITE,
+            VALID_ID);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -132,7 +159,8 @@ public class JsonAdaptedPersonTest {
             VALID_TAGS,
             VALID_MODULES,
             VALID_FACULTIES,
-            VALID_FAVORITE);
+            VALID_FAVORITE,
+            VALID_ID);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -147,7 +175,8 @@ public class JsonAdaptedPersonTest {
             VALID_TAGS,
             VALID_MODULES,
             VALID_FACULTIES,
-            VALID_FAVORITE);
+            VALID_FAVORITE,
+            VALID_ID);
         String expectedMessage = Address.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -162,7 +191,8 @@ public class JsonAdaptedPersonTest {
             VALID_TAGS,
             VALID_MODULES,
             VALID_FACULTIES,
-            VALID_FAVORITE);
+            VALID_FAVORITE,
+            VALID_ID);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -179,7 +209,8 @@ public class JsonAdaptedPersonTest {
             invalidTags,
             VALID_MODULES,
             VALID_FACULTIES,
-            VALID_FAVORITE);
+            VALID_FAVORITE,
+            VALID_ID);
         assertThrows(IllegalValueException.class, person::toModelType);
     }
 
@@ -195,7 +226,8 @@ public class JsonAdaptedPersonTest {
             VALID_TAGS,
             invalidModules,
             VALID_FACULTIES,
-            VALID_FAVORITE);
+            VALID_FAVORITE,
+            VALID_ID);
         assertThrows(IllegalValueException.class, person::toModelType);
     }
 
@@ -211,7 +243,8 @@ public class JsonAdaptedPersonTest {
             VALID_TAGS,
             VALID_MODULES,
             invalidFaculties,
-            VALID_FAVORITE);
+            VALID_FAVORITE,
+            VALID_ID);
         assertThrows(IllegalValueException.class, person::toModelType);
     }
 
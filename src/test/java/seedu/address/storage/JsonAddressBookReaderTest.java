@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        reader.read(TYPICAL_PERSONS_FILE);
+        assertEquals(TypicalPersons.getTypicalPersons(), reader.getPersons());
+        assertEquals(0, reader.getJournalSequence());
+    }
+
+    @Test
+    public void read_repeatedTags_sameInstance() throws Exception {
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        reader.read(TYPICAL_PERSONS_FILE);
+        List<Person> persons = reader.getPersons();
+        Tag friend = new Tag("friends");
+        assertSame(getTag(persons.get(0), friend), getTag(persons.get(1), friend));
+    }
+
+    @Test
+    public void read_otherFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, "{ \"version\" : { \"major\" : 1, \"tags\" : [ \"a\" ] }, \"persons\" : [ ],"
+                + " \"journalSequence\" : 12 }");
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        reader.read(filePath);
+        assertEquals(List.of(), reader.getPersons());
+        assertEquals(12, reader.getJournalSequence());
+    }
+
+    @Test
+    public void read_invalidPerson_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> new JsonAddressBookReader().read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        String json = Files.readString(TYPICAL_PERSONS_FILE);
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, json.substring(0, json.length() / 2));
+        assertThrows(IOException.class, () -> new JsonAddressBookReader().read(filePath));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, "[ ]");
+        assertThrows(IOException.class, () -> new JsonAddressBookReader().read(filePath));
+    }
+
+    private static Tag getTag(Person person, Tag tag) {
+        return person.getTags().stream().filter(tag::equals).findFirst().get();
+    }
+}
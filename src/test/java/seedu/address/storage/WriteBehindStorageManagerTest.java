@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageManagerTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    // the background tasks, which each test runs when it chooses
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private int addressBookWriteCount;
+    private boolean isAddressBookWriteFailing;
+    private WriteBehindStorageManager storageManager;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                addressBookWriteCount++;
+                if (isAddressBookWriteFailing) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        storageManager = new WriteBehindStorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonCommandHistoryStorage(testFolder.resolve("history")), tasks::add);
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_latestSnapshotWrittenOnce() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storageManager.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        storageManager.saveAddressBook(addressBook);
+
+        // changes after the last save are not written
+        addressBook.removePerson(ALICE);
+
+        assertEquals(0, addressBookWriteCount);
+        assertEquals(1, storageManager.getMetrics().getQueueDepth());
+        runTasks();
+        assertEquals(1, addressBookWriteCount);
+        assertEquals(expected, new AddressBook(storageManager.readAddressBook().get()));
+
+        SaveMetrics metrics = storageManager.getMetrics();
+        assertEquals(0, metrics.getQueueDepth());
+        assertEquals(3, metrics.getRequestedCount());
+        assertEquals(1, metrics.getWrittenCount());
+        assertEquals(0, metrics.getFailedCount());
+    }
+
+    @Test
+    public void saveCommandHistory_savedWithAddressBook_bothWritten() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        storageManager.saveCommandHistory(List.of("list", "find n/Alice"));
+        assertEquals(2, storageManager.getMetrics().getMaxQueueDepth());
+
+        runTasks();
+        assertEquals(List.of("list", "find n/Alice"), storageManager.readCommandHistory().get());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_earlierSaveFailed_throwsIoExceptionOnce() throws Exception {
+        isAddressBookWriteFailing = true;
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        runTasks();
+
+        isAddressBookWriteFailing = false;
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), ()
+            -> storageManager.saveAddressBook(getTypicalAddressBook()));
+        assertEquals(1, storageManager.getMetrics().getFailedCount());
+
+        // the failure is reported once, and the save requested with it is still written
+        runTasks();
+        storageManager.flush();
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_saveFailed_throwsIoException() throws Exception {
+        isAddressBookWriteFailing = true;
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        runTasks();
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> storageManager.flush());
+    }
+
+    @Test
+    public void setSaveFailureHandler_saveFails_handlerGivenFailure() throws Exception {
+        List<IOException> failures = new ArrayList<>();
+        storageManager.setSaveFailureHandler(failures::add);
+        isAddressBookWriteFailing = true;
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        runTasks();
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), failures);
+
+        // the failure has been reported, so a later save does not throw it, but the data is still not saved
+        storageManager.saveCommandHistory(List.of("list"));
+        runTasks();
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> storageManager.flush());
+
+        isAddressBookWriteFailing = false;
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        runTasks();
+        storageManager.flush();
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), failures);
+    }
+
+    @Test
+    public void flush_writerThread_waitsForSaves() throws Exception {
+        storageManager = new WriteBehindStorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonCommandHistoryStorage(testFolder.resolve("history")));
+        for (int i = 0; i < 10; i++) {
+            storageManager.saveAddressBook(getTypicalAddressBook());
+        }
+        storageManager.flush();
+
+        SaveMetrics metrics = storageManager.getMetrics();
+        assertEquals(0, metrics.getQueueDepth());
+        assertEquals(10, metrics.getRequestedCount());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+}